@@ -0,0 +1,64 @@
+-- Dataset generator and plan comparison for keyword search (LIKE vs tsvector/trigram)
+-- Run against a scratch database after src/main/resources/db/search/text_search.sql:
+--   psql -f scripts/benchmark/text_search.sql
+-- Everything lives in the search_bench schema, which is dropped at the end
+
+DROP SCHEMA IF EXISTS search_bench CASCADE;
+CREATE SCHEMA search_bench;
+
+CREATE TABLE search_bench.forum_threads (
+    id         BIGSERIAL PRIMARY KEY,
+    title      TEXT NOT NULL,
+    body_md    TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL
+);
+
+-- 200k threads; titles and bodies are built from a mixed Vietnamese/English vocabulary
+WITH words AS (
+    SELECT ARRAY[
+        'tiếng anh', 'ngữ pháp', 'từ vựng', 'phát âm', 'luyện nghe', 'kỹ năng', 'giao tiếp', 'bài tập',
+        'grammar', 'vocabulary', 'pronunciation', 'listening', 'speaking', 'writing', 'reading', 'ielts',
+        'toeic', 'present perfect', 'phrasal verbs', 'conditional', 'học', 'thi', 'đề', 'kinh nghiệm'
+    ] AS w
+)
+INSERT INTO search_bench.forum_threads (title, body_md, created_at)
+SELECT
+    (SELECT string_agg(w[1 + floor(random() * array_length(w, 1))::int], ' ') FROM generate_series(1, 6)),
+    (SELECT string_agg(w[1 + floor(random() * array_length(w, 1))::int], ' ') FROM generate_series(1, 120)),
+    NOW() - (random() * INTERVAL '730 days')
+FROM words, generate_series(1, 200000) g;
+
+ALTER TABLE search_bench.forum_threads ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(title, '')))), 'A') ||
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(body_md, '')))), 'C') ||
+    setweight(to_tsvector('english', coalesce(body_md, '')), 'C')
+) STORED;
+CREATE INDEX ON search_bench.forum_threads USING GIN (search_vector);
+CREATE INDEX ON search_bench.forum_threads USING GIN (f_unaccent(lower(title)) gin_trgm_ops);
+CREATE INDEX ON search_bench.forum_threads (created_at DESC);
+ANALYZE search_bench.forum_threads;
+
+\echo '--- Before: LOWER(...) LIKE %keyword% (sequential scan over title and body) ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM search_bench.forum_threads t
+WHERE LOWER(t.title) LIKE '%phát âm%' OR LOWER(t.body_md) LIKE '%phát âm%'
+ORDER BY t.created_at DESC
+LIMIT 20;
+
+\echo '--- After: tsvector + trigram, ranked ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM search_bench.forum_threads t
+WHERE t.search_vector @@ (to_tsquery('simple', 'phat:* & am:*') || to_tsquery('english', 'phat:* & am:*'))
+   OR 'phat am' <% f_unaccent(lower(t.title))
+ORDER BY ts_rank_cd(t.search_vector, to_tsquery('simple', 'phat:* & am:*'))
+         + word_similarity('phat am', f_unaccent(lower(t.title))) DESC, t.id
+LIMIT 20;
+
+\echo '--- After: fuzzy title match with a typo ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM search_bench.forum_threads t
+WHERE 'pronounciation' <% f_unaccent(lower(t.title))
+LIMIT 20;
+
+DROP SCHEMA search_bench CASCADE;
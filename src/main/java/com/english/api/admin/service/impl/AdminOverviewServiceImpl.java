@@ -4,6 +4,7 @@ package com.english.api.admin.service.impl;
 import com.english.api.admin.dto.response.*;
 import com.english.api.admin.repository.DashboardStatsRepositoryCustom;
 import com.english.api.admin.service.AdminOverviewService;
+import com.english.api.common.pdf.PdfRenderer;
 import com.english.api.enrollment.repository.EnrollmentRepository;
 import com.english.api.forum.repository.ForumReportRepository;
 import com.english.api.order.model.enums.OrderStatus;
@@ -11,18 +12,12 @@ import com.english.api.order.repository.OrderRepository;
 import com.english.api.user.model.InstructorRequest;
 import com.english.api.user.repository.InstructorRequestRepository;
 import com.english.api.user.repository.UserRepository;
-import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.*;
@@ -44,8 +39,8 @@ public class AdminOverviewServiceImpl implements AdminOverviewService {
     private final ForumReportRepository forumReportRepository;
     private final DashboardStatsRepositoryCustom dashboardStatsRepository;
     
-    // === TEMPLATE ENGINE ===
-    private final SpringTemplateEngine templateEngine;
+    // === PDF ===
+    private final PdfRenderer pdfRenderer;
 
     // =========================================================================
     // 1. DASHBOARD SUMMARY
@@ -422,46 +417,8 @@ public class AdminOverviewServiceImpl implements AdminOverviewService {
         // 2. Chuẩn bị dữ liệu để render vào bảng
         prepareDataForPdf(type, context);
 
-        // 3. Render HTML từ Thymeleaf Template (resources/templates/dashboard-report.html)
-        String htmlContent = templateEngine.process("dashboard-report", context);
-
-
-        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            PdfRendererBuilder builder = new PdfRendererBuilder();
-            builder.useFastMode();
-
-            try {
-                // 1. Đăng ký Font Thường
-                builder.useFont(() -> {
-                    try {
-                        return new ClassPathResource("fonts/DejaVuSans.ttf").getInputStream();
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                }, "DejaVu Sans"); // Family Name
-
-                // 2. Đăng ký Font Đậm (Bold) cho thẻ <h1>, <th>
-                builder.useFont(() -> {
-                    try {
-                        return new ClassPathResource("fonts/DejaVuSans-Bold.ttf").getInputStream();
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                }, "DejaVu Sans", 700, BaseRendererBuilder.FontStyle.NORMAL, true); 
-
-
-            } catch (Exception e) {
-                log.error("WARNING: Could not load custom fonts. Vietnamese text may fail.", e);
-            }
-
-            builder.withHtmlContent(htmlContent, null);
-            builder.toStream(os);
-            builder.run();
-
-            return os.toByteArray();
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating PDF export", e);
-        }
+        // 3. Render Thymeleaf Template (resources/templates/dashboard-report.html) sang PDF
+        return pdfRenderer.render("dashboard-report", context).toByteArray();
     }
 
     private void prepareDataForPdf(String type, Context context) {
@@ -4,6 +4,7 @@ import com.english.api.assessment.dto.request.SubmitAttemptRequest;
 import com.english.api.assessment.dto.response.AttemptAnswersResponse;
 import com.english.api.assessment.dto.response.AttemptResponse;
 import com.english.api.assessment.service.AttemptService;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -33,10 +34,14 @@ public class AttemptController {
 
     @GetMapping("/my")
     public ResponseEntity<PaginationResponse> myAttempts(@PageableDefault(size = 20) Pageable pageable,
-                                                          @RequestParam(value = "quizId", required = false) UUID quizId) {
+                                                          @RequestParam(value = "quizId", required = false) UUID quizId,
+                                                          CursorRequest cursorRequest) {
         if (quizId != null) {
             return ResponseEntity.ok(attemptService.listAttemptsByUserAndQuiz(quizId, pageable));
         }
+        if (cursorRequest != null) {
+            return ResponseEntity.ok(attemptService.listAttemptsByUser(cursorRequest));
+        }
         return ResponseEntity.ok(attemptService.listAttemptsByUser(pageable));
     }
 
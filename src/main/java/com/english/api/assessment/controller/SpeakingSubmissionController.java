@@ -1,6 +1,7 @@
 package com.english.api.assessment.controller;
 
 import com.english.api.assessment.dto.request.AICallbackSpeakingRequest;
+import com.english.api.assessment.dto.request.SubmitUploadedAudioRequest;
 import com.english.api.assessment.dto.response.SpeakingSubmissionResponse;
 import com.english.api.assessment.dto.response.SpeakingSubmissionsWithMetadataResponse;
 import com.english.api.assessment.service.SpeakingSubmissionService;
@@ -42,6 +43,19 @@ public class SpeakingSubmissionController {
                 .body(speakingSubmissionService.uploadAndSubmitAudio(attemptId, answerId, audioFile));
     }
 
+    /**
+     * Create speaking submission from audio uploaded directly to S3 via /api/media/upload/presign
+     */
+    @PostMapping(value = "/attempts/{attemptId}/answers/{answerId}/speaking",
+                 consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SpeakingSubmissionResponse> submitUploadedAudio(
+            @PathVariable UUID attemptId,
+            @PathVariable UUID answerId,
+            @Valid @RequestBody SubmitUploadedAudioRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(speakingSubmissionService.submitUploadedAudio(attemptId, answerId, request.key()));
+    }
+
     @GetMapping("/speaking-submissions/{submissionId}")
     public ResponseEntity<SpeakingSubmissionResponse> getSubmission(@PathVariable UUID submissionId) {
         return ResponseEntity.ok(speakingSubmissionService.getSubmission(submissionId));
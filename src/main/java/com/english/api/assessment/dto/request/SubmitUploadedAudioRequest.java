@@ -0,0 +1,12 @@
+package com.english.api.assessment.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Speaking answer whose audio was uploaded directly to storage through a presigned URL.
+ */
+public record SubmitUploadedAudioRequest(
+        @NotBlank(message = "Upload key is required")
+        String key
+) {
+}
@@ -2,6 +2,8 @@ package com.english.api.assessment.event;
 
 import com.english.api.assessment.model.SpeakingSubmission;
 import com.english.api.assessment.repository.SpeakingSubmissionRepository;
+import com.english.api.common.config.AsyncConfig;
+import com.english.api.common.http.OutboundHttpClients;
 import com.english.api.quiz.model.Question;
 import com.english.api.quiz.model.Quiz;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +17,6 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,7 +27,7 @@ import java.util.Map;
 public class SpeakingSubmissionEventListener {
 
     private final SpeakingSubmissionRepository submissionRepo;
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
 
     @Value("${n8n.webhook.speaking.url}")
     private String n8nSpeakingWebhookUrl;
@@ -38,7 +39,7 @@ public class SpeakingSubmissionEventListener {
      * Listens for SpeakingSubmissionCreatedEvent and triggers n8n workflow
      * after the transaction commits, ensuring the submission is persisted in the database.
      */
-    @Async
+    @Async(AsyncConfig.WEBHOOK_EXECUTOR)
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleSpeakingSubmissionCreated(SpeakingSubmissionCreatedEvent event) {
@@ -61,7 +62,7 @@ public class SpeakingSubmissionEventListener {
             HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(payload, headers);
 
             log.info("Triggering n8n speaking workflow for submission: {} (after commit)", submission.getId());
-            restTemplate.postForEntity(n8nSpeakingWebhookUrl, requestEntity, Void.class);
+            outboundHttpClients.restTemplate(OutboundHttpClients.N8N_WEBHOOK).postForEntity(n8nSpeakingWebhookUrl, requestEntity, Void.class);
             log.info("Successfully triggered n8n speaking workflow for submission: {}", submission.getId());
 
         } catch (Exception e) {
@@ -24,7 +24,8 @@ import java.util.UUID;
         name = "quiz_attempts",
         indexes = {
                 @Index(name = "idx_quiz_attempts_user", columnList = "user_id"),
-                @Index(name = "idx_quiz_attempts_quiz", columnList = "quiz_id")
+                @Index(name = "idx_quiz_attempts_quiz", columnList = "quiz_id"),
+                @Index(name = "idx_quiz_attempts_user_submitted", columnList = "user_id, submitted_at DESC, id DESC")
         }
 )
 @BatchSize(size = 20)
@@ -1,17 +1,62 @@
 package com.english.api.assessment.repository;
 
 import com.english.api.assessment.model.QuizAttempt;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, UUID> {
     @EntityGraph(attributePaths = {"quiz", "quiz.quizType", "quiz.quizSection"})
     Page<QuizAttempt> findByUser_IdOrderBySubmittedAtDesc(UUID userId, Pageable pageable);
 
+    /**
+     * First keyset page of a user's attempts: unsubmitted first, then newest submission first
+     */
+    @EntityGraph(attributePaths = {"quiz", "quiz.quizType", "quiz.quizSection"})
+    @Query("""
+        SELECT a FROM QuizAttempt a
+        WHERE a.user.id = :userId
+        ORDER BY a.submittedAt DESC NULLS FIRST, a.id DESC
+        """)
+    List<QuizAttempt> findByUserIdForCursor(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Keyset page of a user's attempts strictly after a submitted (submittedAt, id) position
+     */
+    @EntityGraph(attributePaths = {"quiz", "quiz.quizType", "quiz.quizSection"})
+    @Query("""
+        SELECT a FROM QuizAttempt a
+        WHERE a.user.id = :userId
+        AND (a.submittedAt < :submittedAt OR (a.submittedAt = :submittedAt AND a.id < :id))
+        ORDER BY a.submittedAt DESC NULLS FIRST, a.id DESC
+        """)
+    List<QuizAttempt> findByUserIdAfter(@Param("userId") UUID userId,
+                                        @Param("submittedAt") Instant submittedAt,
+                                        @Param("id") UUID id,
+                                        Limit limit);
+
+    /**
+     * Keyset page of a user's attempts strictly after an unsubmitted attempt position
+     */
+    @EntityGraph(attributePaths = {"quiz", "quiz.quizType", "quiz.quizSection"})
+    @Query("""
+        SELECT a FROM QuizAttempt a
+        WHERE a.user.id = :userId
+        AND ((a.submittedAt IS NULL AND a.id < :id) OR a.submittedAt IS NOT NULL)
+        ORDER BY a.submittedAt DESC NULLS FIRST, a.id DESC
+        """)
+    List<QuizAttempt> findByUserIdAfterUnsubmitted(@Param("userId") UUID userId,
+                                                   @Param("id") UUID id,
+                                                   Limit limit);
+
     @EntityGraph(attributePaths = {"quiz", "quiz.quizType", "quiz.quizSection"})
     Page<QuizAttempt> findByQuiz_IdOrderBySubmittedAtDesc(UUID quizId, Pageable pageable);
 
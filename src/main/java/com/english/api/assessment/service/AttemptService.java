@@ -3,6 +3,7 @@ package com.english.api.assessment.service;
 import com.english.api.assessment.dto.request.SubmitAttemptRequest;
 import com.english.api.assessment.dto.response.AttemptAnswersResponse;
 import com.english.api.assessment.dto.response.AttemptResponse;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -17,6 +18,8 @@ public interface AttemptService {
 
     PaginationResponse listAttemptsByUser(Pageable pageable);
 
+    PaginationResponse listAttemptsByUser(CursorRequest cursorRequest);
+
     PaginationResponse listAttemptsByUserAndQuiz(UUID quizId, Pageable pageable);
 
     PaginationResponse listAttemptsByQuiz(UUID quizId, Pageable pageable);
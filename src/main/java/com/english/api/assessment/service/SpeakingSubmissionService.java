@@ -12,6 +12,8 @@ import java.util.UUID;
 public interface SpeakingSubmissionService {
     SpeakingSubmissionResponse uploadAndSubmitAudio(UUID attemptId, UUID answerId, MultipartFile audioFile) throws IOException;
 
+    SpeakingSubmissionResponse submitUploadedAudio(UUID attemptId, UUID answerId, String key);
+
     SpeakingSubmissionResponse getSubmission(UUID submissionId);
 
     Optional<SpeakingSubmissionResponse> getSubmissionByAnswer(UUID attemptId, UUID answerId);
@@ -11,8 +11,10 @@ import com.english.api.assessment.repository.QuizAttemptAnswerRepository;
 import com.english.api.assessment.repository.QuizAttemptRepository;
 import com.english.api.assessment.service.AttemptService;
 import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import com.english.api.common.exception.ResourceNotFoundException;
+import com.english.api.quiz.dto.QuizAnswerKey;
 import com.english.api.quiz.model.Question;
 import com.english.api.quiz.model.QuestionOption;
 import com.english.api.quiz.model.Quiz;
@@ -20,11 +22,13 @@ import com.english.api.quiz.model.enums.QuizSkill;
 import com.english.api.quiz.repository.QuestionOptionRepository;
 import com.english.api.quiz.repository.QuestionRepository;
 import com.english.api.quiz.repository.QuizRepository;
+import com.english.api.quiz.service.QuizAnswerKeyService;
 import com.english.api.user.model.User;
 import com.english.api.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +48,7 @@ public class AttemptServiceImpl implements AttemptService {
     private final UserRepository userRepo;
     private final QuestionRepository questionRepo;
     private final AttemptMapper attemptMapper;
+    private final QuizAnswerKeyService answerKeyService;
 
     @Transactional
     public AttemptResponse submitOneShot(SubmitAttemptRequest req) {
@@ -64,75 +69,68 @@ public class AttemptServiceImpl implements AttemptService {
                 .startedAt(req.startedAt() != null ? req.startedAt() : Instant.now())
                 .build();
 
-        QuizAttempt savedAttempt = attemptRepo.save(attempt);
-
-        List<SubmitAnswerDto> arr = req.answers() == null ? List.of() : req.answers();
-        List<QuizAttemptAnswer> savedAnswers = new ArrayList<>();
-        int total = 0;
-        int correct = 0;
+        QuizAnswerKey answerKey = answerKeyService.getAnswerKey(quiz);
 
-        if (skill == QuizSkill.READING || skill == QuizSkill.LISTENING) {
-            for (SubmitAnswerDto a : arr) {
+        // Last answer wins if a question is submitted more than once
+        Map<UUID, SubmitAnswerDto> answersByQuestion = new LinkedHashMap<>();
+        if (req.answers() != null) {
+            for (SubmitAnswerDto a : req.answers()) {
                 if (a == null || a.questionId() == null)
                     continue;
-                total++;
+                if (!answerKey.containsQuestion(a.questionId())) {
+                    throw new ResourceNotFoundException("Question not found: " + a.questionId());
+                }
+                answersByQuestion.put(a.questionId(), a);
+            }
+        }
 
-                Question question = questionRepo.findById(a.questionId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Question not found: " + a.questionId()));
+        List<QuizAttemptAnswer> answers = new ArrayList<>(answersByQuestion.size());
 
-                QuizAttemptAnswer ans = answerRepo.findByAttempt_IdAndQuestion_Id(savedAttempt.getId(), a.questionId())
-                        .orElseGet(() -> QuizAttemptAnswer.of(savedAttempt, question));
+        if (skill == QuizSkill.READING || skill == QuizSkill.LISTENING) {
+            int correct = 0;
+            for (SubmitAnswerDto a : answersByQuestion.values()) {
+                QuizAttemptAnswer ans = QuizAttemptAnswer.of(attempt, questionRepo.getReferenceById(a.questionId()));
 
                 if (a.selectedOptionId() != null) {
-                    QuestionOption opt = optionRepo.findById(a.selectedOptionId())
-                            .orElseThrow(
-                                    () -> new ResourceNotFoundException("Option not found: " + a.selectedOptionId()));
-
-                    ans.setSelectedOption(opt);
-                    if (opt.isCorrect())
+                    QuizAnswerKey.QuestionKey questionKey = answerKey.question(a.questionId());
+                    if (!questionKey.optionIds().contains(a.selectedOptionId())) {
+                        throw new ResourceNotFoundException("Option not found: " + a.selectedOptionId());
+                    }
+                    ans.setSelectedOption(optionRepo.getReferenceById(a.selectedOptionId()));
+                    if (questionKey.correctOptionIds().contains(a.selectedOptionId()))
                         correct++;
-                } else {
-                    ans.setSelectedOption(null);
                 }
-
-                ans.setAnswerText(null);
-                QuizAttemptAnswer savedAns = answerRepo.save(ans);
-                savedAnswers.add(savedAns);
+                answers.add(ans);
             }
 
-            savedAttempt.setTotalQuestions(total);
-            savedAttempt.setTotalCorrect(correct);
-            savedAttempt.setMaxScore((double) Math.max(total, 1));
-            savedAttempt.setScore((double) correct);
-            savedAttempt.setStatus(QuizAttemptStatus.AUTO_GRADED);
+            int total = answers.size();
+            attempt.setTotalQuestions(total);
+            attempt.setTotalCorrect(correct);
+            attempt.setMaxScore((double) Math.max(total, 1));
+            attempt.setScore((double) correct);
+            attempt.setStatus(QuizAttemptStatus.AUTO_GRADED);
 
         } else {
             // WRITING / SPEAKING
-            for (SubmitAnswerDto a : arr) {
-                if (a == null || a.questionId() == null)
-                    continue;
-
-                Question question = questionRepo.findById(a.questionId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Question not found: " + a.questionId()));
-
-                QuizAttemptAnswer ans = answerRepo.findByAttempt_IdAndQuestion_Id(savedAttempt.getId(), a.questionId())
-                        .orElseGet(() -> QuizAttemptAnswer.of(savedAttempt, question));
-
+            for (SubmitAnswerDto a : answersByQuestion.values()) {
+                QuizAttemptAnswer ans = QuizAttemptAnswer.of(attempt, questionRepo.getReferenceById(a.questionId()));
                 ans.setSelectedOption(null); // luôn null
                 ans.setAnswerText(a.answerText());
-                QuizAttemptAnswer savedAns = answerRepo.save(ans);
-                savedAnswers.add(savedAns);
+                answers.add(ans);
             }
 
-            savedAttempt.setStatus(QuizAttemptStatus.SUBMITTED);
-            savedAttempt.setTotalQuestions(arr.size());
-            savedAttempt.setTotalCorrect(0);
-            savedAttempt.setScore(0d);
-            savedAttempt.setMaxScore(0d);
+            attempt.setStatus(QuizAttemptStatus.SUBMITTED);
+            attempt.setTotalQuestions(answers.size());
+            attempt.setTotalCorrect(0);
+            attempt.setScore(0d);
+            attempt.setMaxScore(0d);
             // WritingSubmission will be created via separate endpoint (like Speaking)
         }
-        savedAttempt.setSubmittedAt(Instant.now());
-        attemptRepo.save(savedAttempt);
+        attempt.setSubmittedAt(Instant.now());
+
+        // Graded in memory; the attempt and all answers are flushed as JDBC batch inserts on commit
+        QuizAttempt savedAttempt = attemptRepo.save(attempt);
+        List<QuizAttemptAnswer> savedAnswers = answerRepo.saveAll(answers);
         return attemptMapper.toResponse(savedAttempt, savedAnswers);
     }
 
@@ -153,6 +151,24 @@ public class AttemptServiceImpl implements AttemptService {
         return mapAttemptsToResponse(page, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse listAttemptsByUser(CursorRequest cursorRequest) {
+        UUID me = SecurityUtil.getCurrentUserId();
+        CursorRequest.Position after = cursorRequest.after();
+        List<QuizAttempt> rows;
+        if (after == null) {
+            rows = attemptRepo.findByUserIdForCursor(me, cursorRequest.limit());
+        } else if (after.sortKey() == null) {
+            rows = attemptRepo.findByUserIdAfterUnsubmitted(me, after.uuidId(), cursorRequest.limit());
+        } else {
+            rows = attemptRepo.findByUserIdAfter(me, after.instantKey(), after.uuidId(), cursorRequest.limit());
+        }
+        return PaginationResponse.fromCursor(rows, cursorRequest,
+                attempt -> CursorRequest.encode(attempt.getSubmittedAt(), attempt.getId()),
+                this::toAttemptResponses);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse listAttemptsByUserAndQuiz(UUID quizId, Pageable pageable) {
@@ -209,11 +225,13 @@ public class AttemptServiceImpl implements AttemptService {
     }
 
     private PaginationResponse mapAttemptsToResponse(Page<QuizAttempt> page, Pageable pageable) {
-        List<QuizAttempt> attempts = page.getContent();
-        
+        List<AttemptResponse> responses = toAttemptResponses(page.getContent());
+        return PaginationResponse.from(new PageImpl<>(responses, pageable, page.getTotalElements()), pageable);
+    }
+
+    private List<AttemptResponse> toAttemptResponses(List<QuizAttempt> attempts) {
         if (attempts.isEmpty()) {
-            return PaginationResponse.from(page.map(attempt -> 
-                attemptMapper.toResponse(attempt, List.of())), pageable);
+            return List.of();
         }
 
         List<UUID> attemptIds = attempts.stream()
@@ -225,10 +243,10 @@ public class AttemptServiceImpl implements AttemptService {
         Map<UUID, List<QuizAttemptAnswer>> answersByAttemptId = allAnswers.stream()
                 .collect(Collectors.groupingBy(answer -> answer.getAttempt().getId()));
 
-        return PaginationResponse.from(page.map(attempt -> {
-            List<QuizAttemptAnswer> answers = answersByAttemptId.getOrDefault(attempt.getId(), List.of());
-            return attemptMapper.toResponse(attempt, answers);
-        }), pageable);
+        return attempts.stream()
+                .map(attempt -> attemptMapper.toResponse(attempt,
+                        answersByAttemptId.getOrDefault(attempt.getId(), List.of())))
+                .toList();
     }
 
     private AttemptAnswerItem buildAttemptAnswerItem(
@@ -46,6 +46,46 @@ public class SpeakingSubmissionServiceImpl implements SpeakingSubmissionService
     @Override
     @Transactional
     public SpeakingSubmissionResponse uploadAndSubmitAudio(UUID attemptId, UUID answerId, MultipartFile audioFile) throws IOException {
+        QuizAttemptAnswer answer = loadAnswerForSubmission(attemptId, answerId);
+
+        // Validate audio file
+        if (audioFile.isEmpty()) {
+            throw new ResourceInvalidException("Audio file is empty");
+        }
+
+        // Check file type
+        String contentType = audioFile.getContentType();
+        if (contentType == null || !contentType.startsWith("audio/")) {
+            throw new ResourceInvalidException("File must be an audio file");
+        }
+
+        // Upload audio to S3
+        MediaUploadResponse uploadResponse = mediaService.uploadFile(audioFile, audioFolder(attemptId, answerId));
+
+        log.info("Uploaded audio for attempt {} answer {} to S3: {}", attemptId, answerId, uploadResponse.url());
+
+        return createSubmission(answer, uploadResponse.url());
+    }
+
+    @Override
+    @Transactional
+    public SpeakingSubmissionResponse submitUploadedAudio(UUID attemptId, UUID answerId, String key) {
+        QuizAttemptAnswer answer = loadAnswerForSubmission(attemptId, answerId);
+
+        if (!key.startsWith(audioFolder(attemptId, answerId) + "/")) {
+            throw new ResourceInvalidException("Audio was not uploaded for this answer");
+        }
+        MediaUploadResponse uploadResponse = mediaService.completeUpload(key);
+        if (!uploadResponse.contentType().startsWith("audio/")) {
+            throw new ResourceInvalidException("File must be an audio file");
+        }
+
+        log.info("Registered direct audio upload for attempt {} answer {}: {}", attemptId, answerId, uploadResponse.url());
+
+        return createSubmission(answer, uploadResponse.url());
+    }
+
+    private QuizAttemptAnswer loadAnswerForSubmission(UUID attemptId, UUID answerId) {
         UUID userId = SecurityUtil.getCurrentUserId();
 
         // Validate attempt and answer ownership
@@ -67,28 +107,14 @@ public class SpeakingSubmissionServiceImpl implements SpeakingSubmissionService
         if (submissionRepo.existsByAttemptAnswer_Id(answerId)) {
             throw new ResourceAlreadyExistsException("A speaking submission already exists for this answer. Use retryGrading to reprocess or delete the existing submission first.");
         }
+        return answer;
+    }
 
-        // Validate audio file
-        if (audioFile.isEmpty()) {
-            throw new ResourceInvalidException("Audio file is empty");
-        }
-
-        // Check file type
-        String contentType = audioFile.getContentType();
-        if (contentType == null || !contentType.startsWith("audio/")) {
-            throw new ResourceInvalidException("File must be an audio file");
-        }
-
-        // Upload audio to S3
-        String folder = String.format("speaking_assessments/%s/%s", attemptId, answerId);
-        MediaUploadResponse uploadResponse = mediaService.uploadFile(audioFile, folder);
-
-        log.info("Uploaded audio for attempt {} answer {} to S3: {}", attemptId, answerId, uploadResponse.url());
-
+    private SpeakingSubmissionResponse createSubmission(QuizAttemptAnswer answer, String audioUrl) {
         // Create submission with uploaded audio URL
         SpeakingSubmission submission = SpeakingSubmission.builder()
                 .attemptAnswer(answer)
-                .audioUrl(uploadResponse.url())
+                .audioUrl(audioUrl)
                 .build();
 
         SpeakingSubmission saved = submissionRepo.save(submission);
@@ -99,6 +125,10 @@ public class SpeakingSubmissionServiceImpl implements SpeakingSubmissionService
         return mapper.toResponse(saved);
     }
 
+    private static String audioFolder(UUID attemptId, UUID answerId) {
+        return String.format("speaking_assessments/%s/%s", attemptId, answerId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public SpeakingSubmissionResponse getSubmission(UUID submissionId) {
@@ -0,0 +1,234 @@
+package com.english.api.auth.cache;
+
+import com.english.api.user.event.UserStatusChangedEvent;
+import com.english.api.user.service.UserService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process L1 cache in front of Redis for the checks executed on every authenticated request
+ * (revoked access token JTIs and user active status).
+ * <p>
+ * Revoked JTIs are additionally tracked in a {@link RevokedTokenBloomFilter}; only a positive Bloom hit
+ * falls through to the exact L1/Redis lookup. The filter is seeded and periodically re-synced from the
+ * {@code at_revoked_index} sorted set (score = revocation time), and updated live through Redis pub/sub.
+ * Entries are bounded and expire after a short TTL, so the staleness window only applies if a message is lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthNearCache implements MessageListener {
+
+    private static final String REVOKED_ACCESS_TOKEN_PREFIX = "at_revoked:";
+    private static final String REVOKED_INDEX_KEY = "at_revoked_index";
+    private static final String INVALIDATION_CHANNEL = "auth:near-cache:invalidate";
+    private static final String JTI_MESSAGE_PREFIX = "jti:";
+    private static final String USER_MESSAGE_PREFIX = "user:";
+    private static final char EXPIRY_SEPARATOR = '|';
+    // Tolerated clock skew between nodes when reading the revocation index incrementally
+    private static final long SYNC_OVERLAP_MS = 5_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.auth.near-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${app.auth.near-cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${jwt.expiration.access-token}")
+    private long accessTokenTtlSeconds;
+
+    @Value("${app.auth.revocation-filter.buckets:4}")
+    private int bloomBuckets;
+
+    @Value("${app.auth.revocation-filter.expected-insertions:100000}")
+    private long bloomExpectedInsertions;
+
+    @Value("${app.auth.revocation-filter.fpp:0.001}")
+    private double bloomFpp;
+
+    private Cache<String, Boolean> revokedTokens;
+    private Cache<UUID, Boolean> userActive;
+    private RevokedTokenBloomFilter revokedFilter;
+    private volatile boolean revokedFilterReady;
+    private volatile long lastSyncedScore;
+
+    private Counter bloomNegative;
+    private Counter bloomPositive;
+    private Counter bloomFalsePositive;
+
+    @PostConstruct
+    public void init() {
+        revokedTokens = buildCache();
+        userActive = buildCache();
+        revokedFilter = new RevokedTokenBloomFilter(accessTokenTtlSeconds, bloomBuckets, bloomExpectedInsertions, bloomFpp);
+        CaffeineCacheMetrics.monitor(meterRegistry, revokedTokens, "auth.near.revoked_tokens");
+        CaffeineCacheMetrics.monitor(meterRegistry, userActive, "auth.near.user_active");
+        bloomNegative = meterRegistry.counter("auth.revocation.bloom", "result", "negative");
+        bloomPositive = meterRegistry.counter("auth.revocation.bloom", "result", "positive");
+        bloomFalsePositive = meterRegistry.counter("auth.revocation.bloom", "result", "false_positive");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        syncRevokedTokens();
+    }
+
+    private <K> Cache<K, Boolean> buildCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Check whether an access token has been revoked.
+     * Definite Bloom negatives are answered locally; positives go through L1 and then Redis.
+     */
+    public boolean isAccessTokenRevoked(String jti) {
+        if (revokedFilterReady && !revokedFilter.mightContain(jti, Instant.now().getEpochSecond())) {
+            bloomNegative.increment();
+            return false;
+        }
+        bloomPositive.increment();
+        boolean revoked = revokedTokens.get(jti, key -> Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_ACCESS_TOKEN_PREFIX + key)));
+        if (!revoked && revokedFilterReady) {
+            bloomFalsePositive.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Check whether a user is active, falling back to {@link UserService#isUserActive} on L1 miss.
+     */
+    public boolean isUserActive(UUID userId) {
+        return userActive.get(userId, userService::isUserActive);
+    }
+
+    /**
+     * Blacklist an access token until its expiration and notify the other nodes.
+     */
+    public void revokeAccessToken(String jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        redisTemplate.opsForValue().set(REVOKED_ACCESS_TOKEN_PREFIX + jti, "1", Duration.between(now, expiresAt));
+        String member = jti + EXPIRY_SEPARATOR + expiresAt.getEpochSecond();
+        redisTemplate.opsForZSet().add(REVOKED_INDEX_KEY, member, now.toEpochMilli());
+        recordRevoked(member);
+        publish(JTI_MESSAGE_PREFIX + member);
+    }
+
+    /**
+     * Drop the cached active status of a user on every node.
+     */
+    public void invalidateUser(UUID userId) {
+        userActive.invalidate(userId);
+        publish(USER_MESSAGE_PREFIX + userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleUserStatusChanged(UserStatusChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    /**
+     * Pull revocations recorded since the last sync (covers lost pub/sub messages and node restarts)
+     * and trim index entries whose tokens have all expired.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation-filter.sync-interval-ms:30000}",
+            initialDelayString = "${app.auth.revocation-filter.sync-interval-ms:30000}")
+    public void syncRevokedTokens() {
+        try {
+            long nowMs = System.currentTimeMillis();
+            revokedFilter.evictExpired(nowMs / 1000);
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_INDEX_KEY, 0, nowMs - accessTokenTtlSeconds * 1000);
+
+            long from = Math.max(0, lastSyncedScore - SYNC_OVERLAP_MS);
+            Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_INDEX_KEY, from, Double.POSITIVE_INFINITY);
+            long maxScore = lastSyncedScore;
+            if (entries != null) {
+                for (ZSetOperations.TypedTuple<String> entry : entries) {
+                    if (entry.getValue() != null) {
+                        recordRevoked(entry.getValue());
+                    }
+                    if (entry.getScore() != null) {
+                        maxScore = Math.max(maxScore, entry.getScore().longValue());
+                    }
+                }
+            }
+            lastSyncedScore = maxScore;
+            revokedFilterReady = true;
+        } catch (Exception e) {
+            // Until a sync succeeds every lookup keeps going to Redis
+            log.warn("Failed to sync revoked access tokens from Redis: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(JTI_MESSAGE_PREFIX)) {
+            recordRevoked(body.substring(JTI_MESSAGE_PREFIX.length()));
+        } else if (body.startsWith(USER_MESSAGE_PREFIX)) {
+            try {
+                userActive.invalidate(UUID.fromString(body.substring(USER_MESSAGE_PREFIX.length())));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed near-cache invalidation message: {}", body);
+            }
+        }
+    }
+
+    /**
+     * Apply a {@code jti|expEpochSecond} revocation entry to the Bloom filter and L1.
+     */
+    private void recordRevoked(String member) {
+        int separator = member.lastIndexOf(EXPIRY_SEPARATOR);
+        if (separator <= 0) {
+            log.warn("Ignoring malformed revocation entry: {}", member);
+            return;
+        }
+        String jti = member.substring(0, separator);
+        try {
+            long expiresAt = Long.parseLong(member.substring(separator + 1));
+            revokedFilter.put(jti, expiresAt, Instant.now().getEpochSecond());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed revocation entry: {}", member);
+            return;
+        }
+        revokedTokens.put(jti, Boolean.TRUE);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // Other nodes fall back to the periodic sync and TTL expiry
+            log.warn("Failed to publish near-cache invalidation {}: {}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.english.api.auth.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Rotating, time-bucketed Bloom filter of revoked access token JTIs.
+ * Each JTI is placed in the bucket covering its expiry time, so a bucket can be dropped as a whole
+ * once every token it describes has expired. Memory is fixed at {@code bucketCount} bit arrays
+ * regardless of logout volume; only the false-positive rate grows when a bucket is over-filled.
+ * Thread-safe without locks.
+ */
+public class RevokedTokenBloomFilter {
+
+    private final long bucketSpanSeconds;
+    private final int numBits;
+    private final int numHashes;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public RevokedTokenBloomFilter(long maxTokenTtlSeconds, int bucketsPerTtl, long expectedInsertionsPerBucket, double fpp) {
+        this.bucketSpanSeconds = Math.max(1, maxTokenTtlSeconds / bucketsPerTtl);
+        // Live expiries span at most [now, now + ttl], which touches bucketsPerTtl + 1 buckets
+        this.buckets = new AtomicReferenceArray<>(bucketsPerTtl + 2);
+        long bits = (long) (-expectedInsertionsPerBucket * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertionsPerBucket * Math.log(2)));
+    }
+
+    /**
+     * Record a revoked JTI. Tokens that are already expired are ignored.
+     */
+    public void put(String jti, long expiresAtEpochSecond, long nowEpochSecond) {
+        if (expiresAtEpochSecond <= nowEpochSecond) {
+            return;
+        }
+        long index = expiresAtEpochSecond / bucketSpanSeconds;
+        int slot = (int) (index % buckets.length());
+        Bucket bucket = buckets.get(slot);
+        while (bucket == null || bucket.index < index) {
+            Bucket fresh = new Bucket(index, numBits);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(slot);
+        }
+        if (bucket.index != index) {
+            // Slot already rotated past this expiry, the token can no longer be presented
+            return;
+        }
+        long[] hashes = hash(jti);
+        for (int i = 0; i < numHashes; i++) {
+            bucket.set(bitIndex(hashes, i));
+        }
+    }
+
+    /**
+     * @return false if the JTI is definitely not revoked, true if it may be revoked
+     */
+    public boolean mightContain(String jti, long nowEpochSecond) {
+        long minLiveIndex = nowEpochSecond / bucketSpanSeconds;
+        long[] hashes = null;
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || bucket.index < minLiveIndex) {
+                continue;
+            }
+            if (hashes == null) {
+                hashes = hash(jti);
+            }
+            if (bucket.containsAll(hashes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Release buckets whose tokens have all expired.
+     */
+    public void evictExpired(long nowEpochSecond) {
+        long minLiveIndex = nowEpochSecond / bucketSpanSeconds;
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index < minLiveIndex) {
+                buckets.compareAndSet(slot, bucket, null);
+            }
+        }
+    }
+
+    private int bitIndex(long[] hashes, int i) {
+        long combined = hashes[0] + i * hashes[1];
+        return (int) ((combined & Long.MAX_VALUE) % numBits);
+    }
+
+    private static long[] hash(String value) {
+        // FNV-1a 64 followed by a murmur3 finalizer for the second hash (Kirsch-Mitzenmacher)
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h1 ^= b;
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = h1 ^ 0x9e3779b97f4a7c15L;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xff51afd7ed558ccdL;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xc4ceb9fe1a85ec53L;
+        h2 ^= h2 >>> 33;
+        return new long[]{h1, h2 | 1};
+    }
+
+    private final class Bucket {
+        private final long index;
+        private final AtomicLongArray words;
+
+        private Bucket(long index, int numBits) {
+            this.index = index;
+            this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        private void set(int bit) {
+            long mask = 1L << bit;
+            words.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+        }
+
+        private boolean containsAll(long[] hashes) {
+            for (int i = 0; i < numHashes; i++) {
+                int bit = bitIndex(hashes, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.english.api.auth.config;
 
+import com.english.api.auth.cache.AuthNearCache;
 import com.english.api.auth.filter.AccountLockFilter;
 import com.english.api.auth.filter.JwtBlacklistFilter;
 import com.english.api.auth.security.CookieBearerTokenResolver;
-import com.english.api.user.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +11,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -65,13 +64,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtBlacklistFilter jwtBlacklistFilter(RedisTemplate<String, String> redisTemplate) {
-        return new JwtBlacklistFilter(redisTemplate);
+    public JwtBlacklistFilter jwtBlacklistFilter(AuthNearCache authNearCache) {
+        return new JwtBlacklistFilter(authNearCache);
     }
 
     @Bean
-    public AccountLockFilter accountLockFilter(UserService userService, ObjectMapper objectMapper) {
-        return new AccountLockFilter(userService, objectMapper);
+    public AccountLockFilter accountLockFilter(AuthNearCache authNearCache, ObjectMapper objectMapper) {
+        return new AccountLockFilter(authNearCache, objectMapper);
     }
 
     @Bean
@@ -4,6 +4,7 @@ import com.english.api.auth.dto.request.*;
 import com.english.api.auth.dto.response.AuthResponse;
 import com.english.api.auth.dto.response.LinkAccountResponse;
 import com.english.api.auth.dto.response.OtpVerificationResponse;
+import com.english.api.auth.dto.response.SessionResponse;
 import com.english.api.auth.dto.response.UserLoginResponse;
 import com.english.api.auth.service.AuthService;
 import com.english.api.auth.service.JwtService;
@@ -17,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -157,6 +159,13 @@ public class AuthController {
                 .build();
     }
 
+    @GetMapping("/sessions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<SessionResponse>> getActiveSessions(
+            @CookieValue(name = "refresh_token", defaultValue = "none") String refreshToken) {
+        return ResponseEntity.ok(authService.getActiveSessions(refreshToken));
+    }
+
     @PostMapping("forgot-password")
     public ResponseEntity<Void> forgotPassword(@Valid @RequestBody ForgotPasswordRequest forgotPasswordRequest) {
         this.authService.forgotPassword(forgotPasswordRequest.email());
@@ -0,0 +1,11 @@
+package com.english.api.auth.dto.response;
+
+import java.time.Instant;
+
+public record SessionResponse(
+        String sessionId,
+        Instant issuedAt,
+        Instant expiresAt,
+        boolean current
+) {
+}
@@ -3,9 +3,9 @@ package com.english.api.auth.filter;
  * Created by hungpham on 9/24/2025
  */
 
+import com.english.api.auth.cache.AuthNearCache;
 import com.english.api.common.dto.ApiResponse;
 import com.english.api.common.util.constant.ErrorCode;
-import com.english.api.user.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,7 +24,7 @@ import java.util.UUID;
 
 @RequiredArgsConstructor
 public class AccountLockFilter extends OncePerRequestFilter {
-    private final UserService userService;
+    private final AuthNearCache authNearCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -33,7 +33,7 @@ public class AccountLockFilter extends OncePerRequestFilter {
         if (authentication instanceof JwtAuthenticationToken && authentication.isAuthenticated() && !"anonymousUser".equals(authentication.getName())) {
             try {
                 UUID userId = UUID.fromString(authentication.getName());
-                if (!userService.isUserActive(userId)) {
+                if (!authNearCache.isUserActive(userId)) {
                     SecurityContextHolder.clearContext();
                     ApiResponse<Object> apiResponse = ApiResponse.error(ErrorCode.FORBIDDEN, "Account is locked");
                     response.setStatus(HttpStatus.FORBIDDEN.value());
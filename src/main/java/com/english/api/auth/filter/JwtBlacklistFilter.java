@@ -1,11 +1,11 @@
 package com.english.api.auth.filter;
 
+import com.english.api.auth.cache.AuthNearCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
@@ -21,7 +21,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtBlacklistFilter extends OncePerRequestFilter {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final AuthNearCache authNearCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -31,7 +31,7 @@ public class JwtBlacklistFilter extends OncePerRequestFilter {
 
         if (auth != null && auth.getCredentials() instanceof Jwt jwt) {
             String jti = jwt.getId();
-            if (jti != null && redisTemplate.hasKey("at_revoked:" + jti)) {
+            if (jti != null && authNearCache.isAccessTokenRevoked(jti)) {
                 response.setStatus(HttpStatus.UNAUTHORIZED.value());
                 response.setContentType("application/json;charset=UTF-8");
                 response.getWriter().write("{\"error\":\"Access token revoked\"}");
@@ -7,8 +7,11 @@ import com.english.api.auth.dto.request.ResetPasswordRequest;
 import com.english.api.auth.dto.response.AuthResponse;
 import com.english.api.auth.dto.response.LinkAccountResponse;
 import com.english.api.auth.dto.response.OtpVerificationResponse;
+import com.english.api.auth.dto.response.SessionResponse;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Created by hungpham on 9/23/2025
  */
@@ -26,6 +29,8 @@ public interface AuthService {
 
     void logoutAll(String accessToken);
 
+    List<SessionResponse> getActiveSessions(String refreshToken);
+
     void forgotPassword(String email);
 
     @Transactional
@@ -0,0 +1,25 @@
+package com.english.api.auth.service;
+
+import com.english.api.auth.dto.response.SessionResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refresh token whitelist backed by a per-user session index.
+ */
+public interface RefreshTokenService {
+    void store(UUID userId, String jti, Instant issuedAt, Instant expiresAt);
+
+    /**
+     * Atomically remove a refresh token, returning false if it was not (or no longer) whitelisted.
+     */
+    boolean consume(UUID userId, String jti);
+
+    void revoke(UUID userId, String jti);
+
+    long revokeAll(UUID userId);
+
+    List<SessionResponse> findActiveSessions(UUID userId, String currentJti);
+}
@@ -1,5 +1,6 @@
 package com.english.api.auth.service.impl;
 
+import com.english.api.auth.cache.AuthNearCache;
 import com.english.api.auth.dto.request.AuthRequest;
 import com.english.api.auth.dto.request.LinkGoogleAccountRequest;
 import com.english.api.auth.dto.request.RegisterRequest;
@@ -7,18 +8,21 @@ import com.english.api.auth.dto.request.ResetPasswordRequest;
 import com.english.api.auth.dto.response.AuthResponse;
 import com.english.api.auth.dto.response.LinkAccountResponse;
 import com.english.api.auth.dto.response.OtpVerificationResponse;
+import com.english.api.auth.dto.response.SessionResponse;
 import com.english.api.auth.dto.response.UserLoginResponse;
 import com.english.api.auth.model.VerificationToken;
 import com.english.api.auth.security.CustomUserDetails;
 import com.english.api.auth.service.AuthService;
 import com.english.api.auth.service.JwtService;
 import com.english.api.auth.service.OTPCodeService;
+import com.english.api.auth.service.RefreshTokenService;
 import com.english.api.auth.service.VerificationTokenService;
 import com.english.api.auth.util.SecurityUtil;
 import com.english.api.common.exception.AccessDeniedException;
 import com.english.api.common.exception.ResourceAlreadyExistsException;
 import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
+import com.english.api.common.http.OutboundHttpClients;
 import com.english.api.mail.service.MailService;
 import com.english.api.user.model.Role;
 import com.english.api.user.model.User;
@@ -60,6 +64,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -81,7 +86,9 @@ public class AuthServiceImpl implements AuthService {
     private final RoleRepository roleRepository;
     private final OTPCodeService otpCodeService;
     private final com.english.api.user.repository.UserOAuth2TokenRepository oauth2TokenRepository;
-    private final org.springframework.web.client.RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
+    private final AuthNearCache authNearCache;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -214,9 +221,8 @@ public class AuthServiceImpl implements AuthService {
             throw new ResourceInvalidException("Refresh token is expired");
         }
 
-        // Check if refresh token exists in Redis (whitelist validation)
-        String key = buildRtKey(uid, jti);
-        if (!redisTemplate.hasKey(key)) {
+        // Consume the whitelisted refresh token atomically so it can only be rotated once
+        if (!refreshTokenService.consume(uid, jti)) {
             throw new ResourceInvalidException("Refresh token is invalid or revoked");
         }
 
@@ -228,8 +234,7 @@ public class AuthServiceImpl implements AuthService {
         String newAccessToken = jwtService.generateAccessToken(userDetails);
         String newRefreshToken = jwtService.generateRefreshToken(userDetails);
 
-        // Remove old refresh token and store new one
-        redisTemplate.delete(key);
+        // Store the rotated refresh token
         storeRefreshToken(uid, newRefreshToken);
 
         // Build response
@@ -263,8 +268,7 @@ public class AuthServiceImpl implements AuthService {
             Instant exp = decoded.getExpiresAt();
 
             if (jti != null && exp != null && exp.isAfter(Instant.now())) {
-                Duration ttl = Duration.between(Instant.now(), exp);
-                redisTemplate.opsForValue().set("at_revoked:" + jti, "1", ttl);
+                authNearCache.revokeAccessToken(jti, exp);
             }
         } catch (Exception ignored) {
             // Ignore invalid token silently
@@ -285,8 +289,21 @@ public class AuthServiceImpl implements AuthService {
         blacklistAccessToken(accessToken);
 
         // Delete all user refresh tokens
-        String pattern = "rt_user:" + userId + ":*";
-        redisTemplate.keys(pattern).forEach(redisTemplate::delete);
+        refreshTokenService.revokeAll(userId);
+    }
+
+    @Override
+    public List<SessionResponse> getActiveSessions(String refreshToken) {
+        UUID userId = SecurityUtil.getCurrentUserId();
+        String currentJti = null;
+        if (refreshToken != null && !"none".equals(refreshToken)) {
+            try {
+                currentJti = jwtService.decode(refreshToken).getId();
+            } catch (Exception ignored) {
+                // Current session cannot be identified
+            }
+        }
+        return refreshTokenService.findActiveSessions(userId, currentJti);
     }
 
     @Override
@@ -326,25 +343,18 @@ public class AuthServiceImpl implements AuthService {
 
 
     /**
-     * Store refresh token in Redis with TTL until token expiration.
+     * Store refresh token in the user's session index with TTL until token expiration.
      */
     private void storeRefreshToken(UUID userId, String refreshToken) {
         Jwt decoded = jwtService.decode(refreshToken);
         String jti = decoded.getId();
         Instant exp = decoded.getExpiresAt();
         if (jti != null && exp != null) {
-            Duration ttl = Duration.between(Instant.now(), exp);
-            redisTemplate.opsForValue().set(buildRtKey(userId, jti), "1", ttl);
+            Instant issuedAt = decoded.getIssuedAt() != null ? decoded.getIssuedAt() : Instant.now();
+            refreshTokenService.store(userId, jti, issuedAt, exp);
         }
     }
 
-    /**
-     * Build Redis key for refresh token entry.
-     */
-    private String buildRtKey(UUID userId, String jti) {
-        return "rt_user:" + userId + ":" + jti;
-    }
-
     /**
      * Ensure user account is active before login.
      */
@@ -389,7 +399,7 @@ public class AuthServiceImpl implements AuthService {
             Jwt decoded = jwtService.decode(refreshToken);
             UUID uid = UUID.fromString(decoded.getSubject());
             String jti = decoded.getId();
-            redisTemplate.delete(buildRtKey(uid, jti));
+            refreshTokenService.revoke(uid, jti);
         } catch (Exception ignored) {
 
         }
@@ -531,7 +541,7 @@ public class AuthServiceImpl implements AuthService {
                 new HttpEntity<>(params, headers);
 
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(
+            ResponseEntity<Map> response = outboundHttpClients.restTemplate(OutboundHttpClients.GOOGLE_OAUTH).postForEntity(
                     tokenEndpoint, 
                     request, 
                     Map.class
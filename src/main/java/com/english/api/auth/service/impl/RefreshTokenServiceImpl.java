@@ -0,0 +1,251 @@
+package com.english.api.auth.service.impl;
+
+import com.english.api.auth.dto.response.SessionResponse;
+import com.english.api.auth.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each refresh token is kept as {@code rt_user:{<userId>}:<jti>} (value = issued-at epoch second, TTL = token expiry)
+ * and indexed in the sorted set {@code rt_sessions:{<userId>}} scored by expiry epoch millis.
+ * The {@code {<userId>}} hash tag keeps a user's tokens and index in one cluster slot, so every script declares
+ * all the keys it touches. Revoking every session of a user only touches that user's index, never the keyspace;
+ * expired index members are trimmed lazily on write and read.
+ * <p>
+ * Tokens written before the index existed ({@code rt_user:<userId>:<jti>}) are moved into it by a SCAN on startup
+ * and are still accepted by {@link #consume} until then.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final String TOKEN_KEY_PREFIX = "rt_user:";
+    private static final String INDEX_KEY_PREFIX = "rt_sessions:";
+    private static final int REVOKE_BATCH_SIZE = 500;
+    private static final int BACKFILL_SCAN_COUNT = 1000;
+
+    // KEYS: token, index | ARGV: jti, issuedAt, expiresAtMs, ttlMs, nowMs
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[5])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[4]) then
+                redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: token, index | ARGV: jti
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return removed
+            """, Long.class);
+
+    // KEYS: index, token of ARGV[1], token of ARGV[2], ... | ARGV: jti...
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV do
+                redis.call('UNLINK', KEYS[i + 1])
+                redis.call('ZREM', KEYS[1], ARGV[i])
+            end
+            return #ARGV
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.auth.refresh-token.legacy-backfill:true}")
+    private boolean legacyBackfill;
+
+    @Override
+    public void store(UUID userId, String jti, Instant issuedAt, Instant expiresAt) {
+        long nowMs = System.currentTimeMillis();
+        long ttlMs = expiresAt.toEpochMilli() - nowMs;
+        if (ttlMs <= 0) {
+            return;
+        }
+        index(userId, jti, String.valueOf(issuedAt.getEpochSecond()), expiresAt.toEpochMilli(), ttlMs, nowMs);
+    }
+
+    @Override
+    public boolean consume(UUID userId, String jti) {
+        Long removed = redisTemplate.execute(CONSUME_SCRIPT,
+                List.of(buildTokenKey(userId, jti), buildIndexKey(userId)), jti);
+        if (removed != null && removed > 0) {
+            return true;
+        }
+        // Not moved into the index yet
+        return Boolean.TRUE.equals(redisTemplate.delete(buildLegacyTokenKey(userId, jti)));
+    }
+
+    @Override
+    public void revoke(UUID userId, String jti) {
+        consume(userId, jti);
+    }
+
+    @Override
+    public long revokeAll(UUID userId) {
+        String indexKey = buildIndexKey(userId);
+        long revoked = 0;
+        // Batches keep each script short; sessions stored while revoking are picked up by the next round
+        while (true) {
+            Set<String> jtis = redisTemplate.opsForZSet().range(indexKey, 0, REVOKE_BATCH_SIZE - 1);
+            if (jtis == null || jtis.isEmpty()) {
+                return revoked;
+            }
+            List<String> keys = new ArrayList<>(jtis.size() + 1);
+            keys.add(indexKey);
+            for (String jti : jtis) {
+                keys.add(buildTokenKey(userId, jti));
+            }
+            Long removed = redisTemplate.execute(REVOKE_SCRIPT, keys, jtis.toArray());
+            revoked += removed != null ? removed : 0;
+        }
+    }
+
+    /**
+     * Move refresh tokens stored before the session index into it. SCAN only walks the keyspace in small steps,
+     * so this runs once per startup in the background; turn it off with
+     * {@code app.auth.refresh-token.legacy-backfill=false} once no unindexed token is left.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLegacyTokens() {
+        if (!legacyBackfill) {
+            return;
+        }
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(TOKEN_KEY_PREFIX + "[^{]*")
+                .count(BACKFILL_SCAN_COUNT)
+                .build();
+        long moved = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                if (moveLegacyToken(cursor.next())) {
+                    moved++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Refresh token backfill stopped after {} tokens: {}", moved, e.getMessage());
+            return;
+        }
+        if (moved > 0) {
+            log.info("Moved {} refresh tokens into the session index", moved);
+        }
+    }
+
+    @Override
+    public List<SessionResponse> findActiveSessions(UUID userId, String currentJti) {
+        String indexKey = buildIndexKey(userId);
+        long nowMs = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, nowMs);
+
+        Set<ZSetOperations.TypedTuple<String>> members = redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(indexKey, nowMs, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> jtis = new ArrayList<>(members.size());
+        List<String> tokenKeys = new ArrayList<>(members.size());
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            jtis.add(member.getValue());
+            tokenKeys.add(buildTokenKey(userId, member.getValue()));
+        }
+        List<String> issuedAts = redisTemplate.opsForValue().multiGet(tokenKeys);
+
+        List<SessionResponse> sessions = new ArrayList<>(members.size());
+        int i = 0;
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            String issuedAt = issuedAts != null ? issuedAts.get(i) : null;
+            String jti = jtis.get(i++);
+            if (issuedAt == null) {
+                // Token key already expired or revoked, index entry is cleaned up on next write
+                continue;
+            }
+            sessions.add(new SessionResponse(
+                    jti,
+                    parseEpochSecond(issuedAt),
+                    Instant.ofEpochMilli(member.getScore() != null ? member.getScore().longValue() : 0),
+                    jti.equals(currentJti)
+            ));
+        }
+        return sessions;
+    }
+
+    private void index(UUID userId, String jti, String issuedAt, long expiresAtMs, long ttlMs, long nowMs) {
+        redisTemplate.execute(STORE_SCRIPT,
+                List.of(buildTokenKey(userId, jti), buildIndexKey(userId)),
+                jti,
+                issuedAt,
+                String.valueOf(expiresAtMs),
+                String.valueOf(ttlMs),
+                String.valueOf(nowMs));
+    }
+
+    private boolean moveLegacyToken(String legacyKey) {
+        String rest = legacyKey.substring(TOKEN_KEY_PREFIX.length());
+        int separator = rest.indexOf(':');
+        if (separator < 0) {
+            return false;
+        }
+        UUID userId;
+        try {
+            userId = UUID.fromString(rest.substring(0, separator));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        String jti = rest.substring(separator + 1);
+
+        Long ttlMs = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        // GETDEL so a token rotated through the consume fallback meanwhile is not brought back
+        String value = redisTemplate.opsForValue().getAndDelete(legacyKey);
+        if (value == null || ttlMs == null || ttlMs <= 0) {
+            return false;
+        }
+        long nowMs = System.currentTimeMillis();
+        // Old entries only held a placeholder, the issue time is unknown
+        String issuedAt = "1".equals(value) ? "" : value;
+        index(userId, jti, issuedAt, nowMs + ttlMs, ttlMs, nowMs);
+        return true;
+    }
+
+    private Instant parseEpochSecond(String value) {
+        try {
+            return Instant.ofEpochSecond(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String buildTokenKey(UUID userId, String jti) {
+        return TOKEN_KEY_PREFIX + "{" + userId + "}:" + jti;
+    }
+
+    private String buildIndexKey(UUID userId) {
+        return INDEX_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String buildLegacyTokenKey(UUID userId, String jti) {
+        return TOKEN_KEY_PREFIX + userId + ":" + jti;
+    }
+}
@@ -0,0 +1,28 @@
+package com.english.api.blog.repository.custom;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Custom repository for BlogPost with native full-text search
+ */
+public interface BlogPostRepositoryCustom {
+
+    /**
+     * Page of matching post ids. Every filter is optional; keyword matches are ranked
+     * when sorting by {@code relevance} or when no sort is requested.
+     */
+    Page<UUID> searchPostIds(
+            String keyword,
+            UUID authorId,
+            UUID categoryId,
+            String categorySlug,
+            LocalDate fromDate,
+            LocalDate toDate,
+            boolean includeUnpublished,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,126 @@
+package com.english.api.blog.repository.custom;
+
+import com.english.api.common.search.SearchKeyword;
+import com.english.api.common.search.TextSearchSql;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class BlogPostRepositoryCustomImpl implements BlogPostRepositoryCustom {
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    private static final String RELEVANCE = TextSearchSql.rank("p.search_vector", "p.title");
+
+    // Mapping between entity field names and database column names
+    private static final Map<String, String> SORT_COLUMN_MAP = Map.of(
+            "title", "p.title",
+            "publishedAt", "p.published_at",
+            "createdAt", "p.created_at",
+            "updatedAt", "p.updated_at"
+    );
+
+    @Override
+    public Page<UUID> searchPostIds(
+            String keyword,
+            UUID authorId,
+            UUID categoryId,
+            String categorySlug,
+            LocalDate fromDate,
+            LocalDate toDate,
+            boolean includeUnpublished,
+            Pageable pageable
+    ) {
+        SearchKeyword searchKeyword = SearchKeyword.of(keyword);
+        Map<String, Object> params = new HashMap<>();
+
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (!includeUnpublished) {
+            where.append(" AND p.is_published = true");
+        }
+        if (searchKeyword != null) {
+            where.append(" AND ").append(TextSearchSql.matches("p.search_vector", "p.title"));
+            params.put("keyword", searchKeyword.text());
+            params.put("tsQuery", searchKeyword.tsQuery());
+        }
+        if (authorId != null) {
+            where.append(" AND p.author_id = :authorId");
+            params.put("authorId", authorId);
+        }
+        if (categoryId != null || categorySlug != null) {
+            where.append(" AND EXISTS (SELECT 1 FROM blog_post_categories pc")
+                    .append(" JOIN blog_categories c ON c.id = pc.category_id")
+                    .append(" WHERE pc.post_id = p.id");
+            if (categoryId != null) {
+                where.append(" AND c.id = :categoryId");
+                params.put("categoryId", categoryId);
+            }
+            if (categorySlug != null) {
+                where.append(" AND c.slug = :categorySlug");
+                params.put("categorySlug", categorySlug);
+            }
+            where.append(")");
+        }
+        if (fromDate != null) {
+            where.append(" AND CAST(p.published_at AS date) >= :fromDate");
+            params.put("fromDate", fromDate);
+        }
+        if (toDate != null) {
+            where.append(" AND CAST(p.published_at AS date) <= :toDate");
+            params.put("toDate", toDate);
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT p.id FROM blog_posts p" + where + buildOrderByClause(pageable.getSort(), searchKeyword != null),
+                UUID.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        @SuppressWarnings("unchecked")
+        List<UUID> ids = query.getResultList();
+
+        Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM blog_posts p" + where);
+        params.forEach(countQuery::setParameter);
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private String buildOrderByClause(Sort sort, boolean hasKeyword) {
+        if (sort.isUnsorted()) {
+            return hasKeyword
+                    ? " ORDER BY " + RELEVANCE + " DESC, p.id ASC"
+                    : " ORDER BY p.published_at DESC, p.id ASC";
+        }
+
+        String orderBy = sort.stream()
+                .map(order -> {
+                    String column = "relevance".equals(order.getProperty()) && hasKeyword
+                            ? RELEVANCE
+                            : SORT_COLUMN_MAP.getOrDefault(order.getProperty(), "p.published_at");
+                    String direction = order.getDirection().isAscending() ? "ASC" : "DESC";
+                    return column + " " + direction;
+                })
+                .collect(Collectors.joining(", "));
+
+        // Always add id as tie-breaker to ensure stable pagination
+        return " ORDER BY " + orderBy + ", p.id ASC";
+    }
+}
@@ -111,13 +111,9 @@ public class BlogPostServiceImpl implements BlogPostService{
 
     @Override
     public PaginationResponse search(PostFilterRequest filter, Pageable pageable, boolean includeUnpublished) {
-        String processedKeyword = filter.keyword() != null 
-            ? "%" + filter.keyword().toLowerCase() + "%" 
-            : null;
-            
         // First query: get paginated post IDs
-        Page<BlogPost> postsPage = postRepository.searchPosts(
-            processedKeyword,
+        Page<UUID> postsPage = postRepository.searchPostIds(
+            filter.keyword(),
             filter.authorId(),
             filter.categoryId(),
             filter.categorySlug(),
@@ -127,15 +123,15 @@ public class BlogPostServiceImpl implements BlogPostService{
             pageable
         );
         
-        // If no results, return empty page
+        // No rows on this page; keep the real total so a page past the end still reports it
         if (postsPage.isEmpty()) {
-            return PaginationResponse.from(postsPage.map(blogPostMapper::toResponse), pageable);
+            return PaginationResponse.from(new org.springframework.data.domain.PageImpl<PostResponse>(
+                List.of(), pageable, postsPage.getTotalElements()
+            ), pageable);
         }
         
         // Second query: fetch full entities with associations
-        List<UUID> postIds = postsPage.getContent().stream()
-            .map(BlogPost::getId)
-            .toList();
+        List<UUID> postIds = postsPage.getContent();
         
         List<BlogPost> postsWithAssociations = postRepository.findByIdInWithAssociations(postIds);
         
@@ -189,13 +185,9 @@ public class BlogPostServiceImpl implements BlogPostService{
 
     @Override
     public PaginationResponse publicList(PostFilterRequest filter, Pageable pageable) {
-        String processedKeyword = filter.keyword() != null 
-            ? "%" + filter.keyword().toLowerCase() + "%" 
-            : null;
-            
         // First query: get paginated post IDs
-        Page<BlogPost> postsPage = postRepository.searchPosts(
-            processedKeyword,
+        Page<UUID> postsPage = postRepository.searchPostIds(
+            filter.keyword(),
             filter.authorId(),
             filter.categoryId(),
             filter.categorySlug(),
@@ -205,15 +197,15 @@ public class BlogPostServiceImpl implements BlogPostService{
             pageable
         );
         
-        // If no results, return empty page
+        // No rows on this page; keep the real total so a page past the end still reports it
         if (postsPage.isEmpty()) {
-            return PaginationResponse.from(postsPage.map(blogPostMapper::toPublicSummary), pageable);
+            return PaginationResponse.from(new org.springframework.data.domain.PageImpl<PublicPostSummaryResponse>(
+                List.of(), pageable, postsPage.getTotalElements()
+            ), pageable);
         }
         
         // Second query: fetch full entities with associations
-        List<UUID> postIds = postsPage.getContent().stream()
-            .map(BlogPost::getId)
-            .toList();
+        List<UUID> postIds = postsPage.getContent();
         
         List<BlogPost> postsWithAssociations = postRepository.findByIdInWithAssociations(postIds);
         
@@ -0,0 +1,139 @@
+package com.english.api.common.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every controller and service method into a {@code method.timed} timer tagged with layer, class, method
+ * and outcome. Timers are created once per method, so memory stays constant however many calls are made.
+ * <p>
+ * Nothing is logged on the normal path: calls slower than the layer's threshold are logged at WARN, a configurable
+ * fraction of calls is logged at INFO, and an exception is logged once by the outermost timed frame rather than
+ * by every layer it passes through.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimingAspect {
+
+    private static final String CONTROLLER = "controller";
+    private static final String SERVICE = "service";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.instrumentation.slow-threshold.controller-ms:1000}")
+    private long controllerSlowMs;
+
+    @Value("${app.instrumentation.slow-threshold.service-ms:500}")
+    private long serviceSlowMs;
+
+    @Value("${app.instrumentation.sample-rate:0}")
+    private double sampleRate;
+
+    @Value("${app.instrumentation.histogram:false}")
+    private boolean histogram;
+
+    private final ConcurrentMap<MethodKey, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    // Depth of nested timed calls on this thread; the outermost frame owns error logging
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Around("execution(* com.english.api.*.controller..*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, CONTROLLER, controllerSlowMs);
+    }
+
+    @Around("execution(* com.english.api.*.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE, serviceSlowMs);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer, long slowMs) throws Throwable {
+        int[] depth = DEPTH.get();
+        depth[0]++;
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failed = true;
+            if (depth[0] == 1) {
+                log.error("[ERROR] Method: {} | IP: {} | Exception: {}",
+                        joinPoint.getSignature().toShortString(), clientIp(), e.toString());
+            }
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (--depth[0] == 0) {
+                DEPTH.remove();
+            }
+            MethodTimers methodTimers = timersFor(joinPoint, layer);
+            (failed ? methodTimers.error() : methodTimers.success()).record(elapsed, TimeUnit.NANOSECONDS);
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            if (elapsedMs >= slowMs) {
+                log.warn("[{}] SLOW: {} | Time: {} ms", layer, joinPoint.getSignature().toShortString(), elapsedMs);
+            } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("[{}] EXECUTED: {} | Time: {} ms", layer, joinPoint.getSignature().toShortString(), elapsedMs);
+            }
+        }
+    }
+
+    private MethodTimers timersFor(ProceedingJoinPoint joinPoint, String layer) {
+        Class<?> type = joinPoint.getTarget() != null ? joinPoint.getTarget().getClass() : joinPoint.getSignature().getDeclaringType();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(new MethodKey(type, method), key -> new MethodTimers(
+                timer(layer, key, "success"), timer(layer, key, "error")));
+    }
+
+    private Timer timer(String layer, MethodKey key, String outcome) {
+        return Timer.builder("method.timed")
+                .tag("layer", layer)
+                .tag("class", userClassName(key.type()))
+                .tag("method", key.method().getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(histogram)
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    // CGLIB proxies report names like FooServiceImpl$$SpringCGLIB$$0
+    private static String userClassName(Class<?> type) {
+        String name = type.getSimpleName();
+        int proxy = name.indexOf("$$");
+        return proxy > 0 ? name.substring(0, proxy) : name;
+    }
+
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return "UNKNOWN";
+    }
+
+    private record MethodKey(Class<?> type, Method method) {
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.english.api.common.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Virtual thread executor running at most {@code concurrencyLimit} tasks at once. A caller that finds every slot
+ * taken waits up to {@code acquireTimeout} and then gets a {@link TaskRejectedException}, so a slow dependency
+ * holds the submitting thread (often a request thread) for a bounded time only.
+ * Reports an {@code executor.task.rejected} counter and an {@code executor.task.waiting} gauge of callers waiting
+ * for a slot, tagged with {@code name}.
+ */
+public class BoundedVirtualTaskExecutor extends SimpleAsyncTaskExecutor {
+
+    private final String name;
+    private final Semaphore slots;
+    private final long acquireTimeoutMs;
+    private final AtomicInteger waiting;
+    private final Counter rejected;
+
+    public BoundedVirtualTaskExecutor(String name, int concurrencyLimit, Duration acquireTimeout,
+                                      MeterRegistry meterRegistry) {
+        super(name + "-");
+        setVirtualThreads(true);
+        this.name = name;
+        this.slots = new Semaphore(concurrencyLimit, true);
+        this.acquireTimeoutMs = acquireTimeout.toMillis();
+        this.waiting = meterRegistry.gauge("executor.task.waiting", Tags.of("name", name), new AtomicInteger());
+        this.rejected = meterRegistry.counter("executor.task.rejected", "name", name);
+    }
+
+    @Override
+    protected void doExecute(Runnable task) {
+        acquire();
+        try {
+            super.doExecute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            // The thread never started
+            slots.release();
+            throw e;
+        }
+    }
+
+    private void acquire() {
+        if (slots.tryAcquire()) {
+            return;
+        }
+        waiting.incrementAndGet();
+        try {
+            if (!slots.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new TaskRejectedException(
+                        "Executor [" + name + "] had no free slot within " + acquireTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for a slot of executor [" + name + "]", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.english.api.common.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how long tasks wait before starting and how long they run, per executor.
+ */
+public class TimedTaskDecorator implements TaskDecorator {
+
+    private final Timer queued;
+    private final Timer duration;
+    private final AtomicInteger active;
+
+    public TimedTaskDecorator(MeterRegistry meterRegistry, String executorName) {
+        this.queued = meterRegistry.timer("executor.task.queued", "name", executorName);
+        this.duration = meterRegistry.timer("executor.task.duration", "name", executorName);
+        this.active = meterRegistry.gauge("executor.task.active",
+                Tags.of("name", executorName), new AtomicInteger());
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queued.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                active.decrementAndGet();
+                duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package com.english.api.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-through JSON cache in Redis whose entries are stamped with the version of a scope.
+ * <p>
+ * Entries live under {@code cache:entry:<scope>:<name>:v<version>} and the current version under
+ * {@code cache:ver:<scope>}. {@link #invalidate} only increments the version, so every entry of the scope
+ * is dropped at once without scanning the keyspace; orphaned entries age out with their TTL.
+ * Misses are loaded once per node, and a short Redis lock lets a single node rebuild a key; the others check
+ * once more after a brief pause and then load it themselves rather than hold the request thread.
+ * Redis failures degrade to calling the loader directly.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionedCache {
+
+    private static final String VERSION_KEY_PREFIX = "cache:ver:";
+    private static final String ENTRY_KEY_PREFIX = "cache:entry:";
+    private static final String LOCK_SUFFIX = ":lock";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.versioned.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${app.cache.versioned.lock-ttl-ms:5000}")
+    private long lockTtlMs;
+
+    @Value("${app.cache.versioned.lock-wait-ms:50}")
+    private long lockWaitMs;
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter errors;
+
+    @PostConstruct
+    public void init() {
+        hits = meterRegistry.counter("cache.versioned.requests", "result", "hit");
+        misses = meterRegistry.counter("cache.versioned.requests", "result", "miss");
+        errors = meterRegistry.counter("cache.versioned.requests", "result", "error");
+    }
+
+    /**
+     * Return the cached value of {@code name} in the current version of {@code scope},
+     * computing and storing it with {@code loader} on a miss. Exceptions thrown by the loader propagate
+     * and nothing is cached.
+     */
+    public <T> T get(String scope, String name, TypeReference<T> type, Supplier<T> loader) {
+        String key;
+        try {
+            key = entryKey(scope, name);
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hits.increment();
+                return objectMapper.readValue(cached, type);
+            }
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("Versioned cache read failed for {}:{}: {}", scope, name, e.getMessage());
+            return loader.get();
+        }
+        misses.increment();
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return decode(join(existing), type);
+        }
+        try {
+            String json = loadAndStore(key, loader);
+            mine.complete(json);
+            return decode(json, type);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Drop every entry of {@code scope} on all nodes.
+     */
+    public void invalidate(String scope) {
+        try {
+            // Version keys never expire: a reset counter could re-address entries that are still live
+            redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + scope);
+        } catch (Exception e) {
+            log.warn("Failed to invalidate cache scope {}: {}", scope, e.getMessage());
+        }
+    }
+
+    private String loadAndStore(String key, Supplier<?> loader) {
+        String lockKey = key + LOCK_SUFFIX;
+        boolean locked = tryLock(lockKey);
+        if (!locked) {
+            String json = awaitOtherNode(key);
+            if (json != null) {
+                return json;
+            }
+        }
+        try {
+            String json = encode(loader.get());
+            try {
+                redisTemplate.opsForValue().set(key, json, Duration.ofMinutes(ttlMinutes));
+            } catch (Exception e) {
+                log.warn("Failed to store versioned cache entry {}: {}", key, e.getMessage());
+            }
+            return json;
+        } finally {
+            if (locked) {
+                unlock(lockKey);
+            }
+        }
+    }
+
+    private boolean tryLock(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, "1", Duration.ofMillis(lockTtlMs)));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void unlock(String lockKey) {
+        try {
+            redisTemplate.delete(lockKey);
+        } catch (Exception e) {
+            // Expires on its own
+        }
+    }
+
+    /**
+     * Give the node holding the lock one short chance to store its value; {@code null} means load locally.
+     */
+    private String awaitOtherNode(String key) {
+        try {
+            Thread.sleep(lockWaitMs);
+            return redisTemplate.opsForValue().get(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Versioned cache poll failed for {}: {}", key, e.getMessage());
+        }
+        return null;
+    }
+
+    private String entryKey(String scope, String name) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + scope);
+        return ENTRY_KEY_PREFIX + scope + ":" + name + ":v" + (version != null ? version : "0");
+    }
+
+    private String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String encode(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache value", e);
+        }
+    }
+
+    private <T> T decode(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize cache value", e);
+        }
+    }
+}
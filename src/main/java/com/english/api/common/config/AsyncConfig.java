@@ -1,39 +1,133 @@
 package com.english.api.common.config;
 
+import com.english.api.common.async.BoundedVirtualTaskExecutor;
+import com.english.api.common.async.TimedTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * One executor per {@code @Async} workload, so a slow dependency only backs up its own work:
+ * <ul>
+ *     <li>{@code taskExecutor}: default for unqualified {@code @Async} (small notification bookkeeping)</li>
+ *     <li>{@code mailExecutor}: SMTP, virtual threads</li>
+ *     <li>{@code webhookExecutor}: n8n grading webhooks, virtual threads</li>
+ *     <li>{@code progressExecutor}: enrollment progress recomputation, bounded by the DB pool</li>
+ *     <li>{@code uploadExecutor}: fan-out of multi-file S3 uploads, virtual threads</li>
+ *     <li>{@code fulfillmentExecutor}: workers fulfilling paid orders from the outbox, bounded by the DB pool</li>
+ * </ul>
+ * Virtual thread executors make the caller wait up to their acquire timeout once their concurrency limit is
+ * reached, then reject the task with a {@link org.springframework.core.task.TaskRejectedException} (answered
+ * with 503); pools run the task on the caller's thread when full. Nothing is dropped silently. Every executor
+ * reports {@code executor.task.queued} and {@code executor.task.duration} timers and an
+ * {@code executor.task.active} gauge tagged with {@code name}; virtual thread executors add
+ * {@code executor.task.waiting} and {@code executor.task.rejected}, the pools the standard {@code executor.*}
+ * pool metrics.
+ */
 @Configuration
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String WEBHOOK_EXECUTOR = "webhookExecutor";
+    public static final String PROGRESS_EXECUTOR = "progressExecutor";
+    public static final String UPLOAD_EXECUTOR = "uploadExecutor";
+    public static final String FULFILLMENT_EXECUTOR = "fulfillmentExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.async.mail.concurrency:20}")
+    private int mailConcurrency;
+
+    @Value("${app.async.mail.acquire-timeout-ms:2000}")
+    private long mailAcquireTimeoutMs;
+
+    @Value("${app.async.webhook.concurrency:20}")
+    private int webhookConcurrency;
+
+    @Value("${app.async.webhook.acquire-timeout-ms:2000}")
+    private long webhookAcquireTimeoutMs;
+
+    @Value("${app.async.upload.concurrency:16}")
+    private int uploadConcurrency;
+
+    @Value("${app.async.upload.acquire-timeout-ms:5000}")
+    private long uploadAcquireTimeoutMs;
+
+    @Value("${app.async.progress.pool-size:4}")
+    private int progressPoolSize;
+
+    @Value("${app.async.progress.queue-capacity:500}")
+    private int progressQueueCapacity;
+
+    @Value("${app.async.fulfillment.workers:4}")
+    private int fulfillmentWorkers;
+
     @Bean(name = "taskExecutor")
     @Override
     public Executor getAsyncExecutor() {
+        return pool("async", 2, 5, 200, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public Executor mailExecutor() {
+        return virtual("mail", mailConcurrency, mailAcquireTimeoutMs);
+    }
+
+    @Bean(name = WEBHOOK_EXECUTOR)
+    public Executor webhookExecutor() {
+        return virtual("webhook", webhookConcurrency, webhookAcquireTimeoutMs);
+    }
+
+    @Bean(name = UPLOAD_EXECUTOR)
+    public Executor uploadExecutor() {
+        return virtual("upload", uploadConcurrency, uploadAcquireTimeoutMs);
+    }
+
+    @Bean(name = PROGRESS_EXECUTOR)
+    public Executor progressExecutor() {
+        return pool("progress", progressPoolSize, progressPoolSize, progressQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = FULFILLMENT_EXECUTOR)
+    public Executor fulfillmentExecutor() {
+        // The dispatcher never submits more than one batch, so the queue only has to hold that
+        return pool("fulfillment", fulfillmentWorkers, fulfillmentWorkers, 100, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor pool(String name, int coreSize, int maxSize, int queueCapacity,
+                                        RejectedExecutionHandler rejectionPolicy) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
-        // Core pool size: number of threads to keep alive
-        executor.setCorePoolSize(5);
-        
-        // Max pool size: maximum number of threads
-        executor.setMaxPoolSize(10);
-        
-        // Queue capacity: number of tasks to queue before rejecting
-        executor.setQueueCapacity(100);
-        
-        // Thread name prefix for easier debugging
-        executor.setThreadNamePrefix("async-");
-        
-        // Wait for tasks to complete on shutdown
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setRejectedExecutionHandler(rejectionPolicy);
+        executor.setTaskDecorator(new TimedTaskDecorator(meterRegistry, name));
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        
-        // Maximum time to wait for tasks on shutdown (seconds)
         executor.setAwaitTerminationSeconds(60);
-        
         executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, List.of()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    private BoundedVirtualTaskExecutor virtual(String name, int concurrencyLimit, long acquireTimeoutMs) {
+        BoundedVirtualTaskExecutor executor = new BoundedVirtualTaskExecutor(name, concurrencyLimit,
+                Duration.ofMillis(acquireTimeoutMs), meterRegistry);
+        executor.setTaskDecorator(new TimedTaskDecorator(meterRegistry, name));
+        executor.setTaskTerminationTimeout(60_000);
         return executor;
     }
 }
@@ -0,0 +1,49 @@
+package com.english.api.common.config;
+
+import com.english.api.common.dto.CursorRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CursorRequest} handler arguments. Cursor mode is opt-in: without a {@code cursor}
+ * parameter the argument is null and the endpoint keeps its offset pagination. An empty {@code cursor}
+ * requests the first page.
+ */
+public class CursorRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CursorRequest.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        String cursor = webRequest.getParameter("cursor");
+        if (cursor == null) {
+            return null;
+        }
+        String size = webRequest.getParameter("size");
+        if (size == null) {
+            size = webRequest.getParameter("pageSize");
+        }
+        return CursorRequest.of(cursor, parseSize(size));
+    }
+
+    private int parseSize(String size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_SIZE, Integer.parseInt(size)));
+        } catch (NumberFormatException e) {
+            return DEFAULT_SIZE;
+        }
+    }
+}
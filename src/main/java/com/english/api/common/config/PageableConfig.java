@@ -3,14 +3,23 @@ package com.english.api.common.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.PageableHandlerMethodArgumentResolverCustomizer;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 /**
  * Created by hungpham on 9/22/2025
  */
 @Configuration
-public class PageableConfig {
+public class PageableConfig implements WebMvcConfigurer {
     @Bean
     public PageableHandlerMethodArgumentResolverCustomizer customize() {
         return resolver -> resolver.setOneIndexedParameters(true);
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CursorRequestArgumentResolver());
+    }
 }
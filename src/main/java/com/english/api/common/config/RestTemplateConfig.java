@@ -1,5 +1,6 @@
 package com.english.api.common.config;
 
+import com.english.api.common.http.OutboundHttpClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,8 +8,11 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Shared client for callers without a dedicated target in {@link OutboundHttpClients}.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(OutboundHttpClients outboundHttpClients) {
+        return outboundHttpClients.restTemplate(OutboundHttpClients.DEFAULT);
     }
 }
@@ -1,13 +1,19 @@
 package com.english.api.common.controller;
 
+import com.english.api.common.dto.CompleteUploadRequest;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.MediaUploadResponse;
+import com.english.api.common.dto.PresignUploadRequest;
+import com.english.api.common.dto.PresignedUploadResponse;
 import com.english.api.common.service.MediaService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -51,6 +57,18 @@ public class MediaController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Issue a presigned PUT so the client uploads straight to storage, then call {@code /upload/complete}.
+     */
+    @PostMapping("/upload/presign")
+    public ResponseEntity<PresignedUploadResponse> presignUpload(@Valid @RequestBody PresignUploadRequest request) {
+        return ResponseEntity.ok(mediaService.presignUpload(request));
+    }
+
+    @PostMapping("/upload/complete")
+    public ResponseEntity<MediaUploadResponse> completeUpload(@Valid @RequestBody CompleteUploadRequest request) {
+        return ResponseEntity.ok(mediaService.completeUpload(request.key()));
+    }
 
     @DeleteMapping("/delete")
     @PreAuthorize("hasRole('ADMIN')")
@@ -59,10 +77,16 @@ public class MediaController {
         return ResponseEntity.ok().build();
     }
     
+    /**
+     * All file URLs in the folder, or one page of them when a {@code cursor} parameter is present; send an empty
+     * {@code cursor} for the first page. {@code size} alone is ignored and returns the full listing.
+     */
     @GetMapping("/list")
-    public ResponseEntity<List<String>> listFilesInFolder(@RequestParam("folder") String folder) {
-        List<String> fileUrls = mediaService.listFilesInFolder(folder);
-        return ResponseEntity.ok(fileUrls);
+    public ResponseEntity<?> listFilesInFolder(@RequestParam("folder") String folder, CursorRequest cursorRequest) {
+        if (cursorRequest != null) {
+            return ResponseEntity.ok(mediaService.listFilesInFolder(folder, cursorRequest));
+        }
+        return ResponseEntity.ok(mediaService.listFilesInFolder(folder));
     }
     
     @DeleteMapping("/folder")
@@ -0,0 +1,9 @@
+package com.english.api.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CompleteUploadRequest(
+        @NotBlank(message = "Key is required")
+        String key
+) {
+}
@@ -0,0 +1,91 @@
+package com.english.api.common.dto;
+
+import com.english.api.common.exception.ResourceInvalidException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) page request. The cursor is an opaque token holding the sort key and id of the last row
+ * of the previous page; {@code after == null} requests the first page.
+ * Resolved from the {@code cursor} and {@code size} request parameters, see
+ * {@link com.english.api.common.config.PageableConfig}.
+ */
+public record CursorRequest(Position after, int size) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Decode a cursor token; a blank token means the first page.
+     */
+    public static CursorRequest of(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return new CursorRequest(null, size);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ResourceInvalidException("Invalid cursor");
+            }
+            String sortKey = decoded.substring(0, separator);
+            return new CursorRequest(new Position(sortKey.isEmpty() ? null : sortKey, decoded.substring(separator + 1)), size);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceInvalidException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encode the position of a row; {@code sortKey} may be null for nullable sort columns.
+     */
+    public static String encode(Object sortKey, Object id) {
+        String raw = (sortKey != null ? sortKey.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return after == null;
+    }
+
+    /**
+     * One row more than the page size, to tell whether a next page exists without a COUNT.
+     */
+    public Limit limit() {
+        return Limit.of(size + 1);
+    }
+
+    public record Position(String sortKey, String id) {
+
+        public Instant instantKey() {
+            return parse(sortKey, Instant::parse);
+        }
+
+        public LocalDateTime localDateTimeKey() {
+            return parse(sortKey, LocalDateTime::parse);
+        }
+
+        public UUID uuidId() {
+            return parse(id, UUID::fromString);
+        }
+
+        public Long longId() {
+            return parse(id, Long::valueOf);
+        }
+
+        private static <T> T parse(String value, Function<String, T> parser) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value);
+            } catch (RuntimeException e) {
+                throw new ResourceInvalidException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -5,6 +5,10 @@ package com.english.api.common.dto;
  */
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,11 +20,30 @@ public record PaginationResponse(Meta meta, Object result) implements Serializab
                 pageable.getPageNumber() + 1,
                 pageable.getPageSize(),
                 page.getTotalPages(),
-                page.getTotalElements()
+                page.getTotalElements(),
+                null,
+                null
         );
         return new PaginationResponse(meta, page.getContent());
     }
-    public record Meta(int page, int pageSize, int pages, long total) implements Serializable {
+
+    /**
+     * Build a cursor page from rows fetched with {@link CursorRequest#limit()} (one row more than requested).
+     * No total is computed; {@code meta.nextCursor} is the position of the last returned row.
+     * The mapper receives the whole page so it can batch-load related data.
+     */
+    public static <T> PaginationResponse fromCursor(List<T> rows, CursorRequest request,
+                                                    Function<T, String> cursorOf, Function<List<T>, List<?>> mapper) {
+        boolean hasNext = rows.size() > request.size();
+        List<T> pageRows = hasNext ? rows.subList(0, request.size()) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        Meta meta = new Meta(null, request.size(), null, null, nextCursor, hasNext);
+        return new PaginationResponse(meta, mapper.apply(pageRows));
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Meta(Integer page, int pageSize, Integer pages, Long total,
+                       String nextCursor, Boolean hasNext) implements Serializable {
         @Serial
         private static final long serialVersionUID = 1L;
     }
@@ -0,0 +1,19 @@
+package com.english.api.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Declared metadata of a file the client is about to upload directly to storage.
+ */
+public record PresignUploadRequest(
+        @NotBlank(message = "Folder is required")
+        String folder,
+        @NotBlank(message = "File name is required")
+        String fileName,
+        @NotBlank(message = "Content type is required")
+        String contentType,
+        @Positive(message = "Size must be positive")
+        long size
+) {
+}
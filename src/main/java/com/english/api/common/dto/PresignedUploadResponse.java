@@ -0,0 +1,17 @@
+package com.english.api.common.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Where and how to upload: the client sends {@code method} to {@code uploadUrl} with exactly {@code headers},
+ * then confirms with {@code key} on the completion endpoint.
+ */
+public record PresignedUploadResponse(
+        String key,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -4,6 +4,7 @@ import com.english.api.common.dto.ApiResponse;
 import com.english.api.common.util.constant.ErrorCode;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -105,6 +106,17 @@ public class GlobalExceptionHandler {
         return buildResponse(ErrorCode.DUPLICATE_KEY, ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceBusyException(ServiceBusyException ex) {
+        return buildResponse(ErrorCode.SERVICE_BUSY, ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTaskRejectedException(TaskRejectedException ex) {
+        return buildResponse(ErrorCode.SERVICE_BUSY, "Server is busy, please retry shortly.",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleException(Exception ex) {
         return buildResponse(ErrorCode.EXCEPTION, ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,10 @@
+package com.english.api.common.exception;
+
+/**
+ * Thrown when a node-local capacity limit is reached and the client should retry later.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
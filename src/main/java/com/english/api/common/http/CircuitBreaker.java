@@ -0,0 +1,97 @@
+package com.english.api.common.http;
+
+/**
+ * Count-based circuit breaker. Opens when at least {@code failureRateThreshold} percent of the last
+ * {@code windowSize} calls failed, rejects calls while open, then lets a single probe through;
+ * the probe's outcome closes or re-opens the circuit.
+ */
+class CircuitBreaker {
+
+    enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureRateThreshold;
+    private final long openDurationMs;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int calls;
+    private int failures;
+    private long openedAtMs;
+    private boolean probeInFlight;
+
+    CircuitBreaker(int failureRateThreshold, int windowSize, long openDurationMs) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.window = new boolean[Math.max(1, windowSize)];
+    }
+
+    synchronized boolean tryAcquire(long nowMs) {
+        if (state == State.OPEN) {
+            if (nowMs - openedAtMs < openDurationMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure(long nowMs) {
+        if (state == State.HALF_OPEN) {
+            open(nowMs);
+            return;
+        }
+        record(true);
+        if (calls == window.length && failures * 100 >= failureRateThreshold * calls) {
+            open(nowMs);
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length) {
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % window.length;
+    }
+
+    private void open(long nowMs) {
+        state = State.OPEN;
+        openedAtMs = nowMs;
+        probeInFlight = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        calls = 0;
+        failures = 0;
+        index = 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.english.api.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link RestTemplate} per outbound target, each on its own keep-alive connection pool with its own
+ * timeouts, bulkhead and circuit breaker, so a slow upstream cannot exhaust what the others need.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClients {
+
+    public static final String DEFAULT = "default";
+    public static final String GOOGLE_OAUTH = "google-oauth";
+    public static final String EXCHANGE_RATE = "exchange-rate";
+    public static final String N8N_WEBHOOK = "n8n-webhook";
+    public static final String N8N_AI_PLAN = "n8n-ai-plan";
+    public static final String VIDEO_WORKER = "video-worker";
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+
+    public RestTemplate restTemplate(String target) {
+        return restTemplates.computeIfAbsent(target, this::create);
+    }
+
+    private RestTemplate create(String target) {
+        OutboundHttpProperties.Target settings = properties.resolve(target);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.getReadTimeout());
+
+        return new RestTemplate(new ResilientRequestFactory(requestFactory, target, settings, meterRegistry));
+    }
+}
@@ -0,0 +1,53 @@
+package com.english.api.common.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Timeouts, bulkhead and circuit breaker settings per outbound target ({@code app.http.targets.<name>}).
+ * Unset target values fall back to {@code app.http.defaults}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.http")
+public class OutboundHttpProperties {
+
+    private Target defaults = new Target();
+    private Map<String, Target> targets = new HashMap<>();
+
+    public Target resolve(String name) {
+        Target target = targets.getOrDefault(name, new Target());
+        Target resolved = new Target();
+        resolved.setConnectTimeout(pick(target.getConnectTimeout(), defaults.getConnectTimeout(), Duration.ofSeconds(3)));
+        resolved.setReadTimeout(pick(target.getReadTimeout(), defaults.getReadTimeout(), Duration.ofSeconds(10)));
+        resolved.setMaxConcurrent(pick(target.getMaxConcurrent(), defaults.getMaxConcurrent(), 50));
+        resolved.setFailureRateThreshold(pick(target.getFailureRateThreshold(), defaults.getFailureRateThreshold(), 50));
+        resolved.setSlidingWindowSize(pick(target.getSlidingWindowSize(), defaults.getSlidingWindowSize(), 20));
+        resolved.setOpenDuration(pick(target.getOpenDuration(), defaults.getOpenDuration(), Duration.ofSeconds(30)));
+        return resolved;
+    }
+
+    private static <T> T pick(T value, T fallback, T builtIn) {
+        return value != null ? value : fallback != null ? fallback : builtIn;
+    }
+
+    @Getter
+    @Setter
+    public static class Target {
+        private Duration connectTimeout;
+        private Duration readTimeout;
+        // Bulkhead: calls beyond this fail fast instead of piling up threads
+        private Integer maxConcurrent;
+        // Percentage of failed calls in the window that opens the circuit
+        private Integer failureRateThreshold;
+        private Integer slidingWindowSize;
+        private Duration openDuration;
+    }
+}
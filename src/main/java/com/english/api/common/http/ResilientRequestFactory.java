@@ -0,0 +1,146 @@
+package com.english.api.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Applies the bulkhead and circuit breaker of one target and records
+ * {@code http.client.outbound.requests} tagged with target, host and outcome.
+ * 5xx responses and I/O errors count as failures; 4xx means the upstream is healthy.
+ * <p>
+ * Implemented as a request factory decorator rather than an interceptor so request bodies
+ * (e.g. video uploads) keep streaming instead of being buffered in memory.
+ */
+class ResilientRequestFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory delegate;
+    private final String target;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    ResilientRequestFactory(ClientHttpRequestFactory delegate, String target,
+                            OutboundHttpProperties.Target settings, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.target = target;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(settings.getMaxConcurrent());
+        this.circuitBreaker = new CircuitBreaker(settings.getFailureRateThreshold(),
+                settings.getSlidingWindowSize(), settings.getOpenDuration().toMillis());
+        Tags tags = Tags.of("target", target);
+        meterRegistry.gauge("http.client.outbound.bulkhead.available", tags, bulkhead, Semaphore::availablePermits);
+        meterRegistry.gauge("http.client.outbound.circuit.state", tags, circuitBreaker, cb -> cb.state().ordinal());
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request = delegate.createRequest(uri, httpMethod);
+        return request instanceof StreamingHttpOutputMessage
+                ? new StreamingGuardedRequest(request)
+                : new GuardedRequest(request);
+    }
+
+    private ClientHttpResponse execute(ClientHttpRequest request) throws IOException {
+        String host = String.valueOf(request.getURI().getHost());
+        if (!bulkhead.tryAcquire()) {
+            reject(host, "bulkhead_full");
+            throw new UpstreamUnavailableException("Too many concurrent calls to " + target);
+        }
+        try {
+            if (!circuitBreaker.tryAcquire(System.currentTimeMillis())) {
+                reject(host, "circuit_open");
+                throw new UpstreamUnavailableException("Circuit open for " + target);
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "io_error";
+            try {
+                ClientHttpResponse response = request.execute();
+                int status = response.getStatusCode().value();
+                outcome = (status / 100) + "xx";
+                if (status >= 500) {
+                    circuitBreaker.onFailure(System.currentTimeMillis());
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onFailure(System.currentTimeMillis());
+                throw e;
+            } finally {
+                sample.stop(meterRegistry.timer("http.client.outbound.requests",
+                        "target", target, "host", host, "outcome", outcome));
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void reject(String host, String reason) {
+        meterRegistry.counter("http.client.outbound.rejected",
+                "target", target, "host", host, "reason", reason).increment();
+    }
+
+    private class GuardedRequest implements ClientHttpRequest {
+
+        protected final ClientHttpRequest request;
+
+        GuardedRequest(ClientHttpRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            return ResilientRequestFactory.this.execute(request);
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return request.getBody();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return request.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return request.getURI();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return request.getAttributes();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return request.getHeaders();
+        }
+    }
+
+    private class StreamingGuardedRequest extends GuardedRequest implements StreamingHttpOutputMessage {
+
+        StreamingGuardedRequest(ClientHttpRequest request) {
+            super(request);
+        }
+
+        @Override
+        public void setBody(Body body) {
+            ((StreamingHttpOutputMessage) request).setBody(body);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.english.api.common.http;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Thrown without calling the upstream when its circuit is open or its bulkhead is full.
+ */
+public class UpstreamUnavailableException extends ResourceAccessException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
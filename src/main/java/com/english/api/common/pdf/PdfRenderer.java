@@ -0,0 +1,228 @@
+package com.english.api.common.pdf;
+
+import com.english.api.common.exception.ServiceBusyException;
+import com.openhtmltopdf.extend.FSCacheEx;
+import com.openhtmltopdf.extend.FSCacheValue;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder;
+import com.openhtmltopdf.pdfboxout.PDFontSupplier;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders Thymeleaf templates to PDF with the shared DejaVu fonts.
+ * <p>
+ * Font files are read from the classpath and parsed once per render slot; each render borrows a parsed set
+ * and embeds a subset of it into its own document, so a document only pays for layout and subsetting.
+ * Renders are CPU bound and a node-wide semaphore sized to the cores caps how many run at once; callers that cannot get a slot within the acquire timeout get
+ * a {@link ServiceBusyException}. The configured templates and the font pipeline are warmed at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PdfRenderer {
+
+    private static final String FONT_FAMILY = "DejaVu Sans";
+    private static final String WARMUP_HTML = "<html><body style=\"font-family: 'DejaVu Sans'\">"
+            + "Hóa đơn <b>đã thanh toán</b></body></html>";
+
+    private final SpringTemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.pdf.max-concurrent:0}")
+    private int maxConcurrent;
+
+    @Value("${app.pdf.acquire-timeout-ms:30000}")
+    private long acquireTimeoutMs;
+
+    @Value("${app.pdf.initial-buffer-kb:64}")
+    private int initialBufferKb;
+
+    @Value("${app.pdf.templates:invoice,dashboard-report}")
+    private List<String> templates;
+
+    private final FSCacheEx<String, FSCacheValue> fontMetrics = new FSDefaultCacheStore();
+    private byte[] regularFont;
+    private byte[] boldFont;
+    // One parsed set per permit: a TrueTypeFont is read lazily and must not be shared by concurrent renders
+    private BlockingQueue<ParsedFonts> idleFonts;
+
+    private Semaphore permits;
+    private int permitCount;
+    private Counter rejected;
+    private DistributionSummary documentSize;
+
+    @PostConstruct
+    public void init() {
+        regularFont = readFont("fonts/DejaVuSans.ttf");
+        boldFont = readFont("fonts/DejaVuSans-Bold.ttf");
+
+        permitCount = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        permits = new Semaphore(permitCount, true);
+        idleFonts = new ArrayBlockingQueue<>(permitCount);
+        for (int i = 0; i < permitCount; i++) {
+            idleFonts.add(parseFonts());
+        }
+        rejected = meterRegistry.counter("pdf.render.rejected");
+        documentSize = DistributionSummary.builder("pdf.render.size").baseUnit("bytes").register(meterRegistry);
+        meterRegistry.gauge("pdf.render.active", permits, p -> permitCount - p.availablePermits());
+    }
+
+    /**
+     * Parse the templates and load the fonts before the first real document needs them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (String template : templates) {
+            try {
+                // Parsing caches the template even when the empty context fails evaluation
+                templateEngine.process(template, new Context());
+            } catch (Exception e) {
+                log.debug("Template {} parsed, warm-up evaluation skipped: {}", template, e.getMessage());
+            }
+        }
+        try {
+            writePdf(WARMUP_HTML, new PdfBuffer(1024));
+        } catch (Exception e) {
+            log.warn("PDF renderer warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Render {@code template} with {@code context} to a PDF held in memory.
+     */
+    public RenderedPdf render(String template, IContext context) {
+        acquire();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            String html = templateEngine.process(template, context);
+            PdfBuffer out = new PdfBuffer(initialBufferKb * 1024);
+            writePdf(html, out);
+            documentSize.record(out.size());
+            return out;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            permits.release();
+            sample.stop(meterRegistry.timer("pdf.render", "template", template, "outcome", outcome));
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new ServiceBusyException("Too many documents being generated, please retry shortly.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("PDF generation interrupted.");
+        }
+    }
+
+    private void writePdf(String html, PdfBuffer out) {
+        ParsedFonts fonts = idleFonts.poll();
+        if (fonts == null) {
+            // Renders hold a permit and always find a set; only the warm-up can get here
+            fonts = parseFonts();
+        }
+        try (PDDocument document = new PDDocument()) {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.useFastMode();
+            builder.usePDDocument(document);
+            builder.useCacheStore(PdfRendererBuilder.CacheStore.PDF_FONT_METRICS, fontMetrics);
+            builder.useFont(new PDFontSupplier(PDType0Font.load(document, fonts.regular(), true)), FONT_FAMILY, 400,
+                    BaseRendererBuilder.FontStyle.NORMAL, true);
+            builder.useFont(new PDFontSupplier(PDType0Font.load(document, fonts.bold(), true)), FONT_FAMILY, 700,
+                    BaseRendererBuilder.FontStyle.NORMAL, true);
+            builder.withHtmlContent(html, null);
+            builder.toStream(out);
+            builder.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render PDF", e);
+        } finally {
+            idleFonts.offer(fonts);
+        }
+    }
+
+    private ParsedFonts parseFonts() {
+        try {
+            return new ParsedFonts(
+                    new TTFParser().parse(new RandomAccessReadBuffer(regularFont)),
+                    new TTFParser().parse(new RandomAccessReadBuffer(boldFont)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse PDF fonts", e);
+        }
+    }
+
+    private record ParsedFonts(TrueTypeFont regular, TrueTypeFont bold) {
+    }
+
+    private static byte[] readFont(String path) {
+        try (var in = new ClassPathResource(path).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing PDF font " + path, e);
+        }
+    }
+
+    /**
+     * A rendered document. The bytes can be handed to the S3 client without another copy.
+     */
+    public interface RenderedPdf {
+        int size();
+
+        byte[] toByteArray();
+
+        AsyncRequestBody asRequestBody();
+    }
+
+    private static final class PdfBuffer extends ByteArrayOutputStream implements RenderedPdf {
+        private PdfBuffer(int initialSize) {
+            super(initialSize);
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            return count == buf.length ? buf : Arrays.copyOf(buf, count);
+        }
+
+        @Override
+        public AsyncRequestBody asRequestBody() {
+            return AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(buf, 0, count));
+        }
+    }
+}
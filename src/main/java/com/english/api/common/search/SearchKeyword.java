@@ -0,0 +1,48 @@
+package com.english.api.common.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A user supplied search keyword normalized the same way as the indexed documents
+ * ({@code f_unaccent(lower(...))} in db/search/text_search.sql): lower-cased, diacritics and đ stripped,
+ * whitespace collapsed.
+ *
+ * @param text    normalized keyword, used for trigram matching
+ * @param tsQuery prefix tsquery built from the alphanumeric tokens of the keyword,
+ *                {@code null} when the keyword has none (e.g. only punctuation)
+ */
+public record SearchKeyword(String text, String tsQuery) {
+
+    private static final int MAX_TOKENS = 8;
+
+    /**
+     * @return the normalized keyword, or {@code null} for a blank input
+     */
+    public static SearchKeyword of(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String text = Normalizer.normalize(raw.trim().toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "")
+                .replace('đ', 'd')
+                .replaceAll("\\s+", " ");
+
+        // Tokens only contain [a-z0-9], so the tsquery cannot be malformed
+        String tsQuery = Arrays.stream(text.split("[^a-z0-9]+"))
+                .filter(token -> !token.isEmpty())
+                .limit(MAX_TOKENS)
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+        return new SearchKeyword(text, tsQuery.isEmpty() ? null : tsQuery);
+    }
+
+    public static String textOf(SearchKeyword keyword) {
+        return keyword != null ? keyword.text() : null;
+    }
+
+    public static String tsQueryOf(SearchKeyword keyword) {
+        return keyword != null ? keyword.tsQuery() : null;
+    }
+}
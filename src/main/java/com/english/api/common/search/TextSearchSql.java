@@ -0,0 +1,34 @@
+package com.english.api.common.search;
+
+/**
+ * SQL fragments for keyword search over a {@code search_vector} column (GIN, tsvector) and a
+ * trigram-indexed title, shared by the native search queries. The fragments bind the named parameters
+ * {@code :keyword} ({@link SearchKeyword#text()}) and {@code :tsQuery} ({@link SearchKeyword#tsQuery()}).
+ * <p>
+ * Documents are indexed with both the {@code simple} configuration over unaccented text (Vietnamese,
+ * exact words) and the {@code english} configuration (stemming), so the query is matched against both.
+ */
+public final class TextSearchSql {
+    private TextSearchSql() {}
+
+    private static final String TS_QUERY = "(to_tsquery('simple', CAST(:tsQuery AS text)) "
+            + "|| to_tsquery('english', CAST(:tsQuery AS text)))";
+
+    /**
+     * Full-text match on the vector, or fuzzy word match on the title for typos and partial words.
+     * Evaluates to true when no keyword is given.
+     */
+    public static String matches(String vectorColumn, String titleColumn) {
+        return "(CAST(:keyword AS text) IS NULL"
+                + " OR " + vectorColumn + " @@ " + TS_QUERY
+                + " OR CAST(:keyword AS text) <% f_unaccent(lower(" + titleColumn + ")))";
+    }
+
+    /**
+     * Relevance score: weighted full-text rank plus title trigram similarity.
+     */
+    public static String rank(String vectorColumn, String titleColumn) {
+        return "(COALESCE(ts_rank_cd(" + vectorColumn + ", " + TS_QUERY + "), 0)"
+                + " + word_similarity(CAST(:keyword AS text), f_unaccent(lower(" + titleColumn + "))))";
+    }
+}
@@ -1,6 +1,10 @@
 package com.english.api.common.service;
 
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.MediaUploadResponse;
+import com.english.api.common.dto.PaginationResponse;
+import com.english.api.common.dto.PresignUploadRequest;
+import com.english.api.common.dto.PresignedUploadResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -12,8 +16,24 @@ import java.util.List;
 public interface MediaService {
     MediaUploadResponse uploadFile(MultipartFile file, String folder) throws IOException;
     List<MediaUploadResponse> uploadFiles(List<MultipartFile> files, String folder) throws IOException;
+
+    /**
+     * Validate the declared file against the folder rules and return a presigned PUT for it.
+     */
+    PresignedUploadResponse presignUpload(PresignUploadRequest request);
+
+    /**
+     * Verify a presigned upload of the current user landed as declared, publish it under {@code key} and return its
+     * public URL.
+     */
+    MediaUploadResponse completeUpload(String key);
     void deleteFile(String key);
     void deleteFileByUrl(String avatarUrl);
     List<String> listFilesInFolder(String folderPath);
+
+    /**
+     * One page of file URLs under {@code folderPath}, in key order.
+     */
+    PaginationResponse listFilesInFolder(String folderPath, CursorRequest request);
     void deleteFolder(String folderPath);
 }
@@ -1,24 +1,39 @@
 package com.english.api.common.service.impl;
 
+import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.MediaUploadResponse;
+import com.english.api.common.dto.PresignUploadRequest;
+import com.english.api.common.dto.PaginationResponse;
+import com.english.api.common.dto.PresignedUploadResponse;
+import com.english.api.common.exception.AccessDeniedException;
 import com.english.api.common.exception.CannotDeleteException;
+import com.english.api.common.exception.OperationNotAllowedException;
 import com.english.api.common.exception.ResourceInvalidException;
+import com.english.api.common.exception.ResourceNotFoundException;
 import com.english.api.common.service.MediaService;
+import com.english.api.common.storage.S3Inventory;
+import com.english.api.common.storage.S3StreamingUploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.stream.Collectors;
 
 /**
  * Created by hungpham on 10/5/2025
@@ -28,10 +43,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MediaServiceImpl implements MediaService {
     private final S3AsyncClient s3Client;
+    private final S3StreamingUploader uploader;
+    private final S3Inventory inventory;
+    private final ObjectProvider<S3Presigner> presigner;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Pending direct uploads: media:upload:<objectKey> -> hash of the declared metadata
+    private static final String PENDING_UPLOAD_PREFIX = "media:upload:";
+    // Object keys of every presigned upload, scored by when its staging object may be swept
+    private static final String UPLOAD_SWEEP_KEY = "media:upload-sweep";
+    // Presigned PUTs land here and are copied to their real key once verified, so the URL never reaches it
+    private static final String STAGING_PREFIX = "pending-uploads/";
+    private static final int SWEEP_BATCH_SIZE = 200;
 
     @Value("${cloud.public-url}")
     private String publicUrl;
 
+    @Value("${app.media.presign.expiry-minutes:5}")
+    private long presignExpiryMinutes;
+
     @Value("${cloud.bucket}")
     private String bucket;
 
@@ -98,12 +128,56 @@ public class MediaServiceImpl implements MediaService {
 
     @Override
     public MediaUploadResponse uploadFile(MultipartFile file, String folder) throws IOException {
+        PreparedUpload upload = prepare(file, folder);
+        try (InputStream in = file.getInputStream()) {
+            uploader.upload(bucket, upload.key(), upload.contentType(), in, file.getSize());
+        }
+        return upload.toResponse(publicUrl, file.getSize());
+    }
+
+    @Override
+    public List<MediaUploadResponse> uploadFiles(List<MultipartFile> files, String folder) throws IOException {
+        // Validate everything first so a bad file does not leave its siblings uploaded
+        List<PreparedUpload> uploads = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            uploads.add(prepare(file, folder));
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            PreparedUpload upload = uploads.get(i);
+            futures.add(uploader.uploadAsync(bucket, upload.key(), upload.contentType(), file, file.getSize()));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        List<MediaUploadResponse> responses = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            responses.add(uploads.get(i).toResponse(publicUrl, files.get(i).getSize()));
+        }
+        return responses;
+    }
+
+    /**
+     * Check the file against the folder rules and pick its object key.
+     */
+    private PreparedUpload prepare(MultipartFile file, String folder) {
+        return prepare(file.getOriginalFilename(), file.getContentType(), file.isEmpty() ? 0 : file.getSize(), folder);
+    }
+
+    private PreparedUpload prepare(String originalFilename, String contentType, long size, String folder) {
         // Kiểm tra cơ bản
-        if (file.isEmpty() || file.getSize() == 0) {
+        if (size <= 0) {
             throw new ResourceInvalidException("Uploaded file is empty.");
         }
 
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new ResourceInvalidException("File name is missing or invalid.");
         }
@@ -115,7 +189,6 @@ public class MediaServiceImpl implements MediaService {
             throw new ResourceInvalidException("Invalid folder path.");
         }
 
-        String contentType = file.getContentType();
         if (contentType == null) {
             throw new ResourceInvalidException("Unknown content type.");
         }
@@ -134,7 +207,7 @@ public class MediaServiceImpl implements MediaService {
         }
 
         // Kiểm tra dung lượng tối đa
-        if (file.getSize() > rule.maxSize) {
+        if (size > rule.maxSize) {
             throw new ResourceInvalidException(String.format(
                     "File size exceeds the limit for folder '%s' (%.2f MB max).",
                     folder, rule.maxSize / 1024.0 / 1024.0));
@@ -145,7 +218,7 @@ public class MediaServiceImpl implements MediaService {
             throw new ResourceInvalidException("Unsupported file extension.");
         }
 
-        // Upload lên S3
+        // Tạo key trên S3
         String extension = "";
         int dotIndex = originalFilename.lastIndexOf('.');
         if (dotIndex > 0 && dotIndex < originalFilename.length() - 1) {
@@ -156,43 +229,147 @@ public class MediaServiceImpl implements MediaService {
                 folder.replaceAll("^/+", "").replaceAll("/+$", ""),
                 filename);
 
-        PutObjectRequest req = PutObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .contentType(contentType)
-                .build();
-
-        CompletableFuture<PutObjectResponse> future = s3Client.putObject(req,
-                AsyncRequestBody.fromBytes(file.getBytes()));
-
-        future.join();
+        return new PreparedUpload(filename, key, contentType);
+    }
 
-        String url = String.join("/", publicUrl.replaceAll("/+$", ""), key);
+    private record PreparedUpload(String filename, String key, String contentType) {
+        MediaUploadResponse toResponse(String publicUrl, long size) {
+            String url = String.join("/", publicUrl.replaceAll("/+$", ""), key);
+            return new MediaUploadResponse(filename, url, size, contentType);
+        }
+    }
 
-        return new MediaUploadResponse(
-                filename,
-                url,
-                file.getSize(),
-                contentType);
+    @Override
+    public PresignedUploadResponse presignUpload(PresignUploadRequest request) {
+        S3Presigner signer = presigner.getIfAvailable();
+        if (signer == null) {
+            throw new OperationNotAllowedException("Direct uploads are not enabled.");
+        }
+        PreparedUpload upload = prepare(request.fileName(), request.contentType(), request.size(), request.folder());
+        Duration expiry = Duration.ofMinutes(presignExpiryMinutes);
+
+        // Content type and length are part of the signature, so S3 rejects any other body
+        PresignedPutObjectRequest presigned = signer.presignPutObject(r -> r
+                .signatureDuration(expiry)
+                .putObjectRequest(o -> o.bucket(bucket)
+                        .key(STAGING_PREFIX + upload.key())
+                        .contentType(upload.contentType())
+                        .contentLength(request.size())));
+
+        String pendingKey = PENDING_UPLOAD_PREFIX + upload.key();
+        redisTemplate.opsForHash().putAll(pendingKey, Map.of(
+                "userId", SecurityUtil.getCurrentUserId().toString(),
+                "fileName", upload.filename(),
+                "contentType", upload.contentType(),
+                "size", String.valueOf(request.size())));
+        // Leave time to finish an upload that started just before the URL expired
+        Duration retention = expiry.multipliedBy(2);
+        redisTemplate.expire(pendingKey, retention);
+        redisTemplate.opsForZSet().add(UPLOAD_SWEEP_KEY, upload.key(),
+                System.currentTimeMillis() + retention.toMillis());
+
+        Map<String, String> headers = new HashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUploadResponse(upload.key(), presigned.url().toString(),
+                presigned.httpRequest().method().name(), headers, presigned.expiration());
     }
 
     @Override
-    public List<MediaUploadResponse> uploadFiles(List<MultipartFile> files, String folder) throws IOException {
-        List<CompletableFuture<MediaUploadResponse>> futures = new ArrayList<>();
+    public MediaUploadResponse completeUpload(String key) {
+        String pendingKey = PENDING_UPLOAD_PREFIX + key;
+        Map<Object, Object> pending = redisTemplate.opsForHash().entries(pendingKey);
+        if (pending.isEmpty()) {
+            throw new ResourceNotFoundException("Upload not found or expired.");
+        }
+        if (!SecurityUtil.getCurrentUserId().toString().equals(pending.get("userId"))) {
+            throw new AccessDeniedException("You are not allowed to complete this upload.");
+        }
+        String contentType = (String) pending.get("contentType");
+        long size = Long.parseLong((String) pending.get("size"));
+        String stagingKey = STAGING_PREFIX + key;
 
-        for (MultipartFile file : files) {
-            futures.add(CompletableFuture.supplyAsync(() -> {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(r -> r.bucket(bucket).key(stagingKey)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof NoSuchKeyException) {
+                throw new ResourceInvalidException("File has not been uploaded yet.");
+            }
+            throw e;
+        }
+
+        if (head.contentLength() == null || head.contentLength() != size
+                || !contentType.equalsIgnoreCase(head.contentType()) || head.eTag() == null) {
+            redisTemplate.delete(pendingKey);
+            deleteStagedUpload(stagingKey);
+            throw new ResourceInvalidException("Uploaded file does not match the declared size or type.");
+        }
+
+        // The presigned URL stays usable until it expires: only the exact object checked above is published
+        try {
+            s3Client.copyObject(r -> r.sourceBucket(bucket).sourceKey(stagingKey)
+                    .destinationBucket(bucket).destinationKey(key)
+                    .copySourceIfMatch(head.eTag())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof S3Exception s3 && s3.statusCode() == 412) {
+                throw new ResourceInvalidException("File changed while it was being verified, please complete again.");
+            }
+            throw e;
+        }
+
+        redisTemplate.delete(pendingKey);
+        redisTemplate.opsForZSet().remove(UPLOAD_SWEEP_KEY, key);
+        deleteStagedUpload(stagingKey);
+        return new PreparedUpload((String) pending.get("fileName"), key, contentType).toResponse(publicUrl, size);
+    }
+
+    /**
+     * Remove staging objects and pending entries of presigned uploads that were never completed, in batches until
+     * no expired entry is left. Members are claimed with ZREM, so each one is swept by a single node. A completed
+     * upload drops its own entry; a PUT replayed after completion is left to the bucket's lifecycle rule on
+     * {@code pending-uploads/}.
+     */
+    @Scheduled(fixedDelayString = "${app.media.presign.sweep-interval-ms:300000}")
+    public void sweepExpiredUploads() {
+        long now = System.currentTimeMillis();
+        int swept = 0;
+        Set<String> due;
+        do {
+            try {
+                due = redisTemplate.opsForZSet()
+                        .rangeByScore(UPLOAD_SWEEP_KEY, 0, now, 0, SWEEP_BATCH_SIZE);
+            } catch (Exception e) {
+                log.warn("Failed to read expired uploads: {}", e.getMessage());
+                break;
+            }
+            if (due == null) {
+                break;
+            }
+            for (String key : due) {
+                Long claimed = redisTemplate.opsForZSet().remove(UPLOAD_SWEEP_KEY, key);
+                if (claimed == null || claimed == 0) {
+                    continue;
+                }
+                redisTemplate.delete(PENDING_UPLOAD_PREFIX + key);
                 try {
-                    return uploadFile(file, folder);
-                } catch (IOException e) {
-                    throw new CompletionException(e);
+                    deleteStagedUpload(STAGING_PREFIX + key);
+                    swept++;
+                } catch (Exception e) {
+                    log.warn("Failed to delete staged upload {}: {}", key, e.getMessage());
                 }
-            }));
+            }
+        } while (due.size() == SWEEP_BATCH_SIZE);
+        if (swept > 0) {
+            log.info("Swept {} expired direct uploads", swept);
         }
+    }
 
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .collect(Collectors.toList());
+    private void deleteStagedUpload(String stagingKey) {
+        inventory.deleteAllVersions(bucket, stagingKey, stagingKey::equals);
     }
 
     @Override
@@ -217,191 +394,74 @@ public class MediaServiceImpl implements MediaService {
     @Override
     public void deleteFile(String key) {
         try {
-            // Bước 1: List tất cả versions của file
-            ListObjectVersionsRequest listRequest = ListObjectVersionsRequest.builder()
-                    .bucket(bucket)
-                    .prefix(key)
-                    .build();
-
-            CompletableFuture<ListObjectVersionsResponse> listFuture = s3Client.listObjectVersions(listRequest);
-            ListObjectVersionsResponse listResponse = listFuture.join();
-
-            log.info("Found " + listResponse.versions().size() + " versions");
-            log.info("Found " + listResponse.deleteMarkers().size() + " delete markers");
-
-            // Bước 2: Xóa tất cả versions
-            List<CompletableFuture<DeleteObjectResponse>> deleteFutures = new ArrayList<>();
-
-            // Xóa các versions thực tế
-            for (ObjectVersion version : listResponse.versions()) {
-                if (version.key().equals(key)) {
-                    log.info("Deleting version: " + version.versionId());
-
-                    DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                            .bucket(bucket)
-                            .key(key)
-                            .versionId(version.versionId())
-                            .build();
-
-                    deleteFutures.add(s3Client.deleteObject(deleteRequest));
-                }
-            }
-
-            // Xóa các delete markers
-            for (DeleteMarkerEntry marker : listResponse.deleteMarkers()) {
-                if (marker.key().equals(key)) {
-                    log.info("Deleting marker: " + marker.versionId());
-
-                    DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                            .bucket(bucket)
-                            .key(key)
-                            .versionId(marker.versionId())
-                            .build();
-
-                    deleteFutures.add(s3Client.deleteObject(deleteRequest));
-                }
-            }
-
-            // Chờ tất cả delete hoàn thành
-            CompletableFuture.allOf(deleteFutures.toArray(new CompletableFuture[0])).join();
-
-            log.info("✓ Successfully deleted all versions and markers for: " + key);
-
-        } catch (CompletionException e) {
-            log.error("CompletionException: " + e.getMessage());
-            if (e.getCause() instanceof S3Exception) {
-                S3Exception s3Ex = (S3Exception) e.getCause();
-                log.error("S3 Error Code: " + s3Ex.awsErrorDetails().errorCode());
-                log.error("S3 Error Message: " + s3Ex.awsErrorDetails().errorMessage());
-                throw new CannotDeleteException(
-                        "Failed to delete file from S3: " + s3Ex.awsErrorDetails().errorMessage());
-            }
-            throw new CannotDeleteException("Failed to delete file from S3: " + e.getMessage());
+            // The prefix also matches longer keys, so only versions of this exact key are removed
+            int deleted = inventory.deleteAllVersions(bucket, key, key::equals);
+            log.info("Deleted {} versions and markers for {}", deleted, key);
+        } catch (S3Exception e) {
+            throw new CannotDeleteException("Failed to delete file from S3: " + e.awsErrorDetails().errorMessage());
         } catch (Exception e) {
-            log.error("Unexpected error: " + e.getMessage());
+            log.error("Failed to delete {}: {}", key, e.getMessage());
             throw new CannotDeleteException("Failed to delete file: " + e.getMessage());
         }
     }
 
     @Override
     public List<String> listFilesInFolder(String folderPath) {
-        log.info("=== LIST FILES IN FOLDER ===");
-        log.info("Folder path: " + folderPath);
-        
-        // Chuẩn hóa folder path
-        String prefix = folderPath.replaceAll("^/+", "").replaceAll("/+$", "") + "/";
-        log.info("Normalized prefix: " + prefix);
-        
+        String prefix = normalizeFolder(folderPath);
         try {
-            ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
-                    .bucket(bucket)
-                    .prefix(prefix)
-                    .maxKeys(1000) // Giới hạn 1000 files, có thể tăng hoặc phân trang
-                    .build();
-            
-            CompletableFuture<ListObjectsV2Response> future = s3Client.listObjectsV2(listRequest);
-            ListObjectsV2Response response = future.join();
-            
-            List<String> fileUrls = response.contents().stream()
-                    .filter(s3Object -> !s3Object.key().endsWith("/")) // Lọc bỏ folder rỗng
-                    .map(s3Object -> {
-                        String url = String.join("/", publicUrl.replaceAll("/+$", ""), s3Object.key());
-                        log.info("Found file: " + s3Object.key() + " -> " + url);
-                        return url;
-                    })
-                    .collect(Collectors.toList());
-            
-            log.info("Total files found: " + fileUrls.size());
+            List<String> fileUrls = new ArrayList<>();
+            inventory.forEachObject(bucket, prefix, s3Object -> {
+                if (!s3Object.key().endsWith("/")) {
+                    fileUrls.add(toPublicUrl(s3Object.key()));
+                }
+            });
             return fileUrls;
-            
-        } catch (CompletionException e) {
-            log.error("Failed to list files: " + e.getMessage());
-            if (e.getCause() instanceof S3Exception) {
-                S3Exception s3Ex = (S3Exception) e.getCause();
-                throw new ResourceInvalidException("Failed to list files: " + s3Ex.awsErrorDetails().errorMessage());
-            }
-            throw new ResourceInvalidException("Failed to list files in folder");
+        } catch (S3Exception e) {
+            throw new ResourceInvalidException("Failed to list files: " + e.awsErrorDetails().errorMessage());
         } catch (Exception e) {
-            log.error("Unexpected error: " + e.getMessage());
+            log.error("Failed to list files in {}: {}", prefix, e.getMessage());
             throw new ResourceInvalidException("Failed to list files in folder");
         }
     }
 
+    @Override
+    public PaginationResponse listFilesInFolder(String folderPath, CursorRequest request) {
+        String prefix = normalizeFolder(folderPath);
+        // The cursor carries the last key of the previous page as its sort key
+        String startAfter = request.isFirstPage() ? null : request.after().sortKey();
+        try {
+            List<S3Object> rows = inventory.listPage(bucket, prefix, startAfter, request.size() + 1).contents();
+            return PaginationResponse.fromCursor(rows, request,
+                    s3Object -> CursorRequest.encode(s3Object.key(), ""),
+                    page -> page.stream()
+                            .map(S3Object::key)
+                            .filter(key -> !key.endsWith("/"))
+                            .map(this::toPublicUrl)
+                            .toList());
+        } catch (S3Exception e) {
+            throw new ResourceInvalidException("Failed to list files: " + e.awsErrorDetails().errorMessage());
+        }
+    }
+
     @Override
     public void deleteFolder(String folderPath) {
-        log.info("=== DELETE FOLDER ===");
-        log.info("Folder path: " + folderPath);
-        
-        // Chuẩn hóa folder path
-        String prefix = folderPath.replaceAll("^/+", "").replaceAll("/+$", "") + "/";
-        log.info("Normalized prefix: " + prefix);
-        
+        String prefix = normalizeFolder(folderPath);
         try {
-            // Bước 1: List tất cả files và versions trong folder
-            ListObjectVersionsRequest listRequest = ListObjectVersionsRequest.builder()
-                    .bucket(bucket)
-                    .prefix(prefix)
-                    .maxKeys(1000)
-                    .build();
-            
-            CompletableFuture<ListObjectVersionsResponse> listFuture = s3Client.listObjectVersions(listRequest);
-            ListObjectVersionsResponse listResponse = listFuture.join();
-            
-            log.info("Found " + listResponse.versions().size() + " file versions");
-            log.info("Found " + listResponse.deleteMarkers().size() + " delete markers");
-            
-            if (listResponse.versions().isEmpty() && listResponse.deleteMarkers().isEmpty()) {
-                log.info("Folder is empty or does not exist");
-                return;
-            }
-            
-            // Bước 2: Xóa tất cả versions và delete markers
-            List<CompletableFuture<DeleteObjectResponse>> deleteFutures = new ArrayList<>();
-            
-            // Xóa các file versions
-            for (ObjectVersion version : listResponse.versions()) {
-                log.info("Deleting: " + version.key() + " (version: " + version.versionId() + ")");
-                
-                DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(version.key())
-                        .versionId(version.versionId())
-                        .build();
-                
-                deleteFutures.add(s3Client.deleteObject(deleteRequest));
-            }
-            
-            // Xóa các delete markers
-            for (DeleteMarkerEntry marker : listResponse.deleteMarkers()) {
-                log.info("Deleting marker: " + marker.key() + " (version: " + marker.versionId() + ")");
-                
-                DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(marker.key())
-                        .versionId(marker.versionId())
-                        .build();
-                
-                deleteFutures.add(s3Client.deleteObject(deleteRequest));
-            }
-            
-            // Chờ tất cả delete hoàn thành
-            CompletableFuture.allOf(deleteFutures.toArray(new CompletableFuture[0])).join();
-            
-            log.info("✓ Successfully deleted folder and all contents: " + folderPath);
-            log.info("Total items deleted: " + deleteFutures.size());
-            
-        } catch (CompletionException e) {
-            log.error("Failed to delete folder: " + e.getMessage());
-            if (e.getCause() instanceof S3Exception) {
-                S3Exception s3Ex = (S3Exception) e.getCause();
-                throw new CannotDeleteException("Failed to delete folder: " + s3Ex.awsErrorDetails().errorMessage());
-            }
-            throw new CannotDeleteException("Failed to delete folder");
+            int deleted = inventory.deleteAllVersions(bucket, prefix, key -> true);
+            log.info("Deleted folder {} ({} versions and markers)", prefix, deleted);
+        } catch (S3Exception e) {
+            throw new CannotDeleteException("Failed to delete folder: " + e.awsErrorDetails().errorMessage());
         } catch (Exception e) {
-            log.error("Unexpected error: " + e.getMessage());
+            log.error("Failed to delete folder {}: {}", prefix, e.getMessage());
             throw new CannotDeleteException("Failed to delete folder: " + e.getMessage());
         }
     }
 
+    private static String normalizeFolder(String folderPath) {
+        return folderPath.replaceAll("^/+", "").replaceAll("/+$", "") + "/";
+    }
 
+    private String toPublicUrl(String key) {
+        return String.join("/", publicUrl.replaceAll("/+$", ""), key);
+    }
 }
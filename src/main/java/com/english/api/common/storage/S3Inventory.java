@@ -0,0 +1,161 @@
+package com.english.api.common.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteMarkerEntry;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectVersionsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.ObjectVersion;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Full, paginated walks over bucket contents and bulk deletes.
+ * <p>
+ * Listings follow continuation tokens until the end instead of stopping at the first 1000 keys. Deletes
+ * collect object versions and delete markers into {@code DeleteObjects} batches of up to 1000 keys, with at
+ * most {@code delete-parallelism} batches in flight, while the listing of the next page continues.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3Inventory {
+
+    // DeleteObjects accepts at most 1000 keys per request
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3AsyncClient s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.media.inventory.delete-parallelism:4}")
+    private int deleteParallelism;
+
+    /**
+     * One page of the objects under {@code prefix}, starting after {@code startAfter} (null for the first page).
+     */
+    public ListObjectsV2Response listPage(String bucket, String prefix, String startAfter, int maxKeys) {
+        return join(s3Client.listObjectsV2(r -> r.bucket(bucket).prefix(prefix).startAfter(startAfter).maxKeys(maxKeys)));
+    }
+
+    /**
+     * Visit every object under {@code prefix}, one page at a time, on the calling thread.
+     */
+    public void forEachObject(String bucket, String prefix, Consumer<S3Object> visitor) {
+        String token = null;
+        ListObjectsV2Response page;
+        do {
+            String continuation = token;
+            page = join(s3Client.listObjectsV2(r -> r.bucket(bucket).prefix(prefix).continuationToken(continuation)));
+            page.contents().forEach(visitor);
+            token = page.nextContinuationToken();
+        } while (Boolean.TRUE.equals(page.isTruncated()));
+    }
+
+    /**
+     * Permanently delete every version and delete marker under {@code prefix} whose key passes {@code keyFilter}.
+     *
+     * @return the number of versions and markers deleted
+     * @throws IllegalStateException if S3 refused some of the keys
+     */
+    public int deleteAllVersions(String bucket, String prefix, Predicate<String> keyFilter) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Semaphore inFlight = new Semaphore(deleteParallelism);
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<String> firstError = new AtomicReference<>();
+
+        List<ObjectIdentifier> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        String keyMarker = null;
+        String versionMarker = null;
+        ListObjectVersionsResponse page;
+        do {
+            String key = keyMarker;
+            String version = versionMarker;
+            page = join(s3Client.listObjectVersions(r -> r.bucket(bucket).prefix(prefix)
+                    .keyMarker(key).versionIdMarker(version)));
+
+            for (ObjectVersion objectVersion : page.versions()) {
+                if (keyFilter.test(objectVersion.key())) {
+                    batch.add(ObjectIdentifier.builder().key(objectVersion.key()).versionId(objectVersion.versionId()).build());
+                }
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    batches.add(submitDelete(bucket, batch, inFlight, deleted, failed, firstError));
+                    batch = new ArrayList<>(DELETE_BATCH_SIZE);
+                }
+            }
+            for (DeleteMarkerEntry marker : page.deleteMarkers()) {
+                if (keyFilter.test(marker.key())) {
+                    batch.add(ObjectIdentifier.builder().key(marker.key()).versionId(marker.versionId()).build());
+                }
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    batches.add(submitDelete(bucket, batch, inFlight, deleted, failed, firstError));
+                    batch = new ArrayList<>(DELETE_BATCH_SIZE);
+                }
+            }
+            keyMarker = page.nextKeyMarker();
+            versionMarker = page.nextVersionIdMarker();
+        } while (Boolean.TRUE.equals(page.isTruncated()));
+
+        if (!batch.isEmpty()) {
+            batches.add(submitDelete(bucket, batch, inFlight, deleted, failed, firstError));
+        }
+        join(CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])));
+        sample.stop(meterRegistry.timer("media.inventory.delete", "outcome", failed.get() == 0 ? "success" : "partial"));
+
+        if (failed.get() > 0) {
+            throw new IllegalStateException(String.format("%d of %d keys could not be deleted: %s",
+                    failed.get(), failed.get() + deleted.get(), firstError.get()));
+        }
+        return deleted.get();
+    }
+
+    private CompletableFuture<Void> submitDelete(String bucket, List<ObjectIdentifier> objects, Semaphore inFlight,
+                                                 AtomicInteger deleted, AtomicInteger failed,
+                                                 AtomicReference<String> firstError) {
+        inFlight.acquireUninterruptibly();
+        // Quiet mode: the response only lists the keys that failed
+        return s3Client.deleteObjects(r -> r.bucket(bucket).delete(d -> d.objects(objects).quiet(true)))
+                .handle((DeleteObjectsResponse response, Throwable error) -> {
+                    inFlight.release();
+                    if (error != null) {
+                        failed.addAndGet(objects.size());
+                        firstError.compareAndSet(null, error.getMessage());
+                        return null;
+                    }
+                    List<S3Error> errors = response.errors();
+                    failed.addAndGet(errors.size());
+                    deleted.addAndGet(objects.size() - errors.size());
+                    if (!errors.isEmpty()) {
+                        firstError.compareAndSet(null, errors.get(0).key() + ": " + errors.get(0).message());
+                    }
+                    return null;
+                });
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
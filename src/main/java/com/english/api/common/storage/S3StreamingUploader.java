@@ -0,0 +1,304 @@
+package com.english.api.common.storage;
+
+import com.english.api.common.config.AsyncConfig;
+import com.english.api.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams objects to S3 straight from an {@link InputStream} without materializing them in heap.
+ * <p>
+ * Bodies are written on the calling thread through {@link BlockingInputStreamAsyncRequestBody}, which only
+ * pulls the next chunk when the HTTP client asks for it, so the heap an upload holds is a few SDK chunks whatever
+ * the object size. Each chunk is a fresh buffer, so the bytes allocated still match the object size; they are
+ * short-lived garbage. Objects above the multipart threshold are sent as sequential parts of a fixed size, and a
+ * failed multipart upload is aborted so no orphaned parts are billed. A node-wide semaphore caps concurrent
+ * uploads; callers that cannot get a slot within the acquire timeout get a {@link ServiceBusyException}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StreamingUploader {
+
+    private static final long MB = 1024 * 1024;
+    // S3 rejects parts smaller than 5 MB except for the last one
+    private static final long MIN_PART_SIZE = 5 * MB;
+
+    private final S3AsyncClient s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.media.upload.max-concurrent:16}")
+    private int maxConcurrent;
+
+    @Value("${app.media.upload.acquire-timeout-ms:10000}")
+    private long acquireTimeoutMs;
+
+    @Value("${app.media.upload.multipart-threshold-mb:16}")
+    private long multipartThresholdMb;
+
+    @Value("${app.media.upload.part-size-mb:8}")
+    private long partSizeMb;
+
+    private Semaphore permits;
+    private Counter rejected;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrent, true);
+        rejected = meterRegistry.counter("media.upload.rejected");
+        meterRegistry.gauge("media.upload.active", permits, p -> maxConcurrent - p.availablePermits());
+    }
+
+    /**
+     * Upload {@code size} bytes read from {@code in} to {@code bucket/key}. The stream is not closed.
+     */
+    public void upload(String bucket, String key, String contentType, InputStream in, long size) {
+        acquire();
+        long multipartThreshold = multipartThresholdMb * MB;
+        String mode = size > multipartThreshold ? "multipart" : "single";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            if (size > multipartThreshold) {
+                uploadMultipart(bucket, key, contentType, in, size);
+            } else {
+                putObject(bucket, key, contentType, in, size);
+            }
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            permits.release();
+            sample.stop(meterRegistry.timer("media.upload", "mode", mode, "outcome", outcome));
+        }
+    }
+
+    /**
+     * Upload the content of {@code source} on the upload executor, opening and closing its stream there.
+     */
+    @Async(AsyncConfig.UPLOAD_EXECUTOR)
+    public CompletableFuture<Void> uploadAsync(String bucket, String key, String contentType,
+                                               InputStreamSource source, long size) {
+        try (InputStream in = source.getInputStream()) {
+            upload(bucket, key, contentType, in, size);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new ServiceBusyException("Too many uploads in progress, please retry shortly.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Upload interrupted.");
+        }
+    }
+
+    private void putObject(String bucket, String key, String contentType, InputStream in, long size) {
+        BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(size);
+        CompletableFuture<?> response = s3Client.putObject(r -> r.bucket(bucket).key(key)
+                .contentType(contentType).contentLength(size), body);
+        write(body, new BoundedInputStream(in, size), response);
+    }
+
+    private void uploadMultipart(String bucket, String key, String contentType, InputStream in, long size) {
+        long partSize = Math.max(MIN_PART_SIZE, partSizeMb * MB);
+        String uploadId = startMultipart(bucket, key, contentType);
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long remaining = size;
+            int partNumber = 1;
+            while (remaining > 0) {
+                long length = Math.min(partSize, remaining);
+                String eTag = sendPart(bucket, key, uploadId, partNumber, in, length);
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                remaining -= length;
+                partNumber++;
+            }
+            join(s3Client.completeMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts))));
+        } catch (RuntimeException e) {
+            abortMultipart(bucket, key, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * Open a multipart upload whose parts are sent later, possibly from several requests.
+     */
+    public String startMultipart(String bucket, String key, String contentType) {
+        return join(s3Client.createMultipartUpload(r -> r.bucket(bucket).key(key)
+                .contentType(contentType))).uploadId();
+    }
+
+    /**
+     * Stream one part of an open multipart upload. Re-sending a part number replaces the earlier copy.
+     */
+    public void uploadPart(String bucket, String key, String uploadId, int partNumber, InputStream in, long length) {
+        acquire();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            sendPart(bucket, key, uploadId, partNumber, in, length);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            permits.release();
+            sample.stop(meterRegistry.timer("media.upload", "mode", "part", "outcome", outcome));
+        }
+    }
+
+    /**
+     * Assemble an open multipart upload from the parts S3 holds for it.
+     *
+     * @return the total size of the assembled object
+     */
+    public long completeMultipart(String bucket, String key, String uploadId) {
+        List<CompletedPart> parts = new ArrayList<>();
+        long size = 0;
+        Integer marker = null;
+        ListPartsResponse page;
+        do {
+            Integer from = marker;
+            page = join(s3Client.listParts(r -> r.bucket(bucket).key(key).uploadId(uploadId).partNumberMarker(from)));
+            for (Part part : page.parts()) {
+                parts.add(CompletedPart.builder().partNumber(part.partNumber()).eTag(part.eTag()).build());
+                size += part.size();
+            }
+            marker = page.nextPartNumberMarker();
+        } while (Boolean.TRUE.equals(page.isTruncated()));
+
+        join(s3Client.completeMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId)
+                .multipartUpload(m -> m.parts(parts))));
+        return size;
+    }
+
+    public void abortMultipart(String bucket, String key, String uploadId) {
+        try {
+            join(s3Client.abortMultipartUpload(r -> r.bucket(bucket).key(key).uploadId(uploadId)));
+        } catch (RuntimeException e) {
+            // Left to the bucket's incomplete-multipart lifecycle rule
+            log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, e.getMessage());
+        }
+    }
+
+    private String sendPart(String bucket, String key, String uploadId, int partNumber, InputStream in, long length) {
+        BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(length);
+        CompletableFuture<UploadPartResponse> response = s3Client.uploadPart(r -> r.bucket(bucket)
+                .key(key).uploadId(uploadId).partNumber(partNumber).contentLength(length), body);
+        write(body, new BoundedInputStream(in, length), response);
+        return join(response).eTag();
+    }
+
+    private void write(BlockingInputStreamAsyncRequestBody body, InputStream in, CompletableFuture<?> response) {
+        try {
+            body.writeInputStream(in);
+        } catch (RuntimeException e) {
+            response.cancel(true);
+            throw e;
+        }
+        join(response);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Exposes the next {@code limit} bytes of a shared stream and never closes it, so consecutive parts
+     * can be read from the same source.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // Owned by the caller
+        }
+    }
+}
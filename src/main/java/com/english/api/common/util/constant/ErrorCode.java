@@ -16,4 +16,5 @@ public interface ErrorCode {
     int OPERATION_NOT_ALLOWED = 10;
     int DUPLICATE_KEY = 11;
     int RESOURCE_ALREADY_OWNER = 12;
+    int SERVICE_BUSY = 13;
 }
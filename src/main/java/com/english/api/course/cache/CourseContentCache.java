@@ -0,0 +1,51 @@
+package com.english.api.course.cache;
+
+import com.english.api.common.cache.VersionedCache;
+import com.english.api.course.event.CourseContentChangedEvent;
+import com.english.api.course.event.CourseRatingChangedEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Public course detail and curriculum cached in {@link VersionedCache}.
+ * Course-level views are stamped with the {@code course:<id>} version and lesson lists with
+ * {@code module:<id>}; both are bumped after the writing transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseContentCache {
+
+    private static final String COURSE_SCOPE = "course:";
+    private static final String MODULE_SCOPE = "module:";
+
+    private final VersionedCache versionedCache;
+
+    public <T> T getForCourse(UUID courseId, String name, TypeReference<T> type, Supplier<T> loader) {
+        return versionedCache.get(COURSE_SCOPE + courseId, name, type, loader);
+    }
+
+    public <T> T getForModule(UUID moduleId, String name, TypeReference<T> type, Supplier<T> loader) {
+        return versionedCache.get(MODULE_SCOPE + moduleId, name, type, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleContentChanged(CourseContentChangedEvent event) {
+        if (event.moduleId() != null) {
+            versionedCache.invalidate(MODULE_SCOPE + event.moduleId());
+        }
+        if (event.courseId() != null) {
+            versionedCache.invalidate(COURSE_SCOPE + event.courseId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRatingChanged(CourseRatingChangedEvent event) {
+        versionedCache.invalidate(COURSE_SCOPE + event.courseId());
+    }
+}
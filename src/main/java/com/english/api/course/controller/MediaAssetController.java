@@ -1,14 +1,19 @@
 package com.english.api.course.controller;
 
+import com.english.api.course.dto.request.VideoUploadStartRequest;
 import com.english.api.course.dto.response.MediaAssetResponse;
+import com.english.api.course.dto.response.VideoUploadSessionResponse;
 import com.english.api.course.service.MediaAssetService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 
@@ -30,6 +35,34 @@ public class MediaAssetController {
                     .body(response);
     }
 
+    /**
+     * Resumable video upload: start a session, PUT each part as a raw body, then complete.
+     * Parts go straight to object storage; the worker only receives a reference.
+     */
+    @PostMapping("/video-uploads")
+    public ResponseEntity<VideoUploadSessionResponse> startVideoUpload(@Valid @RequestBody VideoUploadStartRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(mediaService.startVideoUpload(request));
+    }
+
+    @GetMapping("/video-uploads/{assetId}")
+    public ResponseEntity<VideoUploadSessionResponse> getVideoUpload(@PathVariable UUID assetId) {
+        return ResponseEntity.ok(mediaService.getVideoUpload(assetId));
+    }
+
+    @PutMapping(value = "/video-uploads/{assetId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<VideoUploadSessionResponse> uploadVideoPart(
+            @PathVariable UUID assetId,
+            @PathVariable int partNumber,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(mediaService.uploadVideoPart(
+                assetId, partNumber, request.getInputStream(), request.getContentLengthLong()));
+    }
+
+    @PostMapping("/video-uploads/{assetId}/complete")
+    public ResponseEntity<MediaAssetResponse> completeVideoUpload(@PathVariable UUID assetId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(mediaService.completeVideoUpload(assetId));
+    }
+
     @PostMapping("/upload-attachment")
     public ResponseEntity<MediaAssetResponse> uploadAttachment(
             @RequestParam("file") MultipartFile file,
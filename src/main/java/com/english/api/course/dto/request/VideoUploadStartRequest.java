@@ -0,0 +1,17 @@
+package com.english.api.course.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Declared metadata of a course video uploaded in parts.
+ */
+public record VideoUploadStartRequest(
+        @NotBlank(message = "File name is required")
+        String fileName,
+        @NotBlank(message = "Content type is required")
+        String contentType,
+        @Positive(message = "Size must be positive")
+        long size
+) {
+}
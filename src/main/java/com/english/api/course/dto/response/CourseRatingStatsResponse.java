@@ -1,5 +1,7 @@
 package com.english.api.course.dto.response;
 
+import java.io.Serializable;
+
 /**
  * Response DTO for course rating statistics
  * Contains aggregated rating data for a course
@@ -12,7 +14,7 @@ public record CourseRatingStatsResponse(
     Long threeStarCount,
     Long twoStarCount,
     Long oneStarCount
-) {
+) implements Serializable {
     
     /**
      * Calculate percentage for each star rating
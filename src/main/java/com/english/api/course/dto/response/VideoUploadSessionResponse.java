@@ -0,0 +1,19 @@
+package com.english.api.course.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * State of a chunked video upload. Every part except the last must be exactly {@code partSize} bytes;
+ * a client resumes by sending the parts missing from {@code uploadedParts}.
+ */
+public record VideoUploadSessionResponse(
+        UUID assetId,
+        String status,
+        long size,
+        long partSize,
+        int totalParts,
+        List<Integer> uploadedParts,
+        long uploadedBytes
+) {
+}
@@ -0,0 +1,14 @@
+package com.english.api.course.event;
+
+import java.util.UUID;
+
+/**
+ * Published when anything shown on the public course page changes; {@code moduleId} is set when
+ * the change is limited to the lessons of one module.
+ */
+public record CourseContentChangedEvent(UUID courseId, UUID moduleId) {
+
+    public static CourseContentChangedEvent ofCourse(UUID courseId) {
+        return new CourseContentChangedEvent(courseId, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.english.api.course.event;
+
+import java.util.UUID;
+
+/**
+ * Published when the set of lessons counted for progress changes: a lesson is published, unpublished or
+ * removed. {@code lessonsRemoved} is set when lessons were deleted, so completions must be recounted too.
+ */
+public record CourseCurriculumChangedEvent(UUID courseId, boolean lessonsRemoved) {
+}
@@ -0,0 +1,6 @@
+package com.english.api.course.event;
+
+import java.util.UUID;
+
+public record CourseStatsChangedEvent(UUID courseId) {
+}
@@ -0,0 +1,9 @@
+package com.english.api.course.event;
+
+import java.util.UUID;
+
+/**
+ * The source file of a video asset is complete in object storage and can be handed to the transcoding worker.
+ */
+public record VideoSourceUploadedEvent(UUID assetId, UUID userId, String sourceKey, String lessonName) {
+}
@@ -0,0 +1,74 @@
+package com.english.api.course.event;
+
+import com.english.api.common.config.AsyncConfig;
+import com.english.api.common.http.OutboundHttpClients;
+import com.english.api.course.repository.MediaAssetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoSourceUploadedEventListener {
+
+    private final MediaAssetRepository assetRepository;
+    private final OutboundHttpClients outboundHttpClients;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.worker.url:http://localhost:10000/upload}")
+    private String workerUrl;
+
+    @Value("${app.worker.api-token}")
+    private String workerApiToken;
+
+    @Value("${cloud.bucket}")
+    private String bucket;
+
+    /**
+     * Hand the transcoding worker a reference to the uploaded source; the worker reads the file from
+     * storage itself. Runs outside any transaction, and the outcome is recorded in the asset meta.
+     */
+    @Async(AsyncConfig.WEBHOOK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleVideoSourceUploaded(VideoSourceUploadedEvent event) {
+        Map<String, Object> payload = Map.of(
+                "assetId", event.assetId().toString(),
+                "userId", event.userId().toString(),
+                "lessonName", event.lessonName(),
+                "bucket", bucket,
+                "key", event.sourceKey()
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + workerApiToken);
+
+        ObjectNode progress = objectMapper.createObjectNode();
+        try {
+            outboundHttpClients.restTemplate(OutboundHttpClients.VIDEO_WORKER)
+                    .postForEntity(workerUrl, new HttpEntity<>(payload, headers), String.class);
+            progress.put("dispatch", "sent");
+            log.info("Sent job to worker for asset {}", event.assetId());
+        } catch (Exception e) {
+            progress.put("status", "failed");
+            progress.put("dispatch", "failed");
+            progress.put("dispatchError", e.getMessage());
+            log.error("Failed to dispatch worker job for asset {}: {}", event.assetId(), e.getMessage());
+        }
+        progress.put("dispatchedAt", Instant.now().toString());
+        assetRepository.mergeMeta(event.assetId(), progress.toString());
+    }
+}
@@ -0,0 +1,70 @@
+package com.english.api.course.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model holding the aggregated numbers shown in the course catalog.
+ * Rows are written only through {@link com.english.api.course.repository.CourseStatsRepository}.
+ */
+@Entity
+@Table(
+    name = "course_stats",
+    indexes = {
+        @Index(name = "idx_course_stats_average_rating", columnList = "average_rating DESC, course_id"),
+        @Index(name = "idx_course_stats_student_count", columnList = "student_count DESC, course_id")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseStats {
+
+    @Id
+    @Column(name = "course_id")
+    private UUID courseId;
+
+    @Column(name = "module_count", nullable = false)
+    private long moduleCount;
+
+    @Column(name = "lesson_count", nullable = false)
+    private long lessonCount;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    @Column(name = "student_count", nullable = false)
+    private long studentCount;
+
+    @Column(name = "published_lesson_count", nullable = false)
+    private long publishedLessonCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
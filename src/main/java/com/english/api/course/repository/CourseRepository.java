@@ -36,18 +36,17 @@ public interface CourseRepository extends JpaRepository<Course, UUID>, CourseRep
                         WHERE m.course_id = c.id), 0) as lesson_count,
                COALESCE((SELECT COUNT(*) FROM enrollments e 
                         WHERE e.course_id = c.id AND e.status = 'ACTIVE'), 0) as student_count,
-               COALESCE((SELECT AVG(r.rating) FROM course_reviews r 
-                        WHERE r.course_id = c.id AND r.is_published = true), 0.0) as average_rating,
-               COALESCE((SELECT COUNT(*) FROM course_reviews r 
-                        WHERE r.course_id = c.id AND r.is_published = true), 0) as total_reviews
+               COALESCE(st.average_rating, 0.0) as average_rating,
+               COALESCE(st.review_count, 0) as total_reviews
         FROM courses c
         LEFT JOIN users cb ON c.created_by = cb.id
+        LEFT JOIN course_stats st ON st.course_id = c.id
         LEFT JOIN course_skills cs ON c.id = cs.course_id
         LEFT JOIN skills s ON cs.skill_id = s.id
         WHERE c.id = :id
         GROUP BY c.id, c.title, c.slug, c.description, c.detailed_description, 
                  c.language, c.thumbnail, c.price_cents, c.currency, c.status, 
-                 cb.id, cb.full_name, c.updated_at
+                 cb.id, cb.full_name, c.updated_at, st.average_rating, st.review_count
     """, nativeQuery = true)
     List<Object[]> findDetailByIdNative(@Param("id") UUID id);
 
@@ -63,18 +62,17 @@ public interface CourseRepository extends JpaRepository<Course, UUID>, CourseRep
                         WHERE m.course_id = c.id AND l.published = true), 0) as lesson_count,
                COALESCE((SELECT COUNT(*) FROM enrollments e 
                         WHERE e.course_id = c.id AND e.status = 'ACTIVE'), 0) as student_count,
-               COALESCE((SELECT AVG(r.rating) FROM course_reviews r 
-                        WHERE r.course_id = c.id AND r.is_published = true), 0.0) as average_rating,
-               COALESCE((SELECT COUNT(*) FROM course_reviews r 
-                        WHERE r.course_id = c.id AND r.is_published = true), 0) as total_reviews
+               COALESCE(st.average_rating, 0.0) as average_rating,
+               COALESCE(st.review_count, 0) as total_reviews
         FROM courses c
         LEFT JOIN users cb ON c.created_by = cb.id
+        LEFT JOIN course_stats st ON st.course_id = c.id
         LEFT JOIN course_skills cs ON c.id = cs.course_id
         LEFT JOIN skills s ON cs.skill_id = s.id
         WHERE c.slug = :slug AND c.status = 'PUBLISHED'
         GROUP BY c.id, c.title, c.slug, c.description, c.detailed_description, 
                  c.language, c.thumbnail, c.price_cents, c.currency, c.status, 
-                 cb.id, cb.full_name, c.updated_at
+                 cb.id, cb.full_name, c.updated_at, st.average_rating, st.review_count
     """, nativeQuery = true)
     List<Object[]> findDetailBySlugNative(@Param("slug") String slug);
 
@@ -90,18 +88,17 @@ public interface CourseRepository extends JpaRepository<Course, UUID>, CourseRep
                         WHERE m.course_id = c.id AND l.published = true), 0) as lesson_count,
                COALESCE((SELECT COUNT(*) FROM enrollments e 
                         WHERE e.course_id = c.id AND e.status = 'ACTIVE'), 0) as student_count,
-               COALESCE((SELECT AVG(r.rating) FROM course_reviews r 
-                        WHERE r.course_id = c.id AND r.is_published = true), 0.0) as average_rating,
-               COALESCE((SELECT COUNT(*) FROM course_reviews r 
-                        WHERE r.course_id = c.id AND r.is_published = true), 0) as total_reviews
+               COALESCE(st.average_rating, 0.0) as average_rating,
+               COALESCE(st.review_count, 0) as total_reviews
         FROM courses c
         LEFT JOIN users cb ON c.created_by = cb.id
+        LEFT JOIN course_stats st ON st.course_id = c.id
         LEFT JOIN course_skills cs ON c.id = cs.course_id
         LEFT JOIN skills s ON cs.skill_id = s.id
         WHERE c.slug = :slug AND c.status != 'DRAFT'
         GROUP BY c.id, c.title, c.slug, c.description, c.detailed_description, 
                  c.language, c.thumbnail, c.price_cents, c.currency, c.status, 
-                 cb.id, cb.full_name, c.updated_at
+                 cb.id, cb.full_name, c.updated_at, st.average_rating, st.review_count
     """, nativeQuery = true)
     List<Object[]> findDetailBySlugForAdminNative(@Param("slug") String slug);
 
@@ -109,6 +106,9 @@ public interface CourseRepository extends JpaRepository<Course, UUID>, CourseRep
     @Query("SELECT c.createdBy.id FROM Course c WHERE c.id = :id")
     Optional<UUID> findOwnerIdById(@Param("id") UUID id);
 
+    @Query("SELECT c.id FROM Course c WHERE c.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
     @Modifying
     @Query("UPDATE Course c SET c.deleted = true, c.deletedAt = :now WHERE c.id = :id")
     void softDeleteById(@Param("id") UUID id, @Param("now") Instant now);
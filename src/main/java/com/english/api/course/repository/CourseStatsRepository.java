@@ -0,0 +1,212 @@
+package com.english.api.course.repository;
+
+import com.english.api.course.model.CourseStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CourseStatsRepository extends JpaRepository<CourseStats, UUID> {
+
+    /**
+     * Create an empty stats row for a freshly created course
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO course_stats (course_id, updated_at)
+        VALUES (:courseId, NOW())
+        ON CONFLICT (course_id) DO NOTHING
+        """, nativeQuery = true)
+    int initialize(@Param("courseId") UUID courseId);
+
+    /**
+     * Recompute module, lesson, published lesson and student counts of the given courses from the source tables.
+     * Rating columns are only computed for missing rows; existing ones are maintained by {@link #applyReviewDelta}.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO course_stats (course_id, module_count, lesson_count, review_count, average_rating, student_count,
+            rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, published_lesson_count, updated_at)
+        SELECT c.id,
+            (SELECT COUNT(*) FROM course_modules m WHERE m.course_id = c.id),
+            (SELECT COUNT(*) FROM course_modules m
+             INNER JOIN lessons l ON l.module_id = m.id
+             WHERE m.course_id = c.id),
+            rv.review_count,
+            CASE WHEN rv.review_count > 0 THEN CAST(rv.rating_sum AS double precision) / rv.review_count ELSE 0 END,
+            (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id AND e.status = 'ACTIVE'),
+            rv.rating_sum, rv.rating_1, rv.rating_2, rv.rating_3, rv.rating_4, rv.rating_5,
+            (SELECT COUNT(*) FROM course_modules m
+             INNER JOIN lessons l ON l.module_id = m.id
+             WHERE m.course_id = c.id AND l.published = true),
+            NOW()
+        FROM courses c
+        CROSS JOIN LATERAL (
+            SELECT COUNT(*) AS review_count,
+                COALESCE(SUM(r.rating), 0) AS rating_sum,
+                COUNT(*) FILTER (WHERE r.rating = 1) AS rating_1,
+                COUNT(*) FILTER (WHERE r.rating = 2) AS rating_2,
+                COUNT(*) FILTER (WHERE r.rating = 3) AS rating_3,
+                COUNT(*) FILTER (WHERE r.rating = 4) AS rating_4,
+                COUNT(*) FILTER (WHERE r.rating = 5) AS rating_5
+            FROM course_reviews r
+            WHERE r.course_id = c.id AND r.is_published = true
+        ) rv
+        WHERE c.id = ANY(CAST(:courseIds AS uuid[]))
+        ON CONFLICT (course_id) DO UPDATE SET
+            module_count = EXCLUDED.module_count,
+            lesson_count = EXCLUDED.lesson_count,
+            student_count = EXCLUDED.student_count,
+            published_lesson_count = EXCLUDED.published_lesson_count,
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int refresh(@Param("courseIds") UUID[] courseIds);
+
+    /**
+     * Apply one review change to the rating aggregates of a course, in the caller's transaction.
+     * Deltas are -1, 0 or +1 per star bucket; {@code sumDelta} is the change of the rating sum.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE course_stats SET
+            review_count = review_count + :countDelta,
+            rating_sum = rating_sum + :sumDelta,
+            average_rating = CASE WHEN review_count + :countDelta > 0
+                THEN CAST(rating_sum + :sumDelta AS double precision) / (review_count + :countDelta)
+                ELSE 0 END,
+            rating_1 = rating_1 + :delta1,
+            rating_2 = rating_2 + :delta2,
+            rating_3 = rating_3 + :delta3,
+            rating_4 = rating_4 + :delta4,
+            rating_5 = rating_5 + :delta5,
+            updated_at = NOW()
+        WHERE course_id = :courseId
+        """, nativeQuery = true)
+    int applyReviewDelta(@Param("courseId") UUID courseId,
+                         @Param("countDelta") long countDelta,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("delta1") long delta1,
+                         @Param("delta2") long delta2,
+                         @Param("delta3") long delta3,
+                         @Param("delta4") long delta4,
+                         @Param("delta5") long delta5);
+
+    /**
+     * Move the published lesson count of a course by {@code delta}, in the caller's transaction.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE course_stats SET
+            published_lesson_count = GREATEST(published_lesson_count + :delta, 0),
+            updated_at = NOW()
+        WHERE course_id = :courseId
+        """, nativeQuery = true)
+    int applyPublishedLessonDelta(@Param("courseId") UUID courseId, @Param("delta") long delta);
+
+    /**
+     * Create the empty stats row of every course that has none, for the reconcile to fill in
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO course_stats (course_id, updated_at)
+        SELECT c.id, NOW()
+        FROM courses c
+        WHERE NOT EXISTS (SELECT 1 FROM course_stats st WHERE st.course_id = c.id)
+        ON CONFLICT (course_id) DO NOTHING
+        """, nativeQuery = true)
+    int initializeMissing();
+
+    /**
+     * Lock the next {@code limit} stats rows after {@code after} in course id order, until the transaction ends
+     */
+    @Query(value = """
+        SELECT course_id FROM course_stats
+        WHERE course_id > :after
+        ORDER BY course_id
+        LIMIT :limit
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<UUID> lockBatch(@Param("after") UUID after, @Param("limit") int limit);
+
+    /**
+     * Recompute the stats of the given courses including the rating aggregates, only rewriting rows that drifted.
+     * The rows must be locked by {@link #lockBatch} in an earlier statement of the same transaction: deltas applied
+     * concurrently then either committed before this snapshot or wait for the rewrite, and are never overwritten.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO course_stats (course_id, module_count, lesson_count, review_count, average_rating, student_count,
+            rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, published_lesson_count, updated_at)
+        SELECT c.id,
+            COALESCE(mc.module_count, 0),
+            COALESCE(mc.lesson_count, 0),
+            COALESCE(rv.review_count, 0),
+            COALESCE(CAST(rv.rating_sum AS double precision) / rv.review_count, 0),
+            COALESCE(en.student_count, 0),
+            COALESCE(rv.rating_sum, 0),
+            COALESCE(rv.rating_1, 0),
+            COALESCE(rv.rating_2, 0),
+            COALESCE(rv.rating_3, 0),
+            COALESCE(rv.rating_4, 0),
+            COALESCE(rv.rating_5, 0),
+            COALESCE(mc.published_lesson_count, 0),
+            NOW()
+        FROM courses c
+        LEFT JOIN (
+            SELECT m.course_id, COUNT(DISTINCT m.id) AS module_count, COUNT(l.id) AS lesson_count,
+                COUNT(l.id) FILTER (WHERE l.published = true) AS published_lesson_count
+            FROM course_modules m
+            LEFT JOIN lessons l ON l.module_id = m.id
+            WHERE m.course_id = ANY(CAST(:courseIds AS uuid[]))
+            GROUP BY m.course_id
+        ) mc ON mc.course_id = c.id
+        LEFT JOIN (
+            SELECT r.course_id,
+                COUNT(*) AS review_count,
+                SUM(r.rating) AS rating_sum,
+                COUNT(*) FILTER (WHERE r.rating = 1) AS rating_1,
+                COUNT(*) FILTER (WHERE r.rating = 2) AS rating_2,
+                COUNT(*) FILTER (WHERE r.rating = 3) AS rating_3,
+                COUNT(*) FILTER (WHERE r.rating = 4) AS rating_4,
+                COUNT(*) FILTER (WHERE r.rating = 5) AS rating_5
+            FROM course_reviews r
+            WHERE r.is_published = true AND r.course_id = ANY(CAST(:courseIds AS uuid[]))
+            GROUP BY r.course_id
+        ) rv ON rv.course_id = c.id
+        LEFT JOIN (
+            SELECT e.course_id, COUNT(*) AS student_count
+            FROM enrollments e
+            WHERE e.status = 'ACTIVE' AND e.course_id = ANY(CAST(:courseIds AS uuid[]))
+            GROUP BY e.course_id
+        ) en ON en.course_id = c.id
+        WHERE c.id = ANY(CAST(:courseIds AS uuid[]))
+        ON CONFLICT (course_id) DO UPDATE SET
+            module_count = EXCLUDED.module_count,
+            lesson_count = EXCLUDED.lesson_count,
+            review_count = EXCLUDED.review_count,
+            average_rating = EXCLUDED.average_rating,
+            student_count = EXCLUDED.student_count,
+            rating_sum = EXCLUDED.rating_sum,
+            rating_1 = EXCLUDED.rating_1,
+            rating_2 = EXCLUDED.rating_2,
+            rating_3 = EXCLUDED.rating_3,
+            rating_4 = EXCLUDED.rating_4,
+            rating_5 = EXCLUDED.rating_5,
+            published_lesson_count = EXCLUDED.published_lesson_count,
+            updated_at = EXCLUDED.updated_at
+        WHERE (course_stats.module_count, course_stats.lesson_count, course_stats.review_count,
+               course_stats.student_count, course_stats.rating_sum, course_stats.rating_1, course_stats.rating_2,
+               course_stats.rating_3, course_stats.rating_4, course_stats.rating_5,
+               course_stats.published_lesson_count)
+            IS DISTINCT FROM (EXCLUDED.module_count, EXCLUDED.lesson_count, EXCLUDED.review_count,
+               EXCLUDED.student_count, EXCLUDED.rating_sum, EXCLUDED.rating_1, EXCLUDED.rating_2,
+               EXCLUDED.rating_3, EXCLUDED.rating_4, EXCLUDED.rating_5,
+               EXCLUDED.published_lesson_count)
+        """, nativeQuery = true)
+    int reconcile(@Param("courseIds") UUID[] courseIds);
+}
@@ -42,13 +42,6 @@ public interface LessonRepository extends JpaRepository<Lesson, UUID> {
     @Query("SELECT l.module.course.id FROM Lesson l WHERE l.id = :lessonId")
     Optional<UUID> findCourseIdByLessonId(@Param("lessonId") UUID lessonId);
 
-    @Query("""
-        SELECT COUNT(l) FROM Lesson l
-        WHERE l.module.course.id = :courseId
-        AND l.published = true
-        """)
-    long countPublishedLessonsByCourseId(@Param("courseId") UUID courseId);
-
     @Query("""
         SELECT new com.english.api.enrollment.dto.response.LessonWithProgressResponse(
             l.id, l.module.id, l.title, l.kind, l.estimatedMin, l.position, l.isFree, l.published,
@@ -3,9 +3,11 @@ package com.english.api.course.repository;
 import com.english.api.course.dto.response.MediaAssetSimpleResponse;
 import com.english.api.course.model.MediaAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -27,4 +29,28 @@ public interface MediaAssetRepository extends JpaRepository<MediaAsset, UUID> {
 """)
     Optional<MediaAssetSimpleResponse> findVideoById(@Param("id") UUID id);
 
+    /**
+     * Shallow-merge {@code patch} (a JSON object) into meta in a single statement, so concurrent
+     * progress writers never overwrite each other's keys.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE media_assets
+        SET meta = COALESCE(meta, CAST('{}' AS jsonb)) || CAST(:patch AS jsonb)
+        WHERE id = :id
+        """, nativeQuery = true)
+    int mergeMeta(@Param("id") UUID id, @Param("patch") String patch);
+
+    /**
+     * Record the size of a received part under {@code meta.parts}.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE media_assets
+        SET meta = jsonb_set(meta, ARRAY['parts', CAST(:partNumber AS text)], to_jsonb(CAST(:bytes AS bigint)), true)
+        WHERE id = :id
+        """, nativeQuery = true)
+    int recordVideoPart(@Param("id") UUID id, @Param("partNumber") int partNumber, @Param("bytes") long bytes);
 }
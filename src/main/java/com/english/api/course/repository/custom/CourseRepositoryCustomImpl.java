@@ -1,5 +1,7 @@
 package com.english.api.course.repository.custom;
 
+import com.english.api.common.search.SearchKeyword;
+import com.english.api.common.search.TextSearchSql;
 import com.english.api.course.dto.projection.CourseWithStatsProjection;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -22,7 +24,11 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
- * Implementation of custom repository methods
+ * Implementation of custom repository methods.
+ * Per-course aggregates come from the {@code course_stats} read model maintained by
+ * {@link com.english.api.course.service.CourseStatsService}, so listing never aggregates live. Every course has a
+ * stats row (created with the course, backfilled by {@code db/tables/course_stats.sql}), so both the page and the
+ * count query inner-join it, and sorting on the raw stats columns walks their indexes.
  */
 @Repository
 @RequiredArgsConstructor
@@ -31,6 +37,9 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
     @PersistenceContext
     private final EntityManager entityManager;
 
+    private static final String KEYWORD_MATCH = TextSearchSql.matches("c.search_vector", "c.title");
+    private static final String RELEVANCE = TextSearchSql.rank("c.search_vector", "c.title");
+
     // Mapping between entity field names and database column names
     private static final Map<String, String> SORT_COLUMN_MAP = new HashMap<>();
 
@@ -43,12 +52,12 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
         SORT_COLUMN_MAP.put("createdAt", "c.created_at");
         SORT_COLUMN_MAP.put("updatedAt", "c.updated_at");
         SORT_COLUMN_MAP.put("status", "c.status");
-        SORT_COLUMN_MAP.put("moduleCount", "module_count");
-        SORT_COLUMN_MAP.put("lessonCount", "lesson_count");
-        SORT_COLUMN_MAP.put("students", "student_count");
-        SORT_COLUMN_MAP.put("studentCount", "student_count");
-        SORT_COLUMN_MAP.put("rating", "average_rating");
-        SORT_COLUMN_MAP.put("totalReviews","total_reviews");
+        SORT_COLUMN_MAP.put("moduleCount", "st.module_count");
+        SORT_COLUMN_MAP.put("lessonCount", "st.lesson_count");
+        SORT_COLUMN_MAP.put("students", "st.student_count");
+        SORT_COLUMN_MAP.put("studentCount", "st.student_count");
+        SORT_COLUMN_MAP.put("rating", "st.average_rating");
+        SORT_COLUMN_MAP.put("totalReviews","st.review_count");
     }
 
     @Override
@@ -65,29 +74,24 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
                 c.description AS description,
                 c.language AS language,
                 c.thumbnail AS thumbnail,
-                ARRAY_AGG(DISTINCT s.name) AS skill_focus,
+                ARRAY(SELECT s.name FROM course_skills sk
+                      JOIN skills s ON sk.skill_id = s.id
+                      WHERE sk.course_id = c.id
+                      ORDER BY s.name) AS skill_focus,
                 c.price_cents AS price_cents,
                 c.currency AS currency,
                 c.status AS status,
-                (SELECT COUNT(*) FROM course_modules m WHERE m.course_id = c.id) AS module_count,
-                (SELECT COUNT(*) FROM course_modules m
-                 INNER JOIN lessons l ON l.module_id = m.id
-                 WHERE m.course_id = c.id) AS lesson_count,
-                COALESCE((SELECT AVG(r.rating) FROM course_reviews r
-                          WHERE r.course_id = c.id AND r.is_published = true), 0) AS average_rating,
-                (SELECT COUNT(*) FROM course_reviews r
-                 WHERE r.course_id = c.id AND r.is_published = true) AS total_reviews,
-                COALESCE((SELECT COUNT(*) FROM enrollments e
-                          WHERE e.course_id = c.id AND e.status = 'ACTIVE'), 0) AS student_count,
+                st.module_count AS module_count,
+                st.lesson_count AS lesson_count,
+                st.average_rating AS average_rating,
+                st.review_count AS total_reviews,
+                st.student_count AS student_count,
                 c.created_at AS created_at,
                 c.updated_at AS updated_at
             FROM courses c
-            LEFT JOIN course_skills cs ON c.id = cs.course_id
-            LEFT JOIN skills s ON cs.skill_id = s.id
+            JOIN course_stats st ON st.course_id = c.id
             WHERE c.is_deleted = false
-              AND (CAST(:keyword AS text) IS NULL OR
-                   LOWER(c.title) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))
-                   OR LOWER(c.description) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%')))
+              AND %s
               AND (CAST(:status AS text) IS NULL OR c.status = CAST(:status AS text))
               AND (CAST(:status AS text) IS NOT NULL OR c.status != 'DRAFT')
               AND (:skillsCount = 0 OR
@@ -99,19 +103,14 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
                            SELECT LOWER(unnest) FROM unnest(CAST(:skills AS text[]))
                        )
                    ))
-            GROUP BY c.id, c.title, c.slug, c.description, c.language, c.thumbnail, 
-                     c.price_cents, c.currency, c.status, c.created_at, c.updated_at
-            """;
+            """.formatted(KEYWORD_MATCH);
 
         String countQuery = """
-            SELECT COUNT(DISTINCT c.id)
+            SELECT COUNT(*)
             FROM courses c
-            LEFT JOIN course_skills cs ON c.id = cs.course_id
-            LEFT JOIN skills s ON cs.skill_id = s.id
+            JOIN course_stats st ON st.course_id = c.id
             WHERE c.is_deleted = false
-              AND (CAST(:keyword AS text) IS NULL OR
-                   LOWER(c.title) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))
-                   OR LOWER(c.description) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%')))
+              AND %s
               AND (CAST(:status AS text) IS NULL OR c.status = CAST(:status AS text))
               AND (CAST(:status AS text) IS NOT NULL OR c.status != 'DRAFT')
               AND (:skillsCount = 0 OR
@@ -123,7 +122,7 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
                            SELECT LOWER(unnest) FROM unnest(CAST(:skills AS text[]))
                        )
                    ))
-            """;
+            """.formatted(KEYWORD_MATCH);
 
         return executeQuery(baseQuery, countQuery, keyword, status, null, skills, pageable);
     }
@@ -143,32 +142,25 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
                 c.description AS description,
                 c.language AS language,
                 c.thumbnail AS thumbnail,
-                ARRAY_AGG(DISTINCT s.name) AS skill_focus,
+                ARRAY(SELECT s.name FROM course_skills sk
+                      JOIN skills s ON sk.skill_id = s.id
+                      WHERE sk.course_id = c.id
+                      ORDER BY s.name) AS skill_focus,
                 c.price_cents AS price_cents,
                 c.currency AS currency,
                 c.status AS status,
-                (SELECT COUNT(*) FROM course_modules m WHERE m.course_id = c.id) AS module_count,
-                (SELECT COUNT(*) FROM course_modules m
-                 INNER JOIN lessons l ON l.module_id = m.id
-                 WHERE m.course_id = c.id) AS lesson_count,
-                COALESCE((SELECT AVG(r.rating) FROM course_reviews r
-                          WHERE r.course_id = c.id AND r.is_published = true), 0) AS average_rating,
-                (SELECT COUNT(*) FROM course_reviews r
-                 WHERE r.course_id = c.id AND r.is_published = true) AS total_reviews,
-                COALESCE((SELECT COUNT(*) FROM enrollments e
-                          WHERE e.course_id = c.id AND e.status = 'ACTIVE'), 0) AS student_count,
+                st.module_count AS module_count,
+                st.lesson_count AS lesson_count,
+                st.average_rating AS average_rating,
+                st.review_count AS total_reviews,
+                st.student_count AS student_count,
                 c.created_at AS created_at,
                 c.updated_at AS updated_at
             FROM courses c
-            LEFT JOIN course_skills cs ON c.id = cs.course_id
-            LEFT JOIN skills s ON cs.skill_id = s.id
+            JOIN course_stats st ON st.course_id = c.id
             WHERE c.created_by = :ownerId
               AND c.is_deleted = false
-              AND (
-                  CAST(:keyword AS text) IS NULL
-                  OR LOWER(c.title) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))
-                  OR LOWER(c.description) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))
-              )
+              AND %s
               AND (CAST(:status AS text) IS NULL OR c.status = CAST(:status AS text))
               AND (:skillsCount = 0 OR
                    EXISTS (
@@ -179,22 +171,15 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
                            SELECT LOWER(unnest) FROM unnest(CAST(:skills AS text[]))
                        )
                    ))
-            GROUP BY c.id, c.title, c.slug, c.description, c.language, c.thumbnail, 
-                     c.price_cents, c.currency, c.status, c.created_at, c.updated_at
-            """;
+            """.formatted(KEYWORD_MATCH);
 
         String countQuery = """
-            SELECT COUNT(DISTINCT c.id)
+            SELECT COUNT(*)
             FROM courses c
-            LEFT JOIN course_skills cs ON c.id = cs.course_id
-            LEFT JOIN skills s ON cs.skill_id = s.id
+            JOIN course_stats st ON st.course_id = c.id
             WHERE c.created_by = :ownerId
               AND c.is_deleted = false
-              AND (
-                  CAST(:keyword AS text) IS NULL
-                  OR LOWER(c.title) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))
-                  OR LOWER(c.description) LIKE LOWER(CONCAT('%', CAST(:keyword AS text), '%'))
-              )
+              AND %s
               AND (CAST(:status AS text) IS NULL OR c.status = CAST(:status AS text))
               AND (:skillsCount = 0 OR
                    EXISTS (
@@ -205,7 +190,7 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
                            SELECT LOWER(unnest) FROM unnest(CAST(:skills AS text[]))
                        )
                    ))
-            """;
+            """.formatted(KEYWORD_MATCH);
         return executeQuery(baseQuery, countQuery, keyword, status, ownerId, skills, pageable);
     }
 
@@ -218,13 +203,15 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
             String[] skills,
             Pageable pageable
     ) {
+        SearchKeyword searchKeyword = SearchKeyword.of(keyword);
+
         // Build ORDER BY clause from Pageable
-        String orderByClause = buildOrderByClause(pageable.getSort());
+        String orderByClause = buildOrderByClause(pageable.getSort(), searchKeyword != null);
         String fullQuery = baseQuery + orderByClause;
 
         // Execute main query
         Query query = entityManager.createNativeQuery(fullQuery);
-        setParameters(query, keyword, status, ownerId, skills);
+        setParameters(query, searchKeyword, status, ownerId, skills);
         query.setFirstResult((int) pageable.getOffset());
         query.setMaxResults(pageable.getPageSize());
 
@@ -237,20 +224,25 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
 
         // Execute count query
         Query countQueryObj = entityManager.createNativeQuery(countQuery);
-        setParameters(countQueryObj, keyword, status, ownerId, skills);
+        setParameters(countQueryObj, searchKeyword, status, ownerId, skills);
         long total = ((Number) countQueryObj.getSingleResult()).longValue();
 
         return new PageImpl<>(content, pageable, total);
     }
 
-    private String buildOrderByClause(Sort sort) {
+    private String buildOrderByClause(Sort sort, boolean hasKeyword) {
         if (sort.isUnsorted()) {
-            return " ORDER BY c.created_at DESC, c.id ASC";
+            // Keyword searches are ranked by relevance unless a sort is requested
+            return hasKeyword
+                    ? " ORDER BY " + RELEVANCE + " DESC, c.id ASC"
+                    : " ORDER BY c.created_at DESC, c.id ASC";
         }
 
         String orderBy = sort.stream()
                 .map(order -> {
-                    String column = SORT_COLUMN_MAP.getOrDefault(order.getProperty(), "c.created_at");
+                    String column = "relevance".equals(order.getProperty()) && hasKeyword
+                            ? RELEVANCE
+                            : SORT_COLUMN_MAP.getOrDefault(order.getProperty(), "c.created_at");
                     String direction = order.getDirection().isAscending() ? "ASC" : "DESC";
                     return column + " " + direction;
                 })
@@ -260,12 +252,13 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
         return " ORDER BY " + orderBy + ", c.id ASC";
     }
 
-    private void setParameters(Query query, String keyword, String status, UUID ownerId, String[] skills) {
+    private void setParameters(Query query, SearchKeyword keyword, String status, UUID ownerId, String[] skills) {
         // Unwrap to Hibernate NativeQuery for better type handling
         NativeQuery<?> nativeQuery = query.unwrap(NativeQuery.class);
 
         // Set parameters with proper type handling
-        nativeQuery.setParameter("keyword", keyword);
+        nativeQuery.setParameter("keyword", SearchKeyword.textOf(keyword));
+        nativeQuery.setParameter("tsQuery", SearchKeyword.tsQueryOf(keyword));
         nativeQuery.setParameter("status", status);
 
         if (ownerId != null) {
@@ -0,0 +1,50 @@
+package com.english.api.course.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code course_stats} read model used by the course catalog search.
+ */
+public interface CourseStatsService {
+
+    /**
+     * Cache of the per-course rating breakdown, evicted after each committed rating change.
+     */
+    String RATING_STATS_CACHE = "course_rating_stats";
+
+    /**
+     * Create the empty stats row of a new course within the current transaction.
+     */
+    void initialize(UUID courseId);
+
+    /**
+     * Update the rating aggregates for one review change within the current transaction.
+     *
+     * @param previousRating rating counted before the change, or {@code null} if the review was not counted
+     *                       (new or unpublished)
+     * @param newRating      rating counted after the change, or {@code null} if it no longer counts
+     *                       (deleted or hidden)
+     */
+    void applyReviewChange(UUID courseId, Integer previousRating, Integer newRating);
+
+    /**
+     * Move the published lesson count of a course by {@code delta} within the current transaction.
+     */
+    void applyPublishedLessonDelta(UUID courseId, long delta);
+
+    /**
+     * Recompute the stats of the given courses immediately.
+     */
+    void refresh(Collection<UUID> courseIds);
+
+    /**
+     * Recompute the stats of courses changed since the last flush.
+     */
+    void flushDirty();
+
+    /**
+     * Recompute every course to repair drift from missed events.
+     */
+    void reconcile();
+}
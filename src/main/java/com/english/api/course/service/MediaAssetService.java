@@ -1,10 +1,13 @@
 package com.english.api.course.service;
 
+import com.english.api.course.dto.request.VideoUploadStartRequest;
 import com.english.api.course.dto.response.MediaAssetResponse;
+import com.english.api.course.dto.response.VideoUploadSessionResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 /**
@@ -14,6 +17,14 @@ public interface MediaAssetService {
 
     MediaAssetResponse uploadVideo(MultipartFile file);
 
+    VideoUploadSessionResponse startVideoUpload(VideoUploadStartRequest request);
+
+    VideoUploadSessionResponse getVideoUpload(UUID assetId);
+
+    VideoUploadSessionResponse uploadVideoPart(UUID assetId, int partNumber, InputStream body, long contentLength);
+
+    MediaAssetResponse completeVideoUpload(UUID assetId);
+
     MediaAssetResponse uploadAttachment(MultipartFile file, String title);
 
     void handleWorkerCallback(HttpServletRequest request, String signature);
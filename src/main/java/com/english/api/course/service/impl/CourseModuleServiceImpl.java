@@ -2,19 +2,23 @@ package com.english.api.course.service.impl;
 
 import com.english.api.auth.util.SecurityUtil;
 import com.english.api.common.exception.*;
+import com.english.api.course.cache.CourseContentCache;
 import com.english.api.course.dto.request.CourseModuleRequest;
 import com.english.api.course.dto.request.CourseModuleUpdateRequest;
 import com.english.api.course.dto.response.CourseModuleResponse;
 import com.english.api.course.dto.response.CourseModuleUpdateResponse;
+import com.english.api.course.event.CourseContentChangedEvent;
+import com.english.api.course.event.CourseCurriculumChangedEvent;
+import com.english.api.course.event.CourseStatsChangedEvent;
 import com.english.api.course.mapper.CourseModuleMapper;
 import com.english.api.course.model.Course;
 import com.english.api.course.model.CourseModule;
 import com.english.api.course.repository.CourseModuleRepository;
 import com.english.api.course.repository.CourseRepository;
 import com.english.api.course.service.CourseModuleService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +33,11 @@ public class CourseModuleServiceImpl implements CourseModuleService {
     private final CourseRepository courseRepository;
     private final CourseModuleRepository moduleRepository;
     private final CourseModuleMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourseContentCache contentCache;
+
+    private static final TypeReference<List<CourseModuleResponse>> MODULE_LIST_TYPE = new TypeReference<>() {
+    };
 
     @Override
     @Transactional
@@ -58,6 +67,8 @@ public class CourseModuleServiceImpl implements CourseModuleService {
         module.setPosition(pos);
 
         moduleRepository.save(module);
+        eventPublisher.publishEvent(new CourseStatsChangedEvent(courseId));
+        eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(courseId));
 
         return mapper.toResponse(module);
     }
@@ -77,12 +88,13 @@ public class CourseModuleServiceImpl implements CourseModuleService {
     }
 
     @Override
-    @Cacheable(value = "course_module", key = "#courseId")
     public List<CourseModuleResponse> listPublished(UUID courseId) {
-        if (!courseRepository.existsById(courseId)) {
-            throw new ResourceNotFoundException("Course not found");
-        }
-        return moduleRepository.findPublishedModulesWithLessonCount(courseId);
+        return contentCache.getForCourse(courseId, "modules", MODULE_LIST_TYPE, () -> {
+            if (!courseRepository.existsById(courseId)) {
+                throw new ResourceNotFoundException("Course not found");
+            }
+            return moduleRepository.findPublishedModulesWithLessonCount(courseId);
+        });
     }
 
     @Override
@@ -102,7 +114,6 @@ public class CourseModuleServiceImpl implements CourseModuleService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "course_module", key = "#courseId")
     public CourseModuleUpdateResponse update(UUID courseId, CourseModuleUpdateRequest request) {
         // Kiểm tra quyền sở hữu khóa học trước
         UUID currentUserId = SecurityUtil.getCurrentUserId();
@@ -137,13 +148,13 @@ public class CourseModuleServiceImpl implements CourseModuleService {
         module.setPosition(request.position());
 
         moduleRepository.save(module);
+        eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(courseId));
 
         return mapper.toUpdateResponse(module);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "course_module", key = "#courseId")
     public void delete(UUID courseId, UUID moduleId) {
         // Kiểm tra quyền sở hữu
         UUID currentUserId = SecurityUtil.getCurrentUserId();
@@ -161,6 +172,9 @@ public class CourseModuleServiceImpl implements CourseModuleService {
 
         // Xóa module
         moduleRepository.delete(module);
+        eventPublisher.publishEvent(new CourseStatsChangedEvent(courseId));
+        eventPublisher.publishEvent(new CourseCurriculumChangedEvent(courseId, true));
+        eventPublisher.publishEvent(new CourseContentChangedEvent(courseId, moduleId));
 
         // Cập nhật vị trí
         // moduleRepository.shiftPositionsAfterDelete(courseId, module.getPosition());
@@ -168,7 +182,6 @@ public class CourseModuleServiceImpl implements CourseModuleService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "course_module", key = "#courseId")
     public CourseModuleResponse publish(UUID courseId, UUID moduleId, boolean publish) {
         // Kiểm tra quyền sở hữu
         UUID currentUserId = SecurityUtil.getCurrentUserId();
@@ -187,6 +200,7 @@ public class CourseModuleServiceImpl implements CourseModuleService {
         // Cập nhật trạng thái publish
         module.setPublished(publish);
         moduleRepository.save(module);
+        eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(courseId));
 
         return mapper.toResponse(module);
     }
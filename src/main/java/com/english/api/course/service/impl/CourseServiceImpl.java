@@ -8,6 +8,7 @@ import com.english.api.common.exception.ResourceAlreadyOwnedException;
 import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
 import com.english.api.common.service.MediaService;
+import com.english.api.course.cache.CourseContentCache;
 import com.english.api.course.dto.request.CourseRequest;
 import com.english.api.course.dto.response.CourseCheckoutResponse;
 import com.english.api.course.dto.response.CourseDetailResponse;
@@ -16,6 +17,7 @@ import com.english.api.course.dto.response.CourseWithStatsResponse;
 import com.english.api.course.dto.response.GrowthPeriodResponse;
 import com.english.api.course.dto.response.InstructorStatsResponse;
 import com.english.api.course.dto.response.MonthlyGrowthResponse;
+import com.english.api.course.event.CourseContentChangedEvent;
 import com.english.api.course.mapper.CourseMapper;
 import com.english.api.course.model.Course;
 import com.english.api.course.model.Skill;
@@ -23,12 +25,15 @@ import com.english.api.course.model.enums.CourseStatus;
 import com.english.api.course.repository.CourseRepository;
 import com.english.api.course.repository.SkillRepository;
 import com.english.api.course.service.CourseService;
+import com.english.api.course.service.CourseStatsService;
 import com.english.api.enrollment.repository.EnrollmentRepository;
 import com.english.api.order.repository.OrderRepository;
 import com.english.api.user.model.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -36,6 +41,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.NumberFormat;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -58,6 +64,18 @@ public class CourseServiceImpl implements CourseService {
     private final MediaService mediaService;
     private final OrderRepository orderRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final CourseStatsService courseStatsService;
+    private final CourseContentCache contentCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final TypeReference<CourseDetailResponse> DETAIL_TYPE = new TypeReference<>() {
+    };
+
+    // Slugs are regenerated on every course write; a stale mapping only costs one miss, see getPublishedBySlug
+    private final Cache<String, UUID> courseIdsBySlug = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
 
     @Override
     public Optional<Course> findPublishedById(UUID id) {
@@ -66,21 +84,34 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     public CourseDetailResponse getById(UUID id) {
-        List<Object[]> result = courseRepository.findDetailByIdNative(id);
-        if (result == null || result.isEmpty()) {
-            throw new ResourceNotFoundException("Course not found");
-        }
-        return mapToDetailResponse(result.get(0));
+        return contentCache.getForCourse(id, "detail", DETAIL_TYPE, () -> {
+            List<Object[]> result = courseRepository.findDetailByIdNative(id);
+            if (result == null || result.isEmpty()) {
+                throw new ResourceNotFoundException("Course not found");
+            }
+            return mapToDetailResponse(result.get(0));
+        });
     }
 
     @Override
-    @CachePut(value = "courses", key = "#result.id()")
     public CourseDetailResponse getPublishedBySlug(String slug) {
-        List<Object[]> result = courseRepository.findDetailBySlugNative(slug);
-        if (result == null || result.isEmpty()) {
+        UUID courseId = courseIdsBySlug.get(slug, s -> courseRepository.findIdBySlug(s).orElse(null));
+        if (courseId == null) {
             throw new ResourceNotFoundException("Course not found");
         }
-        return mapToDetailResponse(result.get(0));
+        try {
+            return contentCache.getForCourse(courseId, "published:" + slug, DETAIL_TYPE, () -> {
+                List<Object[]> result = courseRepository.findDetailBySlugNative(slug);
+                if (result == null || result.isEmpty()) {
+                    throw new ResourceNotFoundException("Course not found");
+                }
+                return mapToDetailResponse(result.get(0));
+            });
+        } catch (ResourceNotFoundException e) {
+            // Slug was replaced or the course unpublished, resolve it again next time
+            courseIdsBySlug.invalidate(slug);
+            throw e;
+        }
     }
 
     @Override
@@ -111,7 +142,9 @@ public class CourseServiceImpl implements CourseService {
             course.setSkills(getOrCreateSkills(req.skillFocus()));
         }
         
-        return mapper.toResponse(courseRepository.save(course));
+        Course saved = courseRepository.saveAndFlush(course);
+        courseStatsService.initialize(saved.getId());
+        return mapper.toResponse(saved);
     }
 
     @Override
@@ -167,7 +200,6 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Transactional
-    @CacheEvict(value = "courses", key = "#id")
     @Override
     public CourseResponse update(UUID id, CourseRequest req) {
         // TEMPORARY: Only allow VND currency for courses
@@ -209,13 +241,13 @@ public class CourseServiceImpl implements CourseService {
         course.setPriceCents(req.priceCents());
         course.setCurrency(req.currency());
 
+        eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(id));
         return mapper.toResponse(courseRepository.save(course));
     }
 
 
     @Override
     @Transactional
-    @CacheEvict(value = "courses", key = "#id")
     public void delete(UUID id) {
         UUID currentUserId = SecurityUtil.getCurrentUserId();
 
@@ -231,11 +263,11 @@ public class CourseServiceImpl implements CourseService {
         }
 
         courseRepository.softDeleteById(id, Instant.now());
+        eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(id));
     }
 
 
     @Transactional
-    @CacheEvict(value = "courses", key = "#id")
     @Override
     public CourseResponse changeStatus(UUID id, CourseStatus status) {
         UUID currentUserId = SecurityUtil.getCurrentUserId();
@@ -271,6 +303,7 @@ public class CourseServiceImpl implements CourseService {
         } else {
             course.setPublishedAt(null);
         }
+        eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(id));
         return mapper.toResponse(courseRepository.save(course));
     }
 
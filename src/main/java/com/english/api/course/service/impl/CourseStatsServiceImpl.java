@@ -0,0 +1,216 @@
+package com.english.api.course.service.impl;
+
+import com.english.api.course.event.CourseContentChangedEvent;
+import com.english.api.course.event.CourseRatingChangedEvent;
+import com.english.api.course.event.CourseStatsChangedEvent;
+import com.english.api.course.repository.CourseStatsRepository;
+import com.english.api.course.service.CourseStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write paths publish {@link CourseStatsChangedEvent}; committed changes are collected in a dirty set and
+ * recomputed in one statement per flush, so bursts of enrollments or reviews on the same course cost a single refresh.
+ * A periodic reconcile, run by one node at a time, repairs rows whose events were lost (e.g. node shutdown before flush).
+ * It rewrites the rows in batches, each locked first so a delta committed meanwhile is applied after the rewrite
+ * instead of being overwritten by it.
+ * <p>
+ * Rating aggregates are the exception: review writes apply their delta in the same transaction, so the rating
+ * stats served from {@value CourseStatsService#RATING_STATS_CACHE} are exact once the review commits. The reconcile rebuilds them too.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseStatsServiceImpl implements CourseStatsService {
+
+    private static final String RECONCILE_LOCK_KEY = "lock:course_stats:reconcile";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // KEYS: lock | ARGV: token; releases the lock only if this node still holds it
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final CourseStatsRepository courseStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+
+    private final Set<UUID> dirtyCourses = ConcurrentHashMap.newKeySet();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initialize(UUID courseId) {
+        courseStatsRepository.initialize(courseId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyReviewChange(UUID courseId, Integer previousRating, Integer newRating) {
+        if (Objects.equals(previousRating, newRating)) {
+            return;
+        }
+        long[] histogramDelta = new long[6];
+        long countDelta = 0;
+        long sumDelta = 0;
+        if (previousRating != null) {
+            countDelta--;
+            sumDelta -= previousRating;
+            bump(histogramDelta, previousRating, -1);
+        }
+        if (newRating != null) {
+            countDelta++;
+            sumDelta += newRating;
+            bump(histogramDelta, newRating, 1);
+        }
+        int updated = courseStatsRepository.applyReviewDelta(courseId, countDelta, sumDelta,
+                histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4], histogramDelta[5]);
+        if (updated == 0) {
+            // No stats row yet, build it from the source tables (includes this transaction's review change)
+            courseStatsRepository.refresh(new UUID[]{courseId});
+        }
+        eventPublisher.publishEvent(new CourseRatingChangedEvent(courseId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyPublishedLessonDelta(UUID courseId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (courseStatsRepository.applyPublishedLessonDelta(courseId, delta) == 0) {
+            // No stats row yet, build it from the source tables (includes this transaction's change)
+            courseStatsRepository.refresh(new UUID[]{courseId});
+        }
+    }
+
+    private void bump(long[] histogram, int rating, int delta) {
+        if (rating >= 1 && rating <= 5) {
+            histogram[rating] += delta;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRatingChanged(CourseRatingChangedEvent event) {
+        evictRatingStats(event.courseId());
+    }
+
+    private void evictRatingStats(UUID courseId) {
+        Cache cache = cacheManager.getCache(RATING_STATS_CACHE);
+        if (cache != null) {
+            cache.evict(courseId);
+        }
+    }
+
+    @Override
+    public void refresh(Collection<UUID> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = courseIds.toArray(UUID[]::new);
+        transactionTemplate.executeWithoutResult(status -> courseStatsRepository.refresh(ids));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatsChanged(CourseStatsChangedEvent event) {
+        dirtyCourses.add(event.courseId());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.course-stats.flush-interval-ms:5000}")
+    public void flushDirty() {
+        if (dirtyCourses.isEmpty()) {
+            return;
+        }
+        List<UUID> batch = new ArrayList<>();
+        Iterator<UUID> iterator = dirtyCourses.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        try {
+            refresh(batch);
+            // Module, lesson and student counts on the course page come from here
+            batch.forEach(courseId -> eventPublisher.publishEvent(CourseContentChangedEvent.ofCourse(courseId)));
+        } catch (Exception e) {
+            // Retried on the next flush
+            dirtyCourses.addAll(batch);
+            log.warn("Failed to refresh stats of {} courses: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${app.course-stats.reconcile-cron:0 17 * * * *}")
+    public void reconcile() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, token, RECONCILE_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+        try {
+            int updated = reconcileAll();
+            if (updated > 0) {
+                log.info("Course stats reconcile corrected {} rows", updated);
+                // Which rows changed is unknown here, drop every cached rating summary
+                Cache cache = cacheManager.getCache(RATING_STATS_CACHE);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Course stats reconcile failed: {}", e.getMessage(), e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), token);
+        }
+    }
+
+    private int reconcileAll() {
+        transactionTemplate.executeWithoutResult(status -> courseStatsRepository.initializeMissing());
+        int[] updated = {0};
+        UUID after = new UUID(0L, 0L);
+        List<UUID> batch;
+        do {
+            UUID from = after;
+            batch = transactionTemplate.execute(status -> {
+                List<UUID> locked = courseStatsRepository.lockBatch(from, RECONCILE_BATCH_SIZE);
+                if (!locked.isEmpty()) {
+                    updated[0] += courseStatsRepository.reconcile(locked.toArray(UUID[]::new));
+                }
+                return locked;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            after = batch.get(batch.size() - 1);
+        } while (batch.size() == RECONCILE_BATCH_SIZE);
+        return updated[0];
+    }
+}
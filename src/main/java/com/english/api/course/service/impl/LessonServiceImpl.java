@@ -3,17 +3,24 @@ package com.english.api.course.service.impl;
 import com.english.api.auth.util.SecurityUtil;
 import com.english.api.common.exception.*;
 import com.english.api.common.service.MediaService;
+import com.english.api.course.cache.CourseContentCache;
 import com.english.api.course.dto.request.LessonRequest;
 import com.english.api.course.dto.response.LessonResponse;
 import com.english.api.course.dto.response.LessonSummaryResponse;
+import com.english.api.course.event.CourseContentChangedEvent;
+import com.english.api.course.event.CourseCurriculumChangedEvent;
+import com.english.api.course.event.CourseStatsChangedEvent;
 import com.english.api.course.mapper.LessonMapper;
 import com.english.api.course.model.*;
 import com.english.api.course.model.enums.LessonMediaRole;
 import com.english.api.course.repository.*;
+import com.english.api.course.service.CourseStatsService;
 import com.english.api.course.service.LessonService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +41,12 @@ public class LessonServiceImpl implements LessonService {
     private final MediaAssetRepository assetRepository;
     private final LessonMapper lessonMapper;
     private final MediaService mediaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourseContentCache contentCache;
+    private final CourseStatsService courseStatsService;
+
+    private static final TypeReference<List<LessonSummaryResponse>> LESSON_LIST_TYPE = new TypeReference<>() {
+    };
 
     // --- CREATE ---
     @Override
@@ -56,6 +69,8 @@ public class LessonServiceImpl implements LessonService {
         Lesson lesson = lessonMapper.toEntity(request, module);
         lesson.setPosition(position);
         lessonRepository.save(lesson);
+        eventPublisher.publishEvent(new CourseStatsChangedEvent(module.getCourse().getId()));
+        eventPublisher.publishEvent(new CourseContentChangedEvent(module.getCourse().getId(), moduleId));
 
         // Nếu có mediaId → thêm media PRIMARY
         if (request.mediaId() != null) {
@@ -78,7 +93,8 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     public List<LessonSummaryResponse> listPublished(UUID moduleId) {
-        return lessonRepository.findPublishedSummaryByModuleId(moduleId);
+        return contentCache.getForModule(moduleId, "lessons", LESSON_LIST_TYPE,
+                () -> lessonRepository.findPublishedSummaryByModuleId(moduleId));
     }
 
     // --- GET ---
@@ -174,6 +190,7 @@ public class LessonServiceImpl implements LessonService {
 
         // Lưu lesson (Hibernate sẽ tự insert LessonMedia mới)
         lessonRepository.save(lesson);
+        eventPublisher.publishEvent(new CourseContentChangedEvent(lesson.getModule().getCourse().getId(), moduleId));
         return lessonMapper.toResponse(lesson);
     }
 
@@ -248,6 +265,13 @@ public class LessonServiceImpl implements LessonService {
 
         // Hibernate sẽ tự xóa MediaAsset nhờ cascade + orphanRemoval
         lessonRepository.delete(lesson);
+        UUID courseId = lesson.getModule().getCourse().getId();
+        if (Boolean.TRUE.equals(lesson.getPublished())) {
+            courseStatsService.applyPublishedLessonDelta(courseId, -1);
+        }
+        eventPublisher.publishEvent(new CourseCurriculumChangedEvent(courseId, true));
+        eventPublisher.publishEvent(new CourseStatsChangedEvent(courseId));
+        eventPublisher.publishEvent(new CourseContentChangedEvent(courseId, moduleId));
     }
 
 
@@ -330,8 +354,15 @@ public class LessonServiceImpl implements LessonService {
                 .filter(l -> l.getModule().getId().equals(moduleId))
                 .orElseThrow(() -> new ResourceNotFoundException("Lesson not found"));
 
+        boolean changed = publish != Boolean.TRUE.equals(lesson.getPublished());
         lesson.setPublished(publish);
         lessonRepository.save(lesson);
+        if (changed) {
+            UUID courseId = lesson.getModule().getCourse().getId();
+            courseStatsService.applyPublishedLessonDelta(courseId, publish ? 1 : -1);
+            eventPublisher.publishEvent(new CourseCurriculumChangedEvent(courseId, false));
+        }
+        eventPublisher.publishEvent(new CourseContentChangedEvent(lesson.getModule().getCourse().getId(), moduleId));
 
         return lessonMapper.toResponse(lesson);
     }
@@ -1,12 +1,18 @@
 package com.english.api.course.service.impl;
 
 import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.exception.AccessDeniedException;
 import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
+import com.english.api.common.exception.ServiceBusyException;
+import com.english.api.common.storage.S3StreamingUploader;
 import com.english.api.common.util.SlugUtil;
 import com.english.api.course.dto.request.MediaCallbackRequest;
+import com.english.api.course.dto.request.VideoUploadStartRequest;
 import com.english.api.course.dto.response.MediaAssetResponse;
 import com.english.api.course.dto.response.MediaAssetSimpleResponse;
+import com.english.api.course.dto.response.VideoUploadSessionResponse;
+import com.english.api.course.event.VideoSourceUploadedEvent;
 import com.english.api.course.mapper.MediaAssetMapper;
 import com.english.api.course.model.MediaAsset;
 import com.english.api.course.repository.MediaAssetRepository;
@@ -14,35 +20,33 @@ import com.english.api.course.service.MediaAssetService;
 import com.english.api.course.util.MediaTokenUtil;
 import com.english.api.user.model.User;
 import com.english.api.user.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import com.english.api.common.service.MediaService;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -59,13 +63,23 @@ public class MediaAssetServiceImpl implements MediaAssetService {
     private final UserService userService;
     private final MediaAssetMapper mediaAssetMapper;
     private final MediaService mediaService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final S3StreamingUploader uploader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
-    @Value("${app.worker.url:http://localhost:10000/upload}")
-    private String workerUrl;
+    private static final long MB = 1024 * 1024;
+    // S3 limits: parts other than the last are at least 5 MB, at most 10,000 parts
+    private static final long MIN_PART_SIZE = 5 * MB;
+    private static final long MAX_PARTS = 10_000;
 
-    @Value("${app.worker.api-token}")
-    private String workerApiToken;
+    @Value("${cloud.bucket}")
+    private String bucket;
+
+    @Value("${app.media.video.part-size-mb:16}")
+    private long videoPartSizeMb;
+
+    @Value("${app.media.video.max-size-mb:4096}")
+    private long videoMaxSizeMb;
 
     @Value("${app.worker.callback-secret}")
     private String callbackSecret;
@@ -73,8 +87,11 @@ public class MediaAssetServiceImpl implements MediaAssetService {
     @Value("${app.media.secret-token}")
     private String mediaSecret;
 
+    /**
+     * Single-request variant of the chunked flow: the file is streamed to storage with no transaction open,
+     * and only a reference is handed to the worker after the asset row is updated.
+     */
     @Override
-    @Transactional
     public MediaAssetResponse uploadVideo(MultipartFile file) {
         UUID userId = SecurityUtil.getCurrentUserId();
         User user = userService.findById(userId);
@@ -84,65 +101,118 @@ public class MediaAssetServiceImpl implements MediaAssetService {
         if (mimeType == null || !mimeType.startsWith("video/")) {
             throw new IllegalArgumentException("Only video formats accepted");
         }
+        String filename = Objects.requireNonNull(file.getOriginalFilename());
+
+        // Tạo MediaAsset với trạng thái "uploading"
+        MediaAsset asset = assetRepository.save(newVideoAsset(user, mimeType, filename, file.getSize()));
+        String key = videoSourceKey(asset.getId(), filename);
+
+        try (InputStream in = file.getInputStream()) {
+            uploader.upload(bucket, key, mimeType, in, file.getSize());
+        } catch (ServiceBusyException e) {
+            // Nothing was stored: drop the row and let the client retry on the 503
+            assetRepository.deleteById(asset.getId());
+            throw e;
+        } catch (IOException | UncheckedIOException | SdkException e) {
+            assetRepository.mergeMeta(asset.getId(), "{\"status\": \"failed\"}");
+            log.error("Failed to store video source for asset {}: {}", asset.getId(), e.getMessage());
+            throw new RuntimeException("Failed to upload video", e);
+        }
 
-        // Tạo MediaAsset với trạng thái "processing"
-        MediaAsset asset = MediaAsset.builder()
-                .owner(user)
-                .mimeType(mimeType)
-                .createdAt(Instant.now())
-                .build();
+        return sourceUploaded(asset, userId, key, filename);
+    }
 
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode meta = mapper.createObjectNode();
-        meta.put("filename", file.getOriginalFilename());
-        meta.put("size", file.getSize());
-        meta.put("status", "processing");
-        meta.put("uploadedAt", Instant.now().toString());
-        asset.setMeta(meta);
+    @Override
+    public VideoUploadSessionResponse startVideoUpload(VideoUploadStartRequest request) {
+        UUID userId = SecurityUtil.getCurrentUserId();
+        User user = userService.findById(userId);
 
-        asset = assetRepository.save(asset);
+        if (!request.contentType().startsWith("video/")) {
+            throw new ResourceInvalidException("Only video formats accepted");
+        }
+        if (request.size() > videoMaxSizeMb * MB) {
+            throw new ResourceInvalidException(String.format("Video exceeds the %d MB limit", videoMaxSizeMb));
+        }
+        long partSize = Math.max(MIN_PART_SIZE, videoPartSizeMb * MB);
+        long totalParts = (request.size() + partSize - 1) / partSize;
+        if (totalParts > MAX_PARTS) {
+            throw new ResourceInvalidException("Video is too large for the configured part size");
+        }
 
-        // Lưu file tạm
-        String safeFilename = Objects.requireNonNull(file.getOriginalFilename())
-                .replaceAll("[^a-zA-Z0-9._-]", "_");
-        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"), "videos");
-        Path tempFile = tempDir.resolve(asset.getId().toString() + "-" + safeFilename);
+        MediaAsset asset = assetRepository.save(
+                newVideoAsset(user, request.contentType(), request.fileName(), request.size()));
+        String key = videoSourceKey(asset.getId(), request.fileName());
+        String uploadId = uploader.startMultipart(bucket, key, request.contentType());
+
+        ObjectNode upload = objectMapper.createObjectNode();
+        upload.put("key", key);
+        upload.put("uploadId", uploadId);
+        upload.put("partSize", partSize);
+        upload.put("totalParts", totalParts);
+        ObjectNode patch = objectMapper.createObjectNode();
+        patch.set("upload", upload);
+        patch.set("parts", objectMapper.createObjectNode());
+        assetRepository.mergeMeta(asset.getId(), patch.toString());
+
+        // Work on a copy: the entity must stay identical to the row mergeMeta just wrote
+        ObjectNode meta = asset.getMeta().<ObjectNode>deepCopy().setAll(patch);
+        return toSessionResponse(asset.getId(), meta);
+    }
 
-        try {
-            if (!Files.exists(tempDir)) {
-                Files.createDirectories(tempDir);
-                log.info("Created temp directory: {}", tempDir.toAbsolutePath());
-            }
+    @Override
+    public VideoUploadSessionResponse getVideoUpload(UUID assetId) {
+        MediaAsset asset = findOwnedVideoUpload(assetId);
+        return toSessionResponse(assetId, asset.getMeta());
+    }
+
+    @Override
+    public VideoUploadSessionResponse uploadVideoPart(UUID assetId, int partNumber, InputStream body, long contentLength) {
+        MediaAsset asset = findOwnedVideoUpload(assetId);
+        JsonNode meta = asset.getMeta();
+        requireUploading(meta);
+
+        JsonNode upload = meta.path("upload");
+        long size = meta.path("size").asLong();
+        long partSize = upload.path("partSize").asLong();
+        int totalParts = upload.path("totalParts").asInt();
+        if (partNumber < 1 || partNumber > totalParts) {
+            throw new ResourceInvalidException(String.format("Part number must be between 1 and %d", totalParts));
+        }
+        long expected = partNumber < totalParts ? partSize : size - partSize * (totalParts - 1);
+        if (contentLength != expected) {
+            throw new ResourceInvalidException(String.format("Part %d must be exactly %d bytes", partNumber, expected));
+        }
 
-            Files.copy(file.getInputStream(), tempFile, StandardCopyOption.REPLACE_EXISTING);
-            log.info("Saved temp file: {}", tempFile.toAbsolutePath());
+        uploader.uploadPart(bucket, upload.path("key").asText(), upload.path("uploadId").asText(),
+                partNumber, body, contentLength);
+        assetRepository.recordVideoPart(assetId, partNumber, contentLength);
 
-            // Gửi sang worker qua HTTP
-            sendToWorker(
-                    asset.getId(),
-                    tempFile,
-                    userId,
-                    SlugUtil.toSlugWithUuid(file.getOriginalFilename())
-            );
+        ObjectNode progress = meta.deepCopy();
+        ((ObjectNode) progress.path("parts")).put(String.valueOf(partNumber), contentLength);
+        return toSessionResponse(assetId, progress);
+    }
 
-        } catch (IOException e) {
-            log.error("Failed to save temp file", e);
-            throw new RuntimeException("Failed to save temp file", e);
-
-        } finally {
-            // Dọn dẹp file tạm (ngầm, không crash nếu lỗi)
-            try {
-                if (Files.exists(tempFile)) {
-                    Files.delete(tempFile);
-                    log.info("Deleted temp file: {}", tempFile);
-                }
-            } catch (IOException ex) {
-                log.warn("Could not delete temp file: {}", tempFile);
-            }
+    @Override
+    public MediaAssetResponse completeVideoUpload(UUID assetId) {
+        MediaAsset asset = findOwnedVideoUpload(assetId);
+        JsonNode meta = asset.getMeta();
+        requireUploading(meta);
+
+        VideoUploadSessionResponse session = toSessionResponse(assetId, meta);
+        if (session.uploadedParts().size() != session.totalParts()) {
+            throw new ResourceInvalidException(String.format("%d of %d parts uploaded",
+                    session.uploadedParts().size(), session.totalParts()));
         }
 
-        // Trả kết quả tạm thời cho frontend
-        return mediaAssetMapper.toResponse(asset);
+        String key = meta.path("upload").path("key").asText();
+        long stored = uploader.completeMultipart(bucket, key, meta.path("upload").path("uploadId").asText());
+        if (stored != session.size()) {
+            mediaService.deleteFile(key);
+            assetRepository.mergeMeta(assetId, "{\"status\": \"failed\"}");
+            throw new ResourceInvalidException("Uploaded video does not match the declared size");
+        }
+
+        return sourceUploaded(asset, asset.getOwner().getId(), key, meta.path("filename").asText());
     }
 
     @Override
@@ -282,24 +352,70 @@ public class MediaAssetServiceImpl implements MediaAssetService {
         }
     }
 
-    private void sendToWorker(UUID assetId, Path tempFile, UUID userId, String lessonName) {
-        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
-        form.add("lessonName", lessonName);
-        form.add("userId", userId.toString());
-        form.add("assetId", assetId.toString());
-        form.add("video", new FileSystemResource(tempFile.toFile()));
+    private MediaAsset newVideoAsset(User owner, String mimeType, String filename, long size) {
+        MediaAsset asset = MediaAsset.builder()
+                .owner(owner)
+                .mimeType(mimeType)
+                .createdAt(Instant.now())
+                .build();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        headers.set("Authorization", "Bearer " + workerApiToken);
+        ObjectNode meta = objectMapper.createObjectNode();
+        meta.put("filename", filename);
+        meta.put("size", size);
+        meta.put("status", "uploading");
+        meta.put("uploadedAt", Instant.now().toString());
+        asset.setMeta(meta);
+        return asset;
+    }
 
-        try {
-            restTemplate.postForEntity(workerUrl, new HttpEntity<>(form, headers), String.class);
-            log.info("Sent job to worker for asset {}", assetId);
-        } catch (Exception e) {
-            log.error("Failed to dispatch worker job: {}", e.getMessage());
-            throw new RuntimeException("Worker upload failed", e);
+    /**
+     * Mark the source as stored and queue the worker handoff, which runs after this returns.
+     */
+    private MediaAssetResponse sourceUploaded(MediaAsset asset, UUID userId, String key, String filename) {
+        ObjectNode patch = objectMapper.createObjectNode();
+        patch.put("status", "processing");
+        patch.put("sourceKey", key);
+        assetRepository.mergeMeta(asset.getId(), patch.toString());
+
+        eventPublisher.publishEvent(new VideoSourceUploadedEvent(
+                asset.getId(), userId, key, SlugUtil.toSlugWithUuid(filename)));
+        ObjectNode meta = asset.getMeta().<ObjectNode>deepCopy().setAll(patch);
+        return new MediaAssetResponse(asset.getId(), asset.getMimeType(), asset.getUrl(), meta, asset.getCreatedAt());
+    }
+
+    private MediaAsset findOwnedVideoUpload(UUID assetId) {
+        MediaAsset asset = assetRepository.findById(assetId)
+                .filter(a -> a.getMeta() != null && a.getMeta().has("upload"))
+                .orElseThrow(() -> new ResourceNotFoundException("Video upload not found"));
+        if (!asset.getOwner().getId().equals(SecurityUtil.getCurrentUserId())) {
+            throw new AccessDeniedException("You are not allowed to access this upload");
+        }
+        return asset;
+    }
+
+    private void requireUploading(JsonNode meta) {
+        if (!"uploading".equals(meta.path("status").asText())) {
+            throw new ResourceInvalidException("Video upload is already " + meta.path("status").asText());
         }
     }
-}
 
+    private VideoUploadSessionResponse toSessionResponse(UUID assetId, JsonNode meta) {
+        JsonNode upload = meta.path("upload");
+        List<Integer> uploadedParts = new ArrayList<>();
+        long uploadedBytes = 0;
+        Iterator<Map.Entry<String, JsonNode>> parts = meta.path("parts").fields();
+        while (parts.hasNext()) {
+            Map.Entry<String, JsonNode> part = parts.next();
+            uploadedParts.add(Integer.parseInt(part.getKey()));
+            uploadedBytes += part.getValue().asLong();
+        }
+        Collections.sort(uploadedParts);
+        return new VideoUploadSessionResponse(assetId, meta.path("status").asText(), meta.path("size").asLong(),
+                upload.path("partSize").asLong(), upload.path("totalParts").asInt(), uploadedParts, uploadedBytes);
+    }
+
+    private static String videoSourceKey(UUID assetId, String filename) {
+        String safeFilename = filename.replaceAll("[^a-zA-Z0-9._-]", "_");
+        return "videos/source/" + assetId + "/" + safeFilename;
+    }
+}
@@ -15,12 +15,16 @@ import com.english.api.course.dto.response.ReviewResponse;
 import com.english.api.course.dto.response.ReviewSummaryResponse;
 import com.english.api.course.mapper.ReviewMapper;
 import com.english.api.course.model.CourseReview;
+import com.english.api.course.model.CourseStats;
 import com.english.api.course.repository.CourseReviewRepository;
+import com.english.api.course.repository.CourseStatsRepository;
+import com.english.api.course.service.CourseStatsService;
 import com.english.api.course.service.ReviewService;
 import com.english.api.user.model.User;
 import com.english.api.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,6 +45,8 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewMapper reviewMapper;
     private final ForumReportRepository reportRepository;
     private final NotificationService notificationService;
+    private final CourseStatsRepository courseStatsRepository;
+    private final CourseStatsService courseStatsService;
     
     @Override
     @Transactional
@@ -75,6 +81,7 @@ public class ReviewServiceImpl implements ReviewService {
             .build();
         
         CourseReview savedReview = reviewRepository.save(review);
+        courseStatsService.applyReviewChange(courseId, null, savedReview.getRating());
         log.info("User {} created review for course {}", currentUserId, courseId);
         
         return reviewMapper.toResponse(savedReview);
@@ -95,10 +102,12 @@ public class ReviewServiceImpl implements ReviewService {
         }
         
         // 3. Update review
+        Integer previousRating = countedRating(review);
         review.setRating(request.rating());
         review.setComment(request.comment());
         
         CourseReview updatedReview = reviewRepository.save(review);
+        courseStatsService.applyReviewChange(review.getCourse().getId(), previousRating, countedRating(updatedReview));
         log.info("User {} updated review {}", currentUserId, reviewId);
         
         return reviewMapper.toResponse(updatedReview);
@@ -120,6 +129,7 @@ public class ReviewServiceImpl implements ReviewService {
         
         // 3. Delete review
         reviewRepository.delete(review);
+        courseStatsService.applyReviewChange(review.getCourse().getId(), countedRating(review), null);
         log.info("User {} deleted review {}", currentUserId, reviewId);
     }
     
@@ -173,39 +183,28 @@ public class ReviewServiceImpl implements ReviewService {
     
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = CourseStatsService.RATING_STATS_CACHE, key = "#courseId")
     public CourseRatingStatsResponse getCourseRatingStats(UUID courseId) {
         // Check if course exists
         if (!courseRepository.existsById(courseId)) {
             throw new ResourceNotFoundException("Course not found with ID: " + courseId);
         }
         
-        // Get total reviews
-        Long totalReviews = reviewRepository.countByCourseId(courseId);
-        
-        // Get average rating
-        Double averageRating = reviewRepository.calculateAverageRating(courseId);
-        if (averageRating == null) {
-            averageRating = 0.0;
-        }
+        // Aggregates are maintained on every review write, one row holds the whole summary
+        CourseStats stats = courseStatsRepository.findById(courseId)
+            .orElseGet(() -> CourseStats.builder().courseId(courseId).build());
         
         // Round to 1 decimal place (e.g., 4.5)
-        averageRating = Math.round(averageRating * 10.0) / 10.0;
-        
-        // Get count by each star rating
-        Long fiveStarCount = reviewRepository.countByCourseIdAndRating(courseId, 5);
-        Long fourStarCount = reviewRepository.countByCourseIdAndRating(courseId, 4);
-        Long threeStarCount = reviewRepository.countByCourseIdAndRating(courseId, 3);
-        Long twoStarCount = reviewRepository.countByCourseIdAndRating(courseId, 2);
-        Long oneStarCount = reviewRepository.countByCourseIdAndRating(courseId, 1);
+        double averageRating = Math.round(stats.getAverageRating() * 10.0) / 10.0;
         
         return new CourseRatingStatsResponse(
-            totalReviews,
+            stats.getReviewCount(),
             averageRating,
-            fiveStarCount,
-            fourStarCount,
-            threeStarCount,
-            twoStarCount,
-            oneStarCount
+            stats.getRating5(),
+            stats.getRating4(),
+            stats.getRating3(),
+            stats.getRating2(),
+            stats.getRating1()
         );
     }
     
@@ -246,8 +245,10 @@ public class ReviewServiceImpl implements ReviewService {
         }
     
         // 3. Set review as published
+        Integer previousRating = countedRating(review);
         review.setIsPublished(true);
         CourseReview updatedReview = reviewRepository.save(review);
+        courseStatsService.applyReviewChange(review.getCourse().getId(), previousRating, countedRating(updatedReview));
         
         log.info("Instructor {} showed review {}", currentUserId, reviewId);
         return reviewMapper.toResponse(updatedReview);
@@ -266,8 +267,10 @@ public class ReviewServiceImpl implements ReviewService {
         }
     
         // 3. Set review as hidden
+        Integer previousRating = countedRating(review);
         review.setIsPublished(false);
         CourseReview updatedReview = reviewRepository.save(review);
+        courseStatsService.applyReviewChange(review.getCourse().getId(), previousRating, countedRating(updatedReview));
         
         log.info("Instructor {} hid review {}", currentUserId, reviewId);
         return reviewMapper.toResponse(updatedReview);
@@ -293,6 +296,7 @@ public class ReviewServiceImpl implements ReviewService {
         
         // 3. Xóa Review
         reviewRepository.delete(review);
+        courseStatsService.applyReviewChange(review.getCourse().getId(), countedRating(review), null);
         
         log.info("Admin {} deleted review {} and cleaned up reports", adminId, reviewId);
 
@@ -305,4 +309,8 @@ public class ReviewServiceImpl implements ReviewService {
         }
     }
 
+    // Rating a review contributes to the course aggregates, null while it is hidden
+    private Integer countedRating(CourseReview review) {
+        return Boolean.TRUE.equals(review.getIsPublished()) ? review.getRating() : null;
+    }
 }
@@ -56,6 +56,10 @@ public class Enrollment {
     @Builder.Default
     private BigDecimal progressPercent = BigDecimal.ZERO;
 
+    @Column(name = "completed_lessons", nullable = false)
+    @Builder.Default
+    private int completedLessons = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -58,11 +58,70 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, UUID> {
     List<Enrollment> findByUserIdWithCourse(@Param("userId") UUID userId);
 
     /**
-     * Update progress percentage for an enrollment
+     * Find the user's enrollment in the course that contains the lesson
+     */
+    @Query("""
+        SELECT e.id FROM Enrollment e, Lesson l
+        WHERE l.id = :lessonId AND e.course = l.module.course AND e.user.id = :userId
+        """)
+    Optional<UUID> findIdByUserIdAndLessonId(@Param("userId") UUID userId, @Param("lessonId") UUID lessonId);
+
+    /**
+     * Move the completed lesson counter of an enrollment by {@code delta} and derive its progress percentage
+     * from the course's published lesson count (0 while the course has no stats row yet)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE enrollments e SET
+            completed_lessons = GREATEST(e.completed_lessons + :delta, 0),
+            progress_percent = COALESCE((
+                SELECT CASE WHEN s.published_lesson_count > 0
+                    THEN LEAST(100, ROUND(CAST(GREATEST(e.completed_lessons + :delta, 0) * 100 AS numeric)
+                        / s.published_lesson_count, 2))
+                    ELSE 0 END
+                FROM course_stats s
+                WHERE s.course_id = e.course_id), 0)
+        WHERE e.id = :enrollmentId
+        """, nativeQuery = true)
+    int applyCompletedLessonDelta(@Param("enrollmentId") UUID enrollmentId, @Param("delta") int delta);
+
+    /**
+     * Re-derive the progress percentage of every enrollment in the course from its counters
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE enrollments e SET
+            progress_percent = CASE WHEN s.published_lesson_count > 0
+                THEN LEAST(100, ROUND(CAST(e.completed_lessons * 100 AS numeric) / s.published_lesson_count, 2))
+                ELSE 0 END
+        FROM course_stats s
+        WHERE e.course_id = :courseId AND s.course_id = e.course_id
+        """, nativeQuery = true)
+    int recomputeProgressByCourseId(@Param("courseId") UUID courseId);
+
+    /**
+     * Recount the completed lessons of every enrollment in the course from lesson progress, then re-derive
+     * their progress percentage
      */
     @Modifying
-    @Query("UPDATE Enrollment e SET e.progressPercent = :progressPercent WHERE e.user.id = :userId AND e.course.id = :courseId")
-    int updateProgressPercent(@Param("userId") UUID userId, @Param("courseId") UUID courseId, @Param("progressPercent") BigDecimal progressPercent);
+    @Query(value = """
+        UPDATE enrollments e SET
+            completed_lessons = c.completed,
+            progress_percent = CASE WHEN s.published_lesson_count > 0
+                THEN LEAST(100, ROUND(CAST(c.completed * 100 AS numeric) / s.published_lesson_count, 2))
+                ELSE 0 END
+        FROM course_stats s,
+            (SELECT en.id, COUNT(lp.id) AS completed
+             FROM enrollments en
+             LEFT JOIN lesson_progress lp ON lp.user_id = en.user_id AND lp.completed = true
+                 AND lp.lesson_id IN (SELECT l.id FROM lessons l
+                                      INNER JOIN course_modules m ON m.id = l.module_id
+                                      WHERE m.course_id = :courseId)
+             WHERE en.course_id = :courseId
+             GROUP BY en.id) c
+        WHERE e.id = c.id AND s.course_id = e.course_id
+        """, nativeQuery = true)
+    int recountProgressByCourseId(@Param("courseId") UUID courseId);
 
     /**
      * Find enrollment by user and course with course details eagerly loaded
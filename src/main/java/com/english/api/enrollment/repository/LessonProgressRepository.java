@@ -2,7 +2,6 @@ package com.english.api.enrollment.repository;
 
 import com.english.api.enrollment.model.LessonProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,18 +17,17 @@ import java.util.UUID;
 public interface LessonProgressRepository extends JpaRepository<LessonProgress, UUID> {
     Optional<LessonProgress> findByUserIdAndLessonId(UUID userId, UUID lessonId);
 
-    @Modifying
-    @Query("UPDATE LessonProgress lp SET lp.completed = NOT lp.completed, lp.lastSeenAt = CURRENT_TIMESTAMP " +
-           "WHERE lp.user.id = :userId AND lp.lesson.id = :lessonId")
-    int toggleCompleted(@Param("userId") UUID userId, @Param("lessonId") UUID lessonId);
-
-    @Query("""
-        SELECT COUNT(lp) FROM LessonProgress lp
-        WHERE lp.user.id = :userId
-        AND lp.lesson.module.course.id = :courseId
-        AND lp.completed = true
-        """)
-    long countCompletedLessonsByUserAndCourse(@Param("userId") UUID userId, @Param("courseId") UUID courseId);
+    /**
+     * Flip the completed flag of an existing progress row
+     *
+     * @return the new value, or empty when the user has no progress row for the lesson
+     */
+    @Query(value = """
+        UPDATE lesson_progress SET completed = NOT completed, last_seen_at = NOW()
+        WHERE user_id = :userId AND lesson_id = :lessonId
+        RETURNING completed
+        """, nativeQuery = true)
+    Optional<Boolean> toggleCompleted(@Param("userId") UUID userId, @Param("lessonId") UUID lessonId);
 
     @Query("""
         SELECT lp.lesson.id FROM LessonProgress lp
@@ -15,13 +15,4 @@ public interface LessonProgressService {
      * @param enrollmentId the enrollment ID (optional)
      */
     void markCompleted(UUID lessonId, UUID enrollmentId);
-
-    /**
-     * Update enrollment progress percentage based on completed lessons
-     * Calculates: (completed lessons / total published lessons) * 100
-     *
-     * @param userId the user ID
-     * @param courseId the course ID
-     */
-    void updateEnrollmentProgress(UUID userId, UUID courseId);
 }
@@ -5,6 +5,7 @@ import com.english.api.common.exception.AccessDeniedException;
 import com.english.api.common.exception.ResourceNotFoundException;
 import com.english.api.course.dto.response.CourseModuleResponse;
 import com.english.api.course.dto.response.LessonResponse;
+import com.english.api.course.event.CourseStatsChangedEvent;
 import com.english.api.course.mapper.LessonMapper;
 import com.english.api.course.model.Course;
 import com.english.api.course.model.Lesson;
@@ -26,6 +27,7 @@ import com.english.api.order.model.Order;
 import com.english.api.order.model.OrderItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,6 +54,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final LessonProgressRepository lessonProgressRepository;
     private final EnrollmentMapper enrollmentMapper;
     private final LessonMapper lessonMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -123,6 +126,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             // Batch insert: Save all enrollments at once
             if (!enrollmentsToCreate.isEmpty()) {
                 enrollmentRepository.saveAll(enrollmentsToCreate);
+                enrollmentsToCreate.forEach(enrollment ->
+                        eventPublisher.publishEvent(new CourseStatsChangedEvent(enrollment.getCourse().getId())));
                 log.info("Created {} enrollments for user {} in order {}", 
                         enrollmentsToCreate.size(), userId, order.getId());
             }
@@ -1,27 +1,36 @@
 package com.english.api.enrollment.service.impl;
 
 import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.config.AsyncConfig;
 import com.english.api.common.exception.AccessDeniedException;
 import com.english.api.common.exception.ResourceNotFoundException;
+import com.english.api.course.event.CourseCurriculumChangedEvent;
 import com.english.api.course.model.Lesson;
 import com.english.api.course.repository.LessonRepository;
+import com.english.api.course.service.CourseStatsService;
 import com.english.api.enrollment.model.Enrollment;
 import com.english.api.enrollment.model.LessonProgress;
 import com.english.api.enrollment.repository.EnrollmentRepository;
 import com.english.api.enrollment.repository.LessonProgressRepository;
 import com.english.api.enrollment.service.LessonProgressService;
 import com.english.api.user.model.User;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Implementation of LessonProgressService
+ * <p>
+ * Progress is kept incrementally: each enrollment counts its completed lessons and {@code course_stats} counts
+ * the published lessons of the course, so a toggle moves the counter by one and derives the percentage in the
+ * same statement. The whole course is only recomputed when its curriculum changes.
  * Created by hungpham on 10/29/2025
  */
 @Service
@@ -29,17 +38,17 @@ public class LessonProgressServiceImpl implements LessonProgressService {
     private final LessonProgressRepository lessonProgressRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final LessonRepository lessonRepository;
-    private final LessonProgressService self;
+    private final CourseStatsService courseStatsService;
 
     public LessonProgressServiceImpl(
             LessonProgressRepository lessonProgressRepository,
             EnrollmentRepository enrollmentRepository,
             LessonRepository lessonRepository,
-            @Lazy LessonProgressService self) {
+            CourseStatsService courseStatsService) {
         this.lessonProgressRepository = lessonProgressRepository;
         this.enrollmentRepository = enrollmentRepository;
         this.lessonRepository = lessonRepository;
-        this.self = self;
+        this.courseStatsService = courseStatsService;
     }
 
     @Override
@@ -47,58 +56,52 @@ public class LessonProgressServiceImpl implements LessonProgressService {
     public void markCompleted(UUID lessonId, UUID enrollmentId) {
         UUID userId = SecurityUtil.getCurrentUserId();
 
-        // Pre-check: Get courseId from lesson
-        UUID courseId = lessonRepository.findCourseIdByLessonId(lessonId)
-            .orElseThrow(() -> new ResourceNotFoundException("Lesson not found"));
-
-        // Pre-check: Verify user is enrolled in the course
-        if (!enrollmentRepository.existsByUserIdAndCourseId(userId, courseId)) {
-            throw new AccessDeniedException("You must be enrolled in this course to mark lessons as completed");
-        }
+        // Pre-check: Verify user is enrolled in the course of the lesson
+        UUID userEnrollmentId = enrollmentRepository.findIdByUserIdAndLessonId(userId, lessonId)
+            .orElseThrow(() -> lessonRepository.existsById(lessonId)
+                ? new AccessDeniedException("You must be enrolled in this course to mark lessons as completed")
+                : new ResourceNotFoundException("Lesson not found"));
 
         // Try to toggle existing record first (avoids SELECT query)
-        int updatedRows = lessonProgressRepository.toggleCompleted(userId, lessonId);
+        Optional<Boolean> toggled = lessonProgressRepository.toggleCompleted(userId, lessonId);
 
-        if (updatedRows == 0) {
+        boolean completed;
+        if (toggled.isPresent()) {
+            completed = toggled.get();
+        } else {
             // No rows updated, create a new record (initial state: completed = true)
             LessonProgress newProgress = LessonProgress.builder()
                 .user(User.builder().id(userId).build())
                 .lesson(Lesson.builder().id(lessonId).build())
-                .enrollment(enrollmentId != null ? Enrollment.builder().id(enrollmentId).build() : null)
+                .enrollment(Enrollment.builder().id(userEnrollmentId).build())
                 .completed(true)
                 .build();
 
             lessonProgressRepository.save(newProgress);
+            completed = true;
         }
 
-        // Update enrollment progress percentage asynchronously
-        self.updateEnrollmentProgress(userId, courseId);
+        // Move the enrollment's counter and progress percentage by one lesson
+        if (enrollmentRepository.applyCompletedLessonDelta(userEnrollmentId, completed ? 1 : -1) == 0) {
+            // Removed since it was resolved above; roll the toggle back with it
+            throw new ResourceNotFoundException("Enrollment not found");
+        }
     }
 
-    @Override
-    @Async
-    @Transactional
-    public void updateEnrollmentProgress(UUID userId, UUID courseId) {
-
-        // Get total published lessons in course
-        long totalLessons = lessonRepository.countPublishedLessonsByCourseId(courseId);
+    @Async(AsyncConfig.PROGRESS_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleCurriculumChanged(CourseCurriculumChangedEvent event) {
+        recompute(event.courseId(), event.lessonsRemoved());
+    }
 
-        // Calculate progress percentage
-        BigDecimal progressPercent;
-        if (totalLessons == 0) {
-            progressPercent = BigDecimal.ZERO;
+    private void recompute(UUID courseId, boolean recountCompleted) {
+        if (recountCompleted) {
+            // Removed lessons also change the published count, rebuild it before deriving percentages
+            courseStatsService.refresh(List.of(courseId));
+            enrollmentRepository.recountProgressByCourseId(courseId);
         } else {
-            // Get completed lessons count
-            long completedLessons = lessonProgressRepository.countCompletedLessonsByUserAndCourse(userId, courseId);
-
-            // Calculate percentage: (completed / total) * 100
-            progressPercent = BigDecimal.valueOf(completedLessons)
-                .divide(BigDecimal.valueOf(totalLessons), 4, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-                .setScale(2, RoundingMode.HALF_UP);
+            enrollmentRepository.recomputeProgressByCourseId(courseId);
         }
-
-        // Update enrollment
-        enrollmentRepository.updateProgressPercent(userId, courseId, progressPercent);
     }
 }
@@ -5,6 +5,7 @@ import com.english.api.common.dto.PaginationResponse;
 import com.english.api.common.exception.ResourceNotFoundException;
 import com.english.api.assessment.model.QuizAttempt;
 import com.english.api.assessment.repository.QuizAttemptRepository;
+import com.english.api.common.http.OutboundHttpClients;
 import com.english.api.enrollment.dto.request.AIStudyPlanContextRequest;
 import com.english.api.enrollment.dto.request.AIStudyPlanRequest;
 import com.english.api.enrollment.dto.request.CreateStudyPlanRequest;
@@ -42,7 +43,6 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,7 +60,7 @@ public class StudyPlanServiceImpl implements StudyPlanService {
     private final LearningProfileRepository learningProfileRepository;
     private final StudyPlanMapper studyPlanMapper;
     private final GoogleCalendarService googleCalendarService;
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
 
     @Value("${n8n.webhook.ai-plan-url}")
     private String n8nAiPlanUrl;
@@ -360,7 +360,7 @@ public class StudyPlanServiceImpl implements StudyPlanService {
         HttpEntity<AIStudyPlanContextRequest> requestEntity = new HttpEntity<>(contextRequest, headers);
 
         try {
-            ResponseEntity<Object> response = restTemplate.exchange(
+            ResponseEntity<Object> response = outboundHttpClients.restTemplate(OutboundHttpClients.N8N_AI_PLAN).exchange(
                     n8nAiPlanUrl,
                     HttpMethod.POST,
                     requestEntity,
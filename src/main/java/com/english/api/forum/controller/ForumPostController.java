@@ -1,5 +1,6 @@
 package com.english.api.forum.controller;
 
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import com.english.api.forum.dto.request.ForumPostCreateRequest;
 import com.english.api.forum.dto.response.ForumPostResponse;
@@ -26,7 +27,11 @@ public class ForumPostController {
     public ResponseEntity<PaginationResponse> getThreadPosts(
             @PathVariable UUID threadId,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int pageSize) {
+            @RequestParam(defaultValue = "20") int pageSize,
+            CursorRequest cursorRequest) {
+        if (cursorRequest != null) {
+            return ResponseEntity.ok(postService.listByThread(threadId, cursorRequest, true));
+        }
         Pageable pageable = PageRequest.of(Math.max(0, page - 1), pageSize);
         return ResponseEntity.ok(postService.listByThread(threadId, pageable, true));
     }
@@ -6,6 +6,8 @@ import com.english.api.forum.dto.request.ForumThreadCreateRequest;
 import com.english.api.forum.dto.request.ForumThreadUpdateRequest;
 import com.english.api.forum.dto.response.ForumThreadResponse;
 import com.english.api.forum.service.ForumThreadService;
+import com.english.api.forum.service.ThreadViewService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -23,6 +25,7 @@ import java.util.UUID;
 public class ForumThreadController {
 
     private final ForumThreadService threadService;
+    private final ThreadViewService threadViewService;
 
     // Get all forum threads with filters
     @GetMapping
@@ -43,9 +46,9 @@ public class ForumThreadController {
 
     // Get thread by slug
     @GetMapping("/{slug}")
-    public ResponseEntity<ForumThreadResponse> getThreadBySlug(@PathVariable String slug) {
+    public ResponseEntity<ForumThreadResponse> getThreadBySlug(@PathVariable String slug, HttpServletRequest request) {
         ForumThreadResponse forumThreadResponse = threadService.getBySlug(slug);
-        threadService.increaseView(forumThreadResponse.id());
+        threadViewService.recordView(forumThreadResponse.id(), viewerKey(request));
         return ResponseEntity.ok(forumThreadResponse);
     }
 
@@ -159,4 +162,16 @@ public class ForumThreadController {
         threadService.adminDelete(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Signed-in users are deduplicated by id, anonymous visitors by getRemoteAddr(). Under
+    // server.forward-headers-strategy=framework that is the leftmost X-Forwarded-For value of any caller, so
+    // anonymous dedupe holds only behind a proxy that is the sole way in and overwrites X-Forwarded-For with the
+    // peer address; a client reaching the app directly, or through a proxy that appends, can inflate view counts
+    private String viewerKey(HttpServletRequest request) {
+        try {
+            return "u:" + SecurityUtil.getCurrentUserId();
+        } catch (Exception e) {
+            return "ip:" + request.getRemoteAddr();
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package com.english.api.forum.mapper;
+
+import com.english.api.forum.dto.response.ForumCategoryResponse;
+import com.english.api.forum.dto.response.ForumPostResponse;
+import com.english.api.forum.dto.response.ForumThreadListResponse;
+import com.english.api.forum.dto.response.ForumThreadResponse;
+import com.english.api.forum.model.ForumCategory;
+import com.english.api.forum.model.ForumPost;
+import com.english.api.forum.model.ForumThread;
+import com.english.api.forum.repository.ForumThreadCategoryRepository;
+import com.english.api.forum.repository.ForumThreadSaveRepository;
+import com.english.api.user.dto.projection.UserSummaryProjection;
+import com.english.api.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds forum thread and post responses a page at a time.
+ * <p>
+ * Authors, category links and saved state are collected for the whole page and each is fetched with one
+ * {@code IN} query, so a page costs a fixed number of queries however many rows it has. Author names and
+ * avatars are also kept in a small local cache; profile changes show up once the entry expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class ForumResponseAssembler {
+
+    private static final AuthorProfile UNKNOWN_AUTHOR = new AuthorProfile(null, null);
+
+    private final UserRepository userRepo;
+    private final ForumThreadCategoryRepository threadCatRepo;
+    private final ForumThreadSaveRepository saveRepo;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.forum.author-cache.ttl-seconds:60}")
+    private long authorTtlSeconds;
+
+    @Value("${app.forum.author-cache.max-size:10000}")
+    private long authorMaxSize;
+
+    private Cache<UUID, AuthorProfile> authors;
+
+    @PostConstruct
+    public void init() {
+        authors = Caffeine.newBuilder()
+                .maximumSize(authorMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(authorTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authors, "forum.authors");
+    }
+
+    /**
+     * @param currentUserId the viewer, or {@code null} for anonymous requests (nothing is marked saved)
+     */
+    public List<ForumThreadListResponse> toThreadListResponses(List<ForumThread> threads, UUID currentUserId) {
+        if (threads.isEmpty()) {
+            return List.of();
+        }
+        ThreadContext context = loadThreadContext(threads, currentUserId);
+        return threads.stream()
+                .map(thread -> {
+                    AuthorProfile author = context.author(thread.getAuthorId());
+                    return new ForumThreadListResponse(
+                            thread.getId(), thread.getAuthorId(), author.name(), author.avatarUrl(), thread.getTitle(), thread.getSlug(),
+                            thread.isLocked(), thread.getViewCount(), thread.getReplyCount(),
+                            thread.getLastPostAt(), thread.getLastPostId(), thread.getLastPostAuthor(),
+                            thread.getCreatedAt(), thread.getUpdatedAt(), context.categories(thread.getId()),
+                            context.saved(thread.getId()));
+                })
+                .toList();
+    }
+
+    public ForumThreadResponse toThreadResponse(ForumThread thread, UUID currentUserId) {
+        ThreadContext context = loadThreadContext(List.of(thread), currentUserId);
+        AuthorProfile author = context.author(thread.getAuthorId());
+        return new ForumThreadResponse(
+                thread.getId(), thread.getAuthorId(), author.name(), author.avatarUrl(), thread.getTitle(), thread.getSlug(), thread.getBodyMd(),
+                thread.isLocked(), thread.getViewCount(), thread.getReplyCount(),
+                thread.getLastPostAt(), thread.getLastPostId(), thread.getLastPostAuthor(),
+                thread.getCreatedAt(), thread.getUpdatedAt(), context.categories(thread.getId()),
+                context.saved(thread.getId()));
+    }
+
+    public List<ForumPostResponse> toPostResponses(List<ForumPost> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, AuthorProfile> postAuthors = loadAuthors(posts.stream().map(ForumPost::getAuthorId).toList());
+        return posts.stream()
+                .map(post -> toPostResponse(post, postAuthors.getOrDefault(post.getAuthorId(), UNKNOWN_AUTHOR)))
+                .toList();
+    }
+
+    public ForumPostResponse toPostResponse(ForumPost post) {
+        return toPostResponses(List.of(post)).get(0);
+    }
+
+    private ForumPostResponse toPostResponse(ForumPost post, AuthorProfile author) {
+        return new ForumPostResponse(
+                post.getId(),
+                post.getThread() != null ? post.getThread().getId() : null,
+                post.getParent() != null ? post.getParent().getId() : null,
+                post.getAuthorId(),
+                author.name(),
+                author.avatarUrl(),
+                post.getBodyMd(),
+                post.isPublished(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    private ThreadContext loadThreadContext(List<ForumThread> threads, UUID currentUserId) {
+        List<UUID> threadIds = threads.stream().map(ForumThread::getId).toList();
+
+        Map<UUID, List<ForumCategoryResponse>> categories = threadCatRepo.findWithCategoryByThreadIdIn(threadIds).stream()
+                .collect(Collectors.groupingBy(link -> link.getThread().getId(),
+                        Collectors.mapping(link -> toCategoryResponse(link.getCategory()), Collectors.toList())));
+
+        Map<UUID, AuthorProfile> threadAuthors = loadAuthors(threads.stream().map(ForumThread::getAuthorId).toList());
+
+        Set<UUID> saved = currentUserId != null ? saveRepo.findSavedThreadIds(currentUserId, threadIds) : Set.of();
+
+        return new ThreadContext(categories, threadAuthors, saved);
+    }
+
+    private Map<UUID, AuthorProfile> loadAuthors(Collection<UUID> authorIds) {
+        Set<UUID> ids = authorIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        // Deleted users are simply absent from the result and rendered without a name
+        return authors.getAll(ids, missing -> userRepo.findSummariesByIdIn(new ArrayList<>(missing)).stream()
+                .collect(Collectors.toMap(UserSummaryProjection::getId,
+                        user -> new AuthorProfile(user.getFullName(), user.getAvatarUrl()))));
+    }
+
+    private static ForumCategoryResponse toCategoryResponse(ForumCategory category) {
+        return new ForumCategoryResponse(
+                category.getId(), category.getName(), category.getSlug(), category.getDescription(), category.getCreatedAt());
+    }
+
+    private record AuthorProfile(String name, String avatarUrl) {
+    }
+
+    private record ThreadContext(Map<UUID, List<ForumCategoryResponse>> categoryMap,
+                                 Map<UUID, AuthorProfile> authorMap,
+                                 Set<UUID> savedIds) {
+
+        List<ForumCategoryResponse> categories(UUID threadId) {
+            return categoryMap.getOrDefault(threadId, List.of());
+        }
+
+        AuthorProfile author(UUID authorId) {
+            return authorId != null ? authorMap.getOrDefault(authorId, UNKNOWN_AUTHOR) : UNKNOWN_AUTHOR;
+        }
+
+        boolean saved(UUID threadId) {
+            return savedIds.contains(threadId);
+        }
+    }
+}
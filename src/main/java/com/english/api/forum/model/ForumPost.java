@@ -18,7 +18,8 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "forum_posts", indexes = {
-        @Index(name = "idx_forum_posts_thread", columnList = "thread_id, created_at")
+        @Index(name = "idx_forum_posts_thread", columnList = "thread_id, created_at"),
+        @Index(name = "idx_forum_posts_thread_created_id", columnList = "thread_id, created_at, id")
 })
 public class ForumPost {
 
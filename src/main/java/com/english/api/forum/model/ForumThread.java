@@ -41,8 +41,9 @@ public class ForumThread {
     @Column(name = "is_locked", nullable = false)
     private boolean locked = false;
 
+    // Only written by ForumThreadRepository.incrementViewCounts, entity saves must not overwrite buffered views
     @Builder.Default
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private long viewCount = 0;
 
     @Builder.Default
@@ -1,5 +1,6 @@
 package com.english.api.forum.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.english.api.forum.model.ForumPost;
 import com.english.api.forum.model.ForumThread;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +43,39 @@ public interface ForumPostRepository extends JpaRepository<ForumPost, UUID> {
     Page<ForumPost> findByThreadOrderByCreatedAtAsc(@Param("thread") ForumThread thread,
                                                     Pageable pageable);
 
+    /**
+     * First keyset page of a thread's posts, oldest first
+     */
+    @Query("""
+            select fp from ForumPost fp
+            left join fetch fp.thread
+            left join fetch fp.parent
+            where fp.thread = :thread
+            and (:onlyPublished = false or fp.published = true)
+            order by fp.createdAt asc, fp.id asc
+            """)
+    List<ForumPost> findByThreadForCursor(@Param("thread") ForumThread thread,
+                                          @Param("onlyPublished") boolean onlyPublished,
+                                          Limit limit);
+
+    /**
+     * Keyset page of a thread's posts strictly after the (createdAt, id) position, oldest first
+     */
+    @Query("""
+            select fp from ForumPost fp
+            left join fetch fp.thread
+            left join fetch fp.parent
+            where fp.thread = :thread
+            and (:onlyPublished = false or fp.published = true)
+            and (fp.createdAt > :createdAt or (fp.createdAt = :createdAt and fp.id > :id))
+            order by fp.createdAt asc, fp.id asc
+            """)
+    List<ForumPost> findByThreadAfter(@Param("thread") ForumThread thread,
+                                      @Param("onlyPublished") boolean onlyPublished,
+                                      @Param("createdAt") Instant createdAt,
+                                      @Param("id") UUID id,
+                                      Limit limit);
+
     @Query("""
             select distinct fp from ForumPost fp
             left join fetch fp.thread
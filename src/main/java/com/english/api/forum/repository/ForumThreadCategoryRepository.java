@@ -2,6 +2,8 @@ package com.english.api.forum.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,12 +11,17 @@ import com.english.api.forum.model.ForumThread;
 import com.english.api.forum.model.ForumThreadCategory;
 import com.english.api.forum.model.ForumThreadCategoryId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 public interface ForumThreadCategoryRepository extends JpaRepository<ForumThreadCategory, ForumThreadCategoryId> {
     List<ForumThreadCategory> findByThread(ForumThread thread);
 
+    @Query("SELECT tc FROM ForumThreadCategory tc JOIN FETCH tc.category WHERE tc.thread.id IN :threadIds")
+    List<ForumThreadCategory> findWithCategoryByThreadIdIn(@Param("threadIds") Collection<UUID> threadIds);
+
     @Modifying
     @Transactional
     void deleteByThread(ForumThread thread);
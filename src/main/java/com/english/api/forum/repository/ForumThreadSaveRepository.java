@@ -8,13 +8,18 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface ForumThreadSaveRepository extends JpaRepository<ForumThreadSave, UUID> {
     
     boolean existsByUserIdAndThreadId(UUID userId, UUID threadId);
+
+    @Query("SELECT s.thread.id FROM ForumThreadSave s WHERE s.user.id = :userId AND s.thread.id IN :threadIds")
+    Set<UUID> findSavedThreadIds(@Param("userId") UUID userId, @Param("threadIds") Collection<UUID> threadIds);
     
     Optional<ForumThreadSave> findByUserIdAndThreadId(UUID userId, UUID threadId);
     
@@ -22,9 +27,24 @@ public interface ForumThreadSaveRepository extends JpaRepository<ForumThreadSave
     
     void deleteByThreadId(UUID threadId);
 
-    @Query("""
+    @Query(value = """
         SELECT s 
         FROM ForumThreadSave s
+        JOIN FETCH s.thread t
+        WHERE s.user.id = :userId
+        AND (:categoryId IS NULL OR EXISTS (
+            SELECT 1 FROM ForumThreadCategory tc 
+            WHERE tc.thread = t AND tc.category.id = :categoryId
+        ))
+        AND (:locked IS NULL OR t.locked = :locked)
+        AND (
+             :keyword IS NULL 
+             OR LOWER(t.title) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%')) 
+             OR LOWER(t.bodyMd) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%'))
+        )
+    """, countQuery = """
+        SELECT COUNT(s) 
+        FROM ForumThreadSave s
         JOIN s.thread t
         WHERE s.user.id = :userId
         AND (:categoryId IS NULL OR EXISTS (
@@ -0,0 +1,18 @@
+package com.english.api.forum.repository.custom;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * Custom repository for ForumThread with native full-text search
+ */
+public interface ForumThreadRepositoryCustom {
+
+    /**
+     * Page of matching thread ids, ranked by relevance when a keyword is given and no sort is requested.
+     * Every filter is optional.
+     */
+    Page<UUID> searchIds(UUID authorId, String keyword, UUID categoryId, Boolean locked, Pageable pageable);
+}
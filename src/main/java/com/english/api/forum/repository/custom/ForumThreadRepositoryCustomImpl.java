@@ -0,0 +1,102 @@
+package com.english.api.forum.repository.custom;
+
+import com.english.api.common.search.SearchKeyword;
+import com.english.api.common.search.TextSearchSql;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ForumThreadRepositoryCustomImpl implements ForumThreadRepositoryCustom {
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    private static final String RELEVANCE = TextSearchSql.rank("t.search_vector", "t.title");
+
+    // Mapping between entity field names and database column names
+    private static final Map<String, String> SORT_COLUMN_MAP = Map.of(
+            "title", "t.title",
+            "createdAt", "t.created_at",
+            "updatedAt", "t.updated_at",
+            "lastPostAt", "t.last_post_at",
+            "viewCount", "t.view_count",
+            "replyCount", "t.reply_count"
+    );
+
+    @Override
+    public Page<UUID> searchIds(UUID authorId, String keyword, UUID categoryId, Boolean locked, Pageable pageable) {
+        SearchKeyword searchKeyword = SearchKeyword.of(keyword);
+        Map<String, Object> params = new HashMap<>();
+
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (searchKeyword != null) {
+            where.append(" AND ").append(TextSearchSql.matches("t.search_vector", "t.title"));
+            params.put("keyword", searchKeyword.text());
+            params.put("tsQuery", searchKeyword.tsQuery());
+        }
+        if (authorId != null) {
+            where.append(" AND t.author_id = :authorId");
+            params.put("authorId", authorId);
+        }
+        if (categoryId != null) {
+            where.append(" AND EXISTS (SELECT 1 FROM forum_thread_categories tc")
+                    .append(" WHERE tc.thread_id = t.id AND tc.category_id = :categoryId)");
+            params.put("categoryId", categoryId);
+        }
+        if (locked != null) {
+            where.append(" AND t.is_locked = :locked");
+            params.put("locked", locked);
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT t.id FROM forum_threads t" + where + buildOrderByClause(pageable.getSort(), searchKeyword != null),
+                UUID.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        @SuppressWarnings("unchecked")
+        List<UUID> ids = query.getResultList();
+
+        Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM forum_threads t" + where);
+        params.forEach(countQuery::setParameter);
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private String buildOrderByClause(Sort sort, boolean hasKeyword) {
+        if (sort.isUnsorted()) {
+            return hasKeyword
+                    ? " ORDER BY " + RELEVANCE + " DESC, t.id ASC"
+                    : " ORDER BY t.created_at DESC, t.id ASC";
+        }
+
+        String orderBy = sort.stream()
+                .map(order -> {
+                    String column = "relevance".equals(order.getProperty()) && hasKeyword
+                            ? RELEVANCE
+                            : SORT_COLUMN_MAP.getOrDefault(order.getProperty(), "t.created_at");
+                    String direction = order.getDirection().isAscending() ? "ASC" : "DESC";
+                    return column + " " + direction;
+                })
+                .collect(Collectors.joining(", "));
+
+        // Always add id as tie-breaker to ensure stable pagination
+        return " ORDER BY " + orderBy + ", t.id ASC";
+    }
+}
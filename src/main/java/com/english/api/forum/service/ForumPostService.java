@@ -1,5 +1,6 @@
 package com.english.api.forum.service;
 
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import com.english.api.forum.dto.request.ForumPostCreateRequest;
 import com.english.api.forum.dto.response.ForumPostResponse;
@@ -10,6 +11,8 @@ import java.util.UUID;
 public interface ForumPostService {
     PaginationResponse listByThread(UUID threadId, Pageable pageable, boolean onlyPublished);
 
+    PaginationResponse listByThread(UUID threadId, CursorRequest cursorRequest, boolean onlyPublished);
+
     ForumPostResponse create(UUID threadId, ForumPostCreateRequest req);
 
     ForumPostResponse hide(UUID postId);
@@ -13,8 +13,6 @@ public interface ForumThreadService {
 
     ForumThreadResponse getBySlug(String slug);
 
-    void increaseView(UUID threadId);
-
     ForumThreadResponse create(ForumThreadCreateRequest req);
 
     ForumThreadResponse adminLock(UUID id, boolean lock);
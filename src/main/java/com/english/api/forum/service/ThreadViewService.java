@@ -0,0 +1,21 @@
+package com.english.api.forum.service;
+
+import java.util.UUID;
+
+/**
+ * Buffers forum thread views in memory and writes them to the database in periodic batches.
+ */
+public interface ThreadViewService {
+
+    /**
+     * Count a view of a thread. Repeated views by the same viewer within the dedupe window are ignored.
+     *
+     * @param viewerKey user id or client IP, or {@code null} to skip deduplication
+     */
+    void recordView(UUID threadId, String viewerKey);
+
+    /**
+     * Write the buffered increments to the database.
+     */
+    void flush();
+}
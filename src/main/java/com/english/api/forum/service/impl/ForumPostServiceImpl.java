@@ -1,12 +1,14 @@
 package com.english.api.forum.service.impl;
 
 import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import com.english.api.common.exception.AccessDeniedException;
 import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
 import com.english.api.forum.dto.request.ForumPostCreateRequest;
 import com.english.api.forum.dto.response.ForumPostResponse;
+import com.english.api.forum.mapper.ForumResponseAssembler;
 import com.english.api.forum.model.ForumPost;
 import com.english.api.forum.model.ForumThread;
 import com.english.api.forum.repository.ForumPostRepository;
@@ -36,6 +38,7 @@ public class ForumPostServiceImpl implements ForumPostService {
     private final UserRepository userRepo;
     private final NotificationService notificationService;
     private final ForumReportRepository reportRepo;
+    private final ForumResponseAssembler responseAssembler;
 
     @Override
     public PaginationResponse listByThread(UUID threadId, Pageable pageable, boolean onlyPublished) {
@@ -46,8 +49,32 @@ public class ForumPostServiceImpl implements ForumPostService {
                 ? postRepo.findByThreadAndPublishedOrderByCreatedAtAsc(thread, true, pageable)
                 : postRepo.findByThreadOrderByCreatedAtAsc(thread, pageable);
 
-        List<ForumPost> postsInPage = page.getContent();
+        List<ForumPostResponse> combined = toDtosWithMissingParents(page.getContent());
 
+        // 8. Tạo PageImpl cho DTO rồi dùng PaginationResponse.from như cũ
+        Page<?> dtoPage = new PageImpl<>(
+                combined,
+                pageable,
+                page.getTotalElements()   // tổng vẫn là tổng số post thật, không đổi
+        );
+
+        return PaginationResponse.from(dtoPage, pageable);
+    }
+
+    @Override
+    public PaginationResponse listByThread(UUID threadId, CursorRequest cursorRequest, boolean onlyPublished) {
+        ForumThread thread = threadRepo.findById(threadId).orElseThrow();
+        CursorRequest.Position after = cursorRequest.after();
+        List<ForumPost> posts = after == null
+                ? postRepo.findByThreadForCursor(thread, onlyPublished, cursorRequest.limit())
+                : postRepo.findByThreadAfter(thread, onlyPublished, after.instantKey(), after.uuidId(), cursorRequest.limit());
+        return PaginationResponse.fromCursor(posts, cursorRequest,
+                post -> CursorRequest.encode(post.getCreatedAt(), post.getId()),
+                this::toDtosWithMissingParents);
+    }
+
+    // Map posts của page + các parent nằm ngoài page
+    private List<ForumPostResponse> toDtosWithMissingParents(List<ForumPost> postsInPage) {
         // 2. Lấy id các post trong page
         Set<UUID> pageIds = postsInPage.stream()
                 .map(ForumPost::getId)
@@ -69,29 +96,11 @@ public class ForumPostServiceImpl implements ForumPostService {
         // Optional: sort parent cho đẹp
         missingParents.sort(Comparator.comparing(ForumPost::getCreatedAt));
 
-        // 5. Map DTO: post trong page (chính)
-        List<ForumPostResponse> mainDtos = postsInPage.stream()
-                .map(this::toDto)
-                .toList();
-
-        // 6. Map DTO: parent bổ sung
-        List<ForumPostResponse> parentDtos = missingParents.stream()
-                .map(this::toDto)
-                .toList();
-
-        // 7. Gộp lại: result = [20 post trong page] + [các parent bổ sung]
-        ArrayList<ForumPostResponse> combined = new ArrayList<>(mainDtos.size() + parentDtos.size());
-        combined.addAll(mainDtos);
-        combined.addAll(parentDtos);
-
-        // 8. Tạo PageImpl cho DTO rồi dùng PaginationResponse.from như cũ
-        Page<?> dtoPage = new PageImpl<>(
-                combined,
-                pageable,
-                page.getTotalElements()   // tổng vẫn là tổng số post thật, không đổi
-        );
-
-        return PaginationResponse.from(dtoPage, pageable);
+        // 5. Map DTO một lượt: result = [20 post trong page] + [các parent bổ sung], tác giả lấy chung một query
+        List<ForumPost> combined = new ArrayList<>(postsInPage.size() + missingParents.size());
+        combined.addAll(postsInPage);
+        combined.addAll(missingParents);
+        return responseAssembler.toPostResponses(combined);
     }
 
     @Override
@@ -172,29 +181,7 @@ public class ForumPostServiceImpl implements ForumPostService {
     }
 
     private ForumPostResponse toDto(ForumPost post) {
-        String authorName = null;
-        String authorAvatarUrl = null;
-
-        if (post.getAuthorId() != null) {
-            User user = userRepo.findById(post.getAuthorId()).orElse(null);
-            if (user != null) {
-                authorName = user.getFullName();
-                authorAvatarUrl = user.getAvatarUrl();
-            }
-        }
-
-        return new ForumPostResponse(
-                post.getId(),
-                post.getThread() != null ? post.getThread().getId() : null,
-                post.getParent() != null ? post.getParent().getId() : null,
-                post.getAuthorId(),
-                authorName,
-                authorAvatarUrl,
-                post.getBodyMd(),
-                post.isPublished(),
-                post.getCreatedAt(),
-                post.getUpdatedAt()
-        );
+        return responseAssembler.toPostResponse(post);
     }
 
 
@@ -7,9 +7,9 @@ import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
 import com.english.api.forum.dto.request.ForumThreadCreateRequest;
 import com.english.api.forum.dto.request.ForumThreadUpdateRequest;
-import com.english.api.forum.dto.response.ForumCategoryResponse;
 import com.english.api.forum.dto.response.ForumThreadListResponse;
 import com.english.api.forum.dto.response.ForumThreadResponse;
+import com.english.api.forum.mapper.ForumResponseAssembler;
 import com.english.api.forum.model.ForumCategory;
 import com.english.api.forum.model.ForumThread;
 import com.english.api.forum.model.ForumThreadCategory;
@@ -24,7 +24,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.english.api.notification.service.NotificationService;
@@ -33,8 +32,12 @@ import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -49,12 +52,13 @@ public class ForumThreadServiceImpl implements ForumThreadService {
     private final NotificationService notificationService;
     private final ForumReportRepository reportRepo;
     private final ForumThreadSaveRepository saveRepo;
+    private final ForumResponseAssembler responseAssembler;
 
     @Override
     public PaginationResponse listPublic(String keyword, UUID categoryId, Boolean locked, Pageable pageable) {
-        String normalizedKeyword = (keyword == null || keyword.isBlank()) ? null : keyword.trim();
-        Page<ForumThread> page = threadRepo.search(normalizedKeyword, categoryId, locked, pageable);
-        List<ForumThreadListResponse> threadListResponses = page.getContent().stream().map(this::toListDto).toList();
+        Page<UUID> page = threadRepo.searchIds(null, keyword, categoryId, locked, pageable);
+        List<ForumThreadListResponse> threadListResponses = responseAssembler.toThreadListResponses(
+                findAllInOrder(page.getContent()), getCurrentUserIdSafe());
         return PaginationResponse.from(new PageImpl<>(threadListResponses, pageable, page.getTotalElements()), pageable);
     }
 
@@ -64,19 +68,6 @@ public class ForumThreadServiceImpl implements ForumThreadService {
         return toDto(thread);
     }
 
-    @Override
-    @Async
-    @Transactional
-    public void increaseView(UUID threadId) {
-        try {
-            ForumThread thread = threadRepo.findById(threadId).orElseThrow();
-            thread.setViewCount(thread.getViewCount() + 1);
-            threadRepo.save(thread);
-        } catch (Exception e) {
-            log.error("Failed to increase view count for thread {}: {}", threadId, e.getMessage(), e);
-        }
-    }
-
     @Override
     @Transactional
     public ForumThreadResponse create(ForumThreadCreateRequest request) {
@@ -148,15 +139,10 @@ public class ForumThreadServiceImpl implements ForumThreadService {
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse listByAuthor(UUID authorId, String keyword, UUID categoryId, Boolean locked, Pageable pageable) {
-        String normalizedKeyword = (keyword == null || keyword.isBlank()) ? null : keyword.trim();
-        
-        // Gọi query mới searchByAuthor thay vì findByAuthorIdOrderByCreatedAtDesc
-        Page<ForumThread> page = threadRepo.searchByAuthor(authorId, normalizedKeyword, categoryId, locked, pageable);
-        
+        Page<UUID> page = threadRepo.searchIds(authorId, keyword, categoryId, locked, pageable);
 
-        List<ForumThreadListResponse> threadListResponses = page.getContent().stream()
-                .map(this::toListDto)
-                .toList();
+        List<ForumThreadListResponse> threadListResponses = responseAssembler.toThreadListResponses(
+                findAllInOrder(page.getContent()), getCurrentUserIdSafe());
                 
         return PaginationResponse.from(new PageImpl<>(threadListResponses, pageable, page.getTotalElements()), pageable);
     }
@@ -313,10 +299,8 @@ public class ForumThreadServiceImpl implements ForumThreadService {
 
         Page<ForumThreadSave> savesPage = saveRepo.searchSavedThreads(userId, normalizedKeyword, categoryId, locked, fixedPageable);
 
-        List<ForumThreadListResponse> responses = savesPage.getContent().stream()
-                .map(ForumThreadSave::getThread)
-                .map(this::toListDto) 
-                .toList();
+        List<ForumThreadListResponse> responses = responseAssembler.toThreadListResponses(
+                savesPage.getContent().stream().map(ForumThreadSave::getThread).toList(), userId);
 
         return PaginationResponse.from(new PageImpl<>(responses, fixedPageable, savesPage.getTotalElements()), fixedPageable);
     }
@@ -352,75 +336,17 @@ public class ForumThreadServiceImpl implements ForumThreadService {
         }
     }
 
-    // Giữ nguyên signature như yêu cầu
-    private ForumThreadResponse toDto(ForumThread thread) {
-        // Tự động lấy current user ID bên trong
-        UUID currentUserId = getCurrentUserIdSafe();
-
-        List<ForumThreadCategory> threadCategories = threadCatRepo.findByThread(thread);
-        List<ForumCategoryResponse> categoryResponses = threadCategories.stream()
-                .map(ForumThreadCategory::getCategory)
-                .map(category -> new ForumCategoryResponse(
-                        category.getId(), category.getName(), category.getSlug(), category.getDescription(), category.getCreatedAt()))
-                .toList();
-
-        String authorName = null, authorAvatar = null;
-        if (thread.getAuthorId() != null) {
-            User user = userRepo.findById(thread.getAuthorId()).orElse(null);
-            if (user != null) {
-                authorName = user.getFullName();
-                authorAvatar = user.getAvatarUrl();
-            }
-        }
-
-        // Check saved status
-        boolean isSaved = false;
-        if (currentUserId != null) {
-            isSaved = saveRepo.existsByUserIdAndThreadId(currentUserId, thread.getId());
+    // Load threads by id, keeping the order returned by the search
+    private List<ForumThread> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
-
-        return new ForumThreadResponse(
-                thread.getId(), thread.getAuthorId(), authorName, authorAvatar, thread.getTitle(), thread.getSlug(), thread.getBodyMd(),
-                thread.isLocked(), thread.getViewCount(), thread.getReplyCount(),
-                thread.getLastPostAt(), thread.getLastPostId(), thread.getLastPostAuthor(),
-                thread.getCreatedAt(), thread.getUpdatedAt(), categoryResponses,
-                isSaved // Trường mới
-        );
+        Map<UUID, ForumThread> byId = threadRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(ForumThread::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
-    // Giữ nguyên signature như yêu cầu
-    private ForumThreadListResponse toListDto(ForumThread thread) {
-        // Tự động lấy current user ID bên trong
-        UUID currentUserId = getCurrentUserIdSafe();
-
-        List<ForumThreadCategory> threadCategories = threadCatRepo.findByThread(thread);
-        List<ForumCategoryResponse> categoryResponses = threadCategories.stream()
-                .map(ForumThreadCategory::getCategory)
-                .map(category -> new ForumCategoryResponse(
-                        category.getId(), category.getName(), category.getSlug(), category.getDescription(), category.getCreatedAt()))
-                .toList();
-
-        String authorName = null, authorAvatar = null;
-        if (thread.getAuthorId() != null) {
-            User user = userRepo.findById(thread.getAuthorId()).orElse(null);
-            if (user != null) {
-                authorName = user.getFullName();
-                authorAvatar = user.getAvatarUrl();
-            }
-        }
-
-        // Check saved status
-        boolean isSaved = false;
-        if (currentUserId != null) {
-            isSaved = saveRepo.existsByUserIdAndThreadId(currentUserId, thread.getId());
-        }
-
-        return new ForumThreadListResponse(
-                thread.getId(), thread.getAuthorId(), authorName, authorAvatar, thread.getTitle(), thread.getSlug(),
-                thread.isLocked(), thread.getViewCount(), thread.getReplyCount(),
-                thread.getLastPostAt(), thread.getLastPostId(), thread.getLastPostAuthor(),
-                thread.getCreatedAt(), thread.getUpdatedAt(), categoryResponses,
-                isSaved // Trường mới
-        );
+    private ForumThreadResponse toDto(ForumThread thread) {
+        return responseAssembler.toThreadResponse(thread, getCurrentUserIdSafe());
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.english.api.forum.service.impl;
+
+import com.english.api.forum.repository.ForumThreadRepository;
+import com.english.api.forum.service.ThreadViewService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Views are accumulated per thread in a {@link ConcurrentHashMap}; increments and the flush both go through
+ * the map's per-bin locks, so no increment is lost between reading and resetting a counter.
+ * Each flush issues a single {@code view_count = view_count + delta} update for all dirty threads,
+ * ordered by id so concurrent flushes from several nodes lock rows in the same order.
+ * Deduplication is per node: the same viewer may be counted once per node within the window.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThreadViewServiceImpl implements ThreadViewService {
+
+    private final ForumThreadRepository threadRepo;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.forum.views.dedupe-window-seconds:1800}")
+    private long dedupeWindowSeconds;
+
+    @Value("${app.forum.views.dedupe-max-size:100000}")
+    private long dedupeMaxSize;
+
+    private final ConcurrentHashMap<UUID, long[]> pending = new ConcurrentHashMap<>();
+    private Cache<String, Boolean> recentViewers;
+    private Counter flushFailures;
+
+    @PostConstruct
+    public void init() {
+        meterRegistry.gauge("forum.thread_views.pending", pending, Map::size);
+        flushFailures = meterRegistry.counter("forum.thread_views.flush_failures");
+        if (dedupeWindowSeconds > 0) {
+            recentViewers = Caffeine.newBuilder()
+                    .maximumSize(dedupeMaxSize)
+                    .expireAfterWrite(Duration.ofSeconds(dedupeWindowSeconds))
+                    .build();
+        }
+    }
+
+    @Override
+    public void recordView(UUID threadId, String viewerKey) {
+        if (recentViewers != null && viewerKey != null
+                && recentViewers.asMap().putIfAbsent(threadId + ":" + viewerKey, Boolean.TRUE) != null) {
+            return;
+        }
+        add(threadId, 1);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.forum.views.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Sorted by id for a consistent row lock order
+        Map<UUID, Long> batch = new TreeMap<>();
+        for (UUID threadId : new ArrayList<>(pending.keySet())) {
+            long[] counter = pending.remove(threadId);
+            if (counter != null && counter[0] > 0) {
+                batch.put(threadId, counter[0]);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(batch.keySet());
+        try {
+            threadRepo.incrementViewCounts(ids.toArray(UUID[]::new), batch.values().toArray(Long[]::new));
+        } catch (Exception e) {
+            // Put the increments back, they are retried on the next flush
+            batch.forEach(this::add);
+            flushFailures.increment();
+            log.warn("Failed to flush view counts of {} threads: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(UUID threadId, long delta) {
+        pending.compute(threadId, (id, counter) -> {
+            if (counter == null) {
+                return new long[]{delta};
+            }
+            counter[0] += delta;
+            return counter;
+        });
+    }
+}
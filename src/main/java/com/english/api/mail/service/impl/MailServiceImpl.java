@@ -1,5 +1,6 @@
 package com.english.api.mail.service.impl;
 
+import com.english.api.common.config.AsyncConfig;
 import com.english.api.mail.service.MailService;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -44,7 +45,7 @@ public class MailServiceImpl implements MailService {
         }
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendRegisterVerificationEmail(String email, String token, String templateName) {
         String newVerificationLink = registerVerificationLink + token;
@@ -55,7 +56,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Register Account at English Pro", content, false, true);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendForgotPasswordEmail(String email, String otp, String templateName) {
         Context context = new Context();
@@ -65,7 +66,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Forgot password - English Pro", content, false, true);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendPaymentSuccessEmail(String email, Object order, Object payment, String templateName) {
         Context context = new Context();
@@ -75,7 +76,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Thanh toán thành công - English Pro", content, false, true);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendInstructorRequestReviewEmail(String email, String userName, boolean isApproved, String adminNotes) {
         StringBuilder content = new StringBuilder();
@@ -103,7 +104,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, subject, content.toString(), false, false);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendInvoiceEmail(String email, Object order, Object payment, Object invoice) {
         Context context = new Context();
@@ -114,7 +115,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Hóa đơn thanh toán - English Pro", content, false, true);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendInstructorRoleRevokedEmail(String email, String userName, String reason) {
         StringBuilder content = new StringBuilder();
@@ -129,7 +130,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Thông báo thu hồi quyền giảng viên - English Pro", content.toString(), false, false);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendInstructorRoleRestoredEmail(String email, String userName, String reason) {
         StringBuilder content = new StringBuilder();
@@ -145,7 +146,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Thông báo khôi phục quyền giảng viên - English Pro", content.toString(), false, false);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendAccountLockedEmail(String email, String userName, String reason) {
         StringBuilder content = new StringBuilder();
@@ -160,7 +161,7 @@ public class MailServiceImpl implements MailService {
         this.sendEmail(email, "Thông báo khóa tài khoản - English Pro", content.toString(), false, false);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void sendAccountUnlockedEmail(String email, String userName, String reason) {
         StringBuilder content = new StringBuilder();
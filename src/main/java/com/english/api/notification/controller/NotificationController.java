@@ -1,6 +1,7 @@
 package com.english.api.notification.controller;
 
 import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import com.english.api.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -44,7 +45,11 @@ public class NotificationController {
 
     @GetMapping
     public ResponseEntity<PaginationResponse> getUserNotifications(
-            @PageableDefault(page = 0, size = 20) Pageable pageable) {
+            @PageableDefault(page = 0, size = 20) Pageable pageable,
+            CursorRequest cursorRequest) {
+        if (cursorRequest != null) {
+            return ResponseEntity.ok(notificationService.getNotificationsByUser(cursorRequest));
+        }
         return ResponseEntity.ok(notificationService.getNotificationsByUser(pageable));
     }
 
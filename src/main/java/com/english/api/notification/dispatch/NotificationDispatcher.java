@@ -0,0 +1,244 @@
+package com.english.api.notification.dispatch;
+
+import com.english.api.notification.model.UserFcmToken;
+import com.english.api.notification.push.PushGateway;
+import com.english.api.notification.push.PushMessage;
+import com.english.api.notification.push.PushResult;
+import com.english.api.notification.repository.NotificationRepository;
+import com.english.api.notification.repository.UserFcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Dedicated pipeline for in-app and push notifications, independent of the shared async pool.
+ * <p>
+ * Producers put requests on a bounded queue. A single dispatcher thread drains up to {@code batch-size}
+ * requests at a time, inserts their rows with one statement, loads the device tokens of all recipients
+ * with one query and hands the pushes to a small sender pool in batches of at most
+ * {@link PushGateway#MAX_BATCH_SIZE}. Tokens reported as unregistered are deleted.
+ * <p>
+ * Backpressure: a full queue blocks the producer for {@code enqueue-timeout-ms}; after that the row is
+ * written on the producer's thread and the push is dropped. A saturated sender pool runs batches on the
+ * dispatcher thread, which in turn lets the queue fill up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final NotificationRepository notificationRepository;
+    private final UserFcmTokenRepository userFcmTokenRepository;
+    private final PushGateway pushGateway;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notification.dispatch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.notification.dispatch.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.notification.dispatch.enqueue-timeout-ms:100}")
+    private long enqueueTimeoutMs;
+
+    @Value("${app.notification.dispatch.push-concurrency:4}")
+    private int pushConcurrency;
+
+    private BlockingQueue<PendingNotification> queue;
+    private ThreadPoolTaskExecutor pushExecutor;
+    private Thread dispatcherThread;
+    private volatile boolean running;
+
+    private Counter enqueued;
+    private Counter overflowed;
+    private Timer persistTimer;
+    private Timer tokenLookupTimer;
+    private Timer pushTimer;
+    private Timer cleanupTimer;
+    private Counter pushSent;
+    private Counter pushUnregistered;
+    private Counter pushFailed;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        pushExecutor = new ThreadPoolTaskExecutor();
+        pushExecutor.setCorePoolSize(pushConcurrency);
+        pushExecutor.setMaxPoolSize(pushConcurrency);
+        pushExecutor.setQueueCapacity(pushConcurrency * 2);
+        pushExecutor.setThreadNamePrefix("notification-push-");
+        pushExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        pushExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        pushExecutor.setAwaitTerminationSeconds(30);
+        pushExecutor.initialize();
+
+        meterRegistry.gauge("notification.dispatch.queue.size", queue, BlockingQueue::size);
+        enqueued = meterRegistry.counter("notification.dispatch.enqueued");
+        overflowed = meterRegistry.counter("notification.dispatch.overflowed");
+        persistTimer = meterRegistry.timer("notification.dispatch.stage", "stage", "persist");
+        tokenLookupTimer = meterRegistry.timer("notification.dispatch.stage", "stage", "tokens");
+        pushTimer = meterRegistry.timer("notification.dispatch.stage", "stage", "push");
+        cleanupTimer = meterRegistry.timer("notification.dispatch.stage", "stage", "cleanup");
+        pushSent = meterRegistry.counter("notification.push.results", "result", "sent");
+        pushUnregistered = meterRegistry.counter("notification.push.results", "result", "unregistered");
+        pushFailed = meterRegistry.counter("notification.push.results", "result", "failed");
+
+        running = true;
+        dispatcherThread = new Thread(this::run, "notification-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcherThread.join(TimeUnit.SECONDS.toMillis(30));
+        pushExecutor.shutdown();
+    }
+
+    /**
+     * Queue a notification for a user.
+     *
+     * @param push whether to also send it to the user's devices
+     */
+    public void submit(UUID userId, String title, String content, boolean push) {
+        PendingNotification notification = new PendingNotification(userId, title, content, push);
+        if (running) {
+            try {
+                if (queue.offer(notification, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    enqueued.increment();
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Queue full or shutting down: keep the in-app notification, drop the push
+        overflowed.increment();
+        log.warn("Notification queue is full, storing notification for user {} without push", userId);
+        persist(List.of(notification));
+    }
+
+    private void run() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Failed to dispatch {} notifications: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<PendingNotification> batch) {
+        persistTimer.record(() -> persist(batch));
+
+        Set<UUID> recipients = batch.stream()
+                .filter(PendingNotification::push)
+                .map(PendingNotification::userId)
+                .collect(Collectors.toSet());
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<String>> tokensByUser = tokenLookupTimer.record(() ->
+                userFcmTokenRepository.findByUserIdIn(recipients).stream()
+                        .collect(Collectors.groupingBy(UserFcmToken::getUserId,
+                                Collectors.mapping(UserFcmToken::getToken, Collectors.toList()))));
+
+        List<PushMessage> messages = new ArrayList<>();
+        for (PendingNotification notification : batch) {
+            if (!notification.push()) {
+                continue;
+            }
+            for (String token : tokensByUser.getOrDefault(notification.userId(), List.of())) {
+                messages.add(new PushMessage(token, notification.title(), notification.content()));
+                if (messages.size() == PushGateway.MAX_BATCH_SIZE) {
+                    List<PushMessage> chunk = messages;
+                    pushExecutor.execute(() -> sendPush(chunk));
+                    messages = new ArrayList<>();
+                }
+            }
+        }
+        if (!messages.isEmpty()) {
+            List<PushMessage> chunk = messages;
+            pushExecutor.execute(() -> sendPush(chunk));
+        }
+    }
+
+    private void persist(List<PendingNotification> notifications) {
+        int size = notifications.size();
+        UUID[] userIds = new UUID[size];
+        String[] titles = new String[size];
+        String[] contents = new String[size];
+        for (int i = 0; i < size; i++) {
+            PendingNotification notification = notifications.get(i);
+            userIds[i] = notification.userId();
+            titles[i] = notification.title();
+            contents[i] = notification.content();
+        }
+        try {
+            notificationRepository.insertAll(userIds, titles, contents);
+        } catch (Exception e) {
+            log.error("Failed to store {} notifications: {}", size, e.getMessage());
+        }
+    }
+
+    private void sendPush(List<PushMessage> messages) {
+        try {
+            List<PushResult> results = pushTimer.record(() -> pushGateway.send(messages));
+            Set<String> staleTokens = new HashSet<>();
+            for (int i = 0; i < results.size(); i++) {
+                switch (results.get(i)) {
+                    case SENT -> pushSent.increment();
+                    case FAILED -> pushFailed.increment();
+                    case UNREGISTERED -> {
+                        pushUnregistered.increment();
+                        staleTokens.add(messages.get(i).token());
+                    }
+                }
+            }
+            if (!staleTokens.isEmpty()) {
+                cleanupTimer.record(() -> userFcmTokenRepository.deleteByTokenIn(staleTokens));
+            }
+        } catch (Exception e) {
+            pushFailed.increment(messages.size());
+            log.error("Failed to send {} push notifications: {}", messages.size(), e.getMessage());
+        }
+    }
+
+    private record PendingNotification(UUID userId, String title, String content, boolean push) {
+    }
+}
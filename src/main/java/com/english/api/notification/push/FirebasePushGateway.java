@@ -0,0 +1,70 @@
+package com.english.api.notification.push;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sends batches through {@link FirebaseMessaging#sendEach}, one HTTP/2 round trip per batch.
+ * When Firebase is not configured every message is reported as failed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notification.push.provider", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushGateway implements PushGateway {
+
+    @Override
+    public List<PushResult> send(List<PushMessage> messages) {
+        if (FirebaseApp.getApps().isEmpty()) {
+            log.debug("Firebase not initialized, skipping {} push notifications", messages.size());
+            return Collections.nCopies(messages.size(), PushResult.FAILED);
+        }
+
+        List<Message> batch = new ArrayList<>(messages.size());
+        for (PushMessage message : messages) {
+            batch.add(Message.builder()
+                    .setToken(message.token())
+                    .setNotification(Notification.builder()
+                            .setTitle(message.title())
+                            .setBody(message.body())
+                            .build())
+                    .build());
+        }
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(batch);
+            List<PushResult> results = new ArrayList<>(messages.size());
+            for (SendResponse sendResponse : response.getResponses()) {
+                results.add(toResult(sendResponse));
+            }
+            return results;
+        } catch (FirebaseMessagingException e) {
+            log.error("Failed to send FCM batch of {} messages: {}", messages.size(), e.getMessage());
+            return Collections.nCopies(messages.size(), PushResult.FAILED);
+        }
+    }
+
+    private PushResult toResult(SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushResult.SENT;
+        }
+        FirebaseMessagingException e = response.getException();
+        if (e != null && e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+            return PushResult.UNREGISTERED;
+        }
+        log.warn("Failed to send FCM notification: {}", e != null ? e.getMessage() : "unknown error");
+        return PushResult.FAILED;
+    }
+}
@@ -0,0 +1,21 @@
+package com.english.api.notification.push;
+
+import java.util.List;
+
+/**
+ * Sends push notifications in batches.
+ */
+public interface PushGateway {
+
+    /**
+     * Largest batch accepted by {@link #send}.
+     */
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Send up to {@link #MAX_BATCH_SIZE} messages.
+     *
+     * @return one result per message, in the same order
+     */
+    List<PushResult> send(List<PushMessage> messages);
+}
@@ -0,0 +1,7 @@
+package com.english.api.notification.push;
+
+/**
+ * A push notification addressed to a single device token.
+ */
+public record PushMessage(String token, String title, String body) {
+}
@@ -0,0 +1,10 @@
+package com.english.api.notification.push;
+
+public enum PushResult {
+    SENT,
+    /**
+     * The token is no longer registered with FCM and should be removed.
+     */
+    UNREGISTERED,
+    FAILED
+}
@@ -0,0 +1,45 @@
+package com.english.api.notification.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stand-in for FCM used in load tests ({@code app.notification.push.provider=stub}).
+ * Simulates the per-batch round trip and reports a configurable share of tokens as unregistered.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notification.push.provider", havingValue = "stub")
+public class StubPushGateway implements PushGateway {
+
+    @Value("${app.notification.push.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${app.notification.push.stub.unregistered-rate:0.0}")
+    private double unregisteredRate;
+
+    @Override
+    public List<PushResult> send(List<PushMessage> messages) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            results.add(ThreadLocalRandom.current().nextDouble() < unregisteredRate
+                    ? PushResult.UNREGISTERED
+                    : PushResult.SENT);
+        }
+        log.debug("Stub push gateway accepted {} messages", messages.size());
+        return results;
+    }
+}
@@ -1,6 +1,7 @@
 package com.english.api.notification.repository;
 
 import com.english.api.notification.model.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,15 +9,55 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     Page<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    /**
+     * First keyset page of a user's notifications, newest first
+     */
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.userId = :userId
+        ORDER BY n.createdAt DESC, n.id DESC
+        """)
+    List<Notification> findByUserIdForCursor(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Keyset page of a user's notifications strictly after the (createdAt, id) position, newest first
+     */
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.userId = :userId
+        AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+        ORDER BY n.createdAt DESC, n.id DESC
+        """)
+    List<Notification> findByUserIdAfter(@Param("userId") UUID userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Limit limit);
     
+    /**
+     * Insert a batch of unread notifications in one statement, titles[i] and contents[i] belong to userIds[i]
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO notification (user_id, title, content, is_read, created_at)
+        SELECT v.user_id, v.title, v.content, false, LOCALTIMESTAMP
+        FROM unnest(CAST(:userIds AS uuid[]), CAST(:titles AS text[]), CAST(:contents AS text[])) AS v(user_id, title, content)
+        """, nativeQuery = true)
+    int insertAll(@Param("userIds") UUID[] userIds,
+                  @Param("titles") String[] titles,
+                  @Param("contents") String[] contents);
+
     Optional<Notification> findByIdAndUserId(Long id, UUID userId);
     
     @Modifying
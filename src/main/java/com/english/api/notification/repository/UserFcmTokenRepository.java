@@ -2,18 +2,33 @@ package com.english.api.notification.repository;
 
 import com.english.api.notification.model.UserFcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface UserFcmTokenRepository extends JpaRepository<UserFcmToken, Long> {
     List<UserFcmToken> findByUserId(UUID userId);
+
+    List<UserFcmToken> findByUserIdIn(Collection<UUID> userIds);
     
     boolean existsByUserIdAndToken(UUID userId, String token);
     
     void deleteByUserIdAndToken(UUID userId, String token);
     
     void deleteByUserId(UUID userId);
+
+    /**
+     * Remove tokens FCM reported as unregistered, for every user they belong to
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserFcmToken t WHERE t.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
 }
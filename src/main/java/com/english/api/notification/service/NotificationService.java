@@ -1,5 +1,6 @@
 package com.english.api.notification.service;
 
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -17,6 +18,8 @@ public interface NotificationService {
     void removeAllTokens(UUID userId);
     
     PaginationResponse getNotificationsByUser(Pageable pageable);
+
+    PaginationResponse getNotificationsByUser(CursorRequest cursorRequest);
     
     void markAsRead(Long notificationId);
     
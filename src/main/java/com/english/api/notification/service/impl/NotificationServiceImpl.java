@@ -1,10 +1,9 @@
 package com.english.api.notification.service.impl;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
 import com.english.api.auth.util.SecurityUtil;
+import com.english.api.common.dto.CursorRequest;
 import com.english.api.common.dto.PaginationResponse;
+import com.english.api.notification.dispatch.NotificationDispatcher;
 import com.english.api.notification.model.Notification;
 import com.english.api.notification.model.UserFcmToken;
 import com.english.api.notification.repository.NotificationRepository;
@@ -30,41 +29,16 @@ import java.util.UUID;
 public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserFcmTokenRepository userFcmTokenRepository;
+    private final NotificationDispatcher notificationDispatcher;
 
-    @Async
     @Override
     public void saveNotification(UUID userId, String title, String content){
-        Notification n = new Notification();
-        n.setUserId(userId);
-        n.setTitle(title);
-        n.setContent(content);
-        notificationRepository.save(n);
+        notificationDispatcher.submit(userId, title, content, false);
     }
 
-    @Async
     @Override
     public void sendNotification(UUID userId, String title, String content) {
-        saveNotification(userId, title, content);
-
-        List<UserFcmToken> tokens = userFcmTokenRepository.findByUserId(userId);
-
-        for (UserFcmToken t : tokens) {
-            try {
-                Message message = Message.builder()
-                        .setToken(t.getToken())
-                        .setNotification(com.google.firebase.messaging.Notification.builder()
-                                .setTitle(title)
-                                .setBody(content)
-                                .build())
-                        .build();
-                FirebaseMessaging.getInstance().send(message);
-            } catch (FirebaseMessagingException e) {
-                log.error("Failed to send FCM notification: {}", e.getMessage());
-            } catch (IllegalStateException e) {
-                log.error("Firebase not initialized. Push notifications are disabled.");
-                break;
-            }
-        }
+        notificationDispatcher.submit(userId, title, content, true);
     }
 
     @Transactional
@@ -102,6 +76,18 @@ public class NotificationServiceImpl implements NotificationService {
         return PaginationResponse.from(notifications, pageableWithSort);
     }
 
+    @Override
+    public PaginationResponse getNotificationsByUser(CursorRequest cursorRequest) {
+        UUID userId = SecurityUtil.getCurrentUserId();
+        CursorRequest.Position after = cursorRequest.after();
+        List<Notification> notifications = after == null
+                ? notificationRepository.findByUserIdForCursor(userId, cursorRequest.limit())
+                : notificationRepository.findByUserIdAfter(userId, after.localDateTimeKey(), after.longId(), cursorRequest.limit());
+        return PaginationResponse.fromCursor(notifications, cursorRequest,
+                notification -> CursorRequest.encode(notification.getCreatedAt(), notification.getId()),
+                page -> page);
+    }
+
     @Async
     @Transactional
     @Override
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -16,4 +18,10 @@ public class PayPalProperties {
     private String successUrl;
     private String cancelUrl;
     private String brandName;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private int maxRetries = 2;
+    private Duration retryBackoff = Duration.ofMillis(200);
+    // Renew the OAuth token this long before it expires
+    private Duration tokenRefreshSkew = Duration.ofMinutes(5);
 }
@@ -0,0 +1,9 @@
+package com.english.api.order.event;
+
+import java.util.UUID;
+
+/**
+ * Published with the outbox row of a paid order, so the dispatcher starts without waiting for its next poll.
+ */
+public record OrderPaidEvent(UUID orderId) {
+}
@@ -0,0 +1,9 @@
+package com.english.api.order.event;
+
+import java.util.UUID;
+
+/**
+ * Published when the order holding a voucher is paid ({@code redeemed}) or abandoned.
+ */
+public record VoucherHoldSettledEvent(UUID voucherId, UUID userId, UUID orderId, boolean redeemed) {
+}
@@ -0,0 +1,9 @@
+package com.english.api.order.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a voucher hold is taken for a new order, so the hold is dropped if the order is rolled back.
+ */
+public record VoucherReservedEvent(UUID voucherId, UUID userId, UUID orderId) {
+}
@@ -0,0 +1,89 @@
+package com.english.api.order.model;
+
+import com.english.api.order.model.enums.FulfillmentStep;
+import com.english.api.order.model.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Pending fulfillment work for an order, written in the transaction that changed the order's status.
+ * Rows are claimed and updated only through {@link com.english.api.order.repository.OrderOutboxRepository}.
+ */
+@Entity
+@Table(name = "order_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEvent {
+
+    public static final String ORDER_PAID = "ORDER_PAID";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "payment_id")
+    private UUID paymentId;
+
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // Comma separated FulfillmentStep names, each followed by a comma
+    @Column(name = "completed_steps", nullable = false, length = 200)
+    @Builder.Default
+    private String completedSteps = "";
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private OffsetDateTime lockedUntil;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private OffsetDateTime processedAt;
+
+    @PrePersist
+    public void prePersist() {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now;
+        }
+    }
+
+    public Set<FulfillmentStep> completed() {
+        Set<FulfillmentStep> steps = EnumSet.noneOf(FulfillmentStep.class);
+        for (String step : completedSteps.split(",")) {
+            if (!step.isBlank()) {
+                steps.add(FulfillmentStep.valueOf(step));
+            }
+        }
+        return steps;
+    }
+}
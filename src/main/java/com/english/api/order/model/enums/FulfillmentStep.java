@@ -0,0 +1,11 @@
+package com.english.api.order.model.enums;
+
+/**
+ * Fulfillment of a paid order, run in this order; each step is committed and recorded on its own.
+ */
+public enum FulfillmentStep {
+    ENROLLMENT,
+    EARNINGS,
+    INVOICE,
+    NOTIFICATION
+}
@@ -0,0 +1,7 @@
+package com.english.api.order.model.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    DEAD
+}
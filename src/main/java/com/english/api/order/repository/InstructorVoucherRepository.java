@@ -5,6 +5,7 @@ import com.english.api.order.model.enums.VoucherStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +20,22 @@ public interface InstructorVoucherRepository extends JpaRepository<InstructorVou
 
     Optional<InstructorVoucher> findByCode(String code);
 
+    @Query("SELECT v.id FROM InstructorVoucher v WHERE v.code = :code")
+    Optional<UUID> findIdByCode(@Param("code") String code);
+
+    /**
+     * Count one paid redemption without reading the row first; returns 0 when the usage limit is already reached.
+     */
+    @Modifying
+    @Query("""
+        UPDATE InstructorVoucher v SET v.usedCount = v.usedCount + 1
+        WHERE v.id = :id AND (v.usageLimit IS NULL OR v.usedCount < v.usageLimit)
+        """)
+    int incrementUsedCount(@Param("id") UUID id);
+
+    @Query("SELECT v.usedCount FROM InstructorVoucher v WHERE v.id = :id")
+    int findUsedCountById(@Param("id") UUID id);
+
     @Query("""
         SELECT v FROM InstructorVoucher v
         LEFT JOIN FETCH v.applicableCourses
@@ -17,6 +17,24 @@ public interface InstructorVoucherUsageRepository extends JpaRepository<Instruct
         """)
     int countByVoucherIdAndUserId(@Param("voucherId") UUID voucherId, @Param("userId") UUID userId);
 
+    /**
+     * Paid orders of {@code userId} that redeemed the voucher; pending holds are tracked by the reservation service.
+     */
+    @Query("""
+        SELECT COUNT(DISTINCT u.order.id) FROM InstructorVoucherUsage u
+        WHERE u.voucher.id = :voucherId AND u.user.id = :userId
+        AND u.order.status = com.english.api.order.model.enums.OrderStatus.PAID
+        """)
+    int countPaidOrdersByVoucherIdAndUserId(@Param("voucherId") UUID voucherId, @Param("userId") UUID userId);
+
+    @Query("""
+        SELECT COUNT(DISTINCT u.order.id) FROM InstructorVoucherUsage u
+        WHERE u.voucher.id = :voucherId AND u.user.id = :userId AND u.order.id <> :orderId
+        AND u.order.status = com.english.api.order.model.enums.OrderStatus.PAID
+        """)
+    int countOtherPaidOrdersByVoucherIdAndUserId(@Param("voucherId") UUID voucherId, @Param("userId") UUID userId,
+                                                 @Param("orderId") UUID orderId);
+
     boolean existsByVoucherIdAndUserId(UUID voucherId, UUID userId);
 
     @Query("""
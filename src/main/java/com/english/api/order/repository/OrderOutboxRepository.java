@@ -0,0 +1,64 @@
+package com.english.api.order.repository;
+
+import com.english.api.order.model.OrderOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    boolean existsByOrderIdAndEventType(UUID orderId, String eventType);
+
+    /**
+     * Lock up to {@code limit} due rows; rows locked or leased by another dispatcher are skipped.
+     */
+    @Query(value = """
+        SELECT id FROM order_outbox
+        WHERE status = 'PENDING' AND next_attempt_at <= NOW()
+        AND (locked_until IS NULL OR locked_until < NOW())
+        ORDER BY next_attempt_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        UPDATE order_outbox
+        SET locked_until = NOW() + make_interval(secs => :leaseSeconds), attempts = attempts + 1
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query(value = """
+        UPDATE order_outbox SET completed_steps = completed_steps || :step || ','
+        WHERE id = :id
+        """, nativeQuery = true)
+    int markStepCompleted(@Param("id") Long id, @Param("step") String step);
+
+    @Modifying
+    @Query(value = """
+        UPDATE order_outbox
+        SET status = 'DONE', processed_at = NOW(), locked_until = NULL, last_error = NULL
+        WHERE id = :id
+        """, nativeQuery = true)
+    int markDone(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = """
+        UPDATE order_outbox
+        SET status = :status, next_attempt_at = :nextAttemptAt, locked_until = NULL, last_error = :error
+        WHERE id = :id
+        """, nativeQuery = true)
+    int markFailed(@Param("id") Long id, @Param("status") String status,
+                   @Param("nextAttemptAt") OffsetDateTime nextAttemptAt, @Param("error") String error);
+}
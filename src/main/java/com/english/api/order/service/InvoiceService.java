@@ -7,6 +7,6 @@ import com.english.api.order.model.Payment;
 import java.util.UUID;
 
 public interface InvoiceService {
-    void generateAndSendInvoiceAsync(Order order, Payment payment);
+    void generateAndSendInvoice(Order order, Payment payment);
     InvoiceResponse getInvoiceByOrderId(UUID orderId);
 }
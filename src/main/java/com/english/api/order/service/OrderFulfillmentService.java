@@ -0,0 +1,16 @@
+package com.english.api.order.service;
+
+import com.english.api.order.model.Order;
+import com.english.api.order.model.Payment;
+
+/**
+ * Fulfillment of paid orders (enrollment, instructor earnings, invoice, notification) through a transactional outbox.
+ */
+public interface OrderFulfillmentService {
+
+    /**
+     * Record that {@code order} was paid by {@code payment}. Must run in the transaction that marks the order paid;
+     * the work itself runs after commit, outside the caller's request.
+     */
+    void enqueuePaidOrder(Order order, Payment payment);
+}
@@ -0,0 +1,37 @@
+package com.english.api.order.service;
+
+import com.english.api.order.model.InstructorVoucher;
+import com.english.api.order.model.Order;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Admission control for voucher usage limits.
+ */
+public interface VoucherReservationService {
+
+    /**
+     * Hold one use of {@code voucher} for {@code orderId}, or fail when the global or per-user limit is reached.
+     * The hold expires on its own if the order is never paid.
+     */
+    void reserve(InstructorVoucher voucher, UUID userId, UUID orderId);
+
+    /**
+     * Turn the hold of a paid order into a counted use. When the hold has expired the use is only counted while
+     * the limits still allow it; returns {@code false} if the order was paid past the limit.
+     */
+    boolean confirm(Order order);
+
+    /**
+     * Give back the hold of a cancelled or failed order.
+     */
+    void release(Order order);
+
+    /**
+     * Latest time a payment for {@code order} may be started or captured while its voucher hold is still live;
+     * empty when the order has no voucher.
+     */
+    Optional<OffsetDateTime> checkoutDeadline(Order order);
+}
@@ -1,6 +1,7 @@
 package com.english.api.order.service.impl;
 
 import com.english.api.common.exception.ResourceInvalidException;
+import com.english.api.common.http.OutboundHttpClients;
 import com.english.api.order.config.ExchangeRateProperties;
 import com.english.api.order.model.enums.CurrencyType;
 import com.english.api.order.service.ExchangeRateService;
@@ -10,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -21,7 +21,7 @@ import java.math.RoundingMode;
 public class ExchangeRateServiceImpl implements ExchangeRateService {
 
     private final ExchangeRateProperties properties;
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -35,7 +35,7 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
             String url = properties.getApiUrl() + from.name();
             log.info("Fetching exchange rate from {} to {} using URL: {}", from, to, url);
             
-            String response = restTemplate.getForObject(url, String.class);
+            String response = outboundHttpClients.restTemplate(OutboundHttpClients.EXCHANGE_RATE).getForObject(url, String.class);
             JsonNode root = objectMapper.readTree(response);
             JsonNode rates = root.path("rates");
             
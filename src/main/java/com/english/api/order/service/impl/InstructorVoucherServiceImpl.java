@@ -227,7 +227,7 @@ public class InstructorVoucherServiceImpl implements InstructorVoucherService {
         InstructorVoucher voucher = voucherOpt.get();
         
         // Check usage per user
-        int userUsageCount = voucherUsageRepository.countByVoucherIdAndUserId(voucher.getId(), userId);
+        int userUsageCount = voucherUsageRepository.countPaidOrdersByVoucherIdAndUserId(voucher.getId(), userId);
         if (userUsageCount >= voucher.getUsagePerUser()) {
             return createInvalidResponse(code, "Bạn đã sử dụng hết số lần cho phép với voucher này");
         }
@@ -252,7 +252,7 @@ public class InstructorVoucherServiceImpl implements InstructorVoucherService {
         InstructorVoucher voucher = voucherOpt.get();
         
         // Check usage per user
-        int userUsageCount = voucherUsageRepository.countByVoucherIdAndUserId(voucher.getId(), userId);
+        int userUsageCount = voucherUsageRepository.countPaidOrdersByVoucherIdAndUserId(voucher.getId(), userId);
         if (userUsageCount >= voucher.getUsagePerUser()) {
             return createInvalidResponse(code, "Bạn đã sử dụng hết số lần cho phép với voucher này");
         }
@@ -403,7 +403,7 @@ public class InstructorVoucherServiceImpl implements InstructorVoucherService {
         InstructorVoucher voucher = voucherOpt.get();
 
         // Check usage per user
-        int userUsageCount = voucherUsageRepository.countByVoucherIdAndUserId(voucher.getId(), userId);
+        int userUsageCount = voucherUsageRepository.countPaidOrdersByVoucherIdAndUserId(voucher.getId(), userId);
         if (userUsageCount >= voucher.getUsagePerUser()) {
             return createInvalidResponse(normalizedCode, "Bạn đã sử dụng hết số lần cho phép với voucher này");
         }
@@ -453,7 +453,7 @@ public class InstructorVoucherServiceImpl implements InstructorVoucherService {
         }
 
         // Check usage per user
-        int userUsageCount = voucherUsageRepository.countByVoucherIdAndUserId(voucher.getId(), userId);
+        int userUsageCount = voucherUsageRepository.countPaidOrdersByVoucherIdAndUserId(voucher.getId(), userId);
         if (userUsageCount >= voucher.getUsagePerUser()) {
             return createInvalidResponse(code, "Bạn đã sử dụng hết số lần cho phép với voucher này");
         }
@@ -2,6 +2,8 @@ package com.english.api.order.service.impl;
 
 import com.english.api.auth.util.SecurityUtil;
 import com.english.api.common.exception.ResourceNotFoundException;
+import com.english.api.common.pdf.PdfRenderer;
+import com.english.api.common.pdf.PdfRenderer.RenderedPdf;
 import com.english.api.mail.service.MailService;
 import com.english.api.order.dto.response.InvoiceResponse;
 import com.english.api.order.mapper.OrderMapper;
@@ -10,20 +12,16 @@ import com.english.api.order.model.Order;
 import com.english.api.order.model.Payment;
 import com.english.api.order.repository.InvoiceRepository;
 import com.english.api.order.service.InvoiceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import java.io.ByteArrayOutputStream;
 import java.text.NumberFormat;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -39,7 +37,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     private final InvoiceRepository invoiceRepository;
     private final S3AsyncClient s3Client;
     private final MailService mailService;
-    private final SpringTemplateEngine templateEngine;
+    private final PdfRenderer pdfRenderer;
     private final ObjectMapper objectMapper;
     private final OrderMapper orderMapper;
 
@@ -54,34 +52,42 @@ public class InvoiceServiceImpl implements InvoiceService {
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss").withZone(VIETNAM_ZONE);
     private static final NumberFormat VND_FORMAT = NumberFormat.getInstance(Locale.forLanguageTag("vi-VN"));
 
-    @Async
+    /**
+     * Skips orders that already have an invoice, so a retried fulfillment never bills or mails twice.
+     */
     @Transactional
     @Override
-    public void generateAndSendInvoiceAsync(Order order, Payment payment) {
-        try {
-            // Generate invoice number
-            String invoiceNumber = generateInvoiceNumber(order);
-
-            // Generate PDF
-            byte[] pdfBytes = generateInvoicePdf(order, payment, invoiceNumber);
-
-            // Upload to S3
-            String filename = invoiceNumber + ".pdf";
-            String key = "invoices/" + filename;
-            
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .contentType("application/pdf")
-                    .build();
+    public void generateAndSendInvoice(Order order, Payment payment) {
+        if (invoiceRepository.findByOrderId(order.getId()).isPresent()) {
+            return;
+        }
+
+        // Generate invoice number
+        String invoiceNumber = generateInvoiceNumber(order);
+
+        // Generate PDF
+        RenderedPdf pdf = generateInvoicePdf(order, payment, invoiceNumber);
 
-            s3Client.putObject(putRequest, AsyncRequestBody.fromBytes(pdfBytes)).join();
+        // Upload to S3
+        String filename = invoiceNumber + ".pdf";
+        String key = "invoices/" + filename;
 
-            String fileUrl = String.join("/", publicUrl.replaceAll("/+$", ""), key);
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType("application/pdf")
+                .contentLength((long) pdf.size())
+                .build();
 
-            // Save invoice record
-            Map<String, Object> invoiceData = buildInvoiceData(order, payment, invoiceNumber);
-            Invoice invoice = Invoice.builder()
+        s3Client.putObject(putRequest, pdf.asRequestBody()).join();
+
+        String fileUrl = String.join("/", publicUrl.replaceAll("/+$", ""), key);
+
+        // Save invoice record
+        Map<String, Object> invoiceData = buildInvoiceData(order, payment, invoiceNumber);
+        Invoice invoice;
+        try {
+            invoice = Invoice.builder()
                     .order(order)
                     .number(invoiceNumber)
                     .totalCents(order.getTotalCents())
@@ -89,19 +95,18 @@ public class InvoiceServiceImpl implements InvoiceService {
                     .data(objectMapper.writeValueAsString(invoiceData))
                     .fileUrl(fileUrl)
                     .build();
-            invoiceRepository.save(invoice);
-
-            // Send email with invoice attachment
-            mailService.sendInvoiceEmail(
-                    order.getUser().getEmail(),
-                    order,
-                    payment,
-                    invoice
-            );
-
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize invoice " + invoiceNumber, e);
         }
+        invoiceRepository.save(invoice);
+
+        // Send email with invoice attachment
+        mailService.sendInvoiceEmail(
+                order.getUser().getEmail(),
+                order,
+                payment,
+                invoice
+        );
     }
 
     private String generateInvoiceNumber(Order order) {
@@ -109,7 +114,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         return "INV" + timestamp + order.getId().toString().substring(0, 8).toUpperCase();
     }
 
-    private byte[] generateInvoicePdf(Order order, Payment payment, String invoiceNumber) throws Exception {
+    private RenderedPdf generateInvoicePdf(Order order, Payment payment, String invoiceNumber) {
         // Prepare context with data
         Context context = new Context();
         context.setVariable("invoiceNumber", invoiceNumber);
@@ -140,33 +145,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         context.setVariable("totalAmount", formatCurrency(order.getTotalCents()));
         context.setVariable("totalAmountCents", order.getTotalCents());
         
-        // Process template to HTML
-        String htmlContent = templateEngine.process("invoice", context);
-
-        // Convert HTML to PDF using OpenHTMLtoPDF with PDFBox
-        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            PdfRendererBuilder builder = new PdfRendererBuilder();
-            builder.useFastMode();
-            
-            // Load fonts for Vietnamese character support
-            try {
-                builder.useFont(() -> getClass().getResourceAsStream("/fonts/DejaVuSans.ttf"), 
-                        "DejaVu Sans", 400, 
-                        com.openhtmltopdf.pdfboxout.PdfRendererBuilder.FontStyle.NORMAL, true);
-                
-                builder.useFont(() -> getClass().getResourceAsStream("/fonts/DejaVuSans-Bold.ttf"), 
-                        "DejaVu Sans", 700, 
-                        com.openhtmltopdf.pdfboxout.PdfRendererBuilder.FontStyle.NORMAL, true);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            
-            builder.withHtmlContent(htmlContent, null);
-            builder.toStream(os);
-            builder.run();
-            
-            return os.toByteArray();
-        }
+        return pdfRenderer.render("invoice", context);
     }
 
     private Map<String, Object> buildInvoiceData(Order order, Payment payment, String invoiceNumber) {
@@ -0,0 +1,209 @@
+package com.english.api.order.service.impl;
+
+import com.english.api.common.config.AsyncConfig;
+import com.english.api.enrollment.service.EnrollmentService;
+import com.english.api.notification.service.NotificationService;
+import com.english.api.order.event.OrderPaidEvent;
+import com.english.api.order.model.Order;
+import com.english.api.order.model.OrderOutboxEvent;
+import com.english.api.order.model.Payment;
+import com.english.api.order.model.enums.FulfillmentStep;
+import com.english.api.order.model.enums.OutboxStatus;
+import com.english.api.order.repository.OrderOutboxRepository;
+import com.english.api.order.repository.OrderRepository;
+import com.english.api.order.repository.PaymentRepository;
+import com.english.api.order.service.InvoiceService;
+import com.english.api.order.service.OrderFulfillmentService;
+import com.english.api.user.service.InstructorWalletService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Paid orders are fulfilled from the {@code order_outbox} table instead of inside the payment webhook.
+ * <p>
+ * The webhook only inserts an outbox row next to the status change and returns. A dispatcher, woken after commit
+ * and by a periodic poll, locks due rows with {@code FOR UPDATE SKIP LOCKED}, leases them so other nodes skip them
+ * while they run, and fulfills each order on the fulfillment workers. Every {@link FulfillmentStep} commits on its
+ * own and is recorded on the row, so a retry resumes after the last completed step and the steps themselves skip
+ * work that already exists. Failed rows are retried with exponential backoff and marked {@code DEAD} after
+ * {@code max-attempts}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderFulfillmentServiceImpl implements OrderFulfillmentService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final EnrollmentService enrollmentService;
+    private final InstructorWalletService instructorWalletService;
+    private final InvoiceService invoiceService;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    @Qualifier(AsyncConfig.FULFILLMENT_EXECUTOR)
+    private final Executor fulfillmentExecutor;
+
+    @Value("${app.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueuePaidOrder(Order order, Payment payment) {
+        if (outboxRepository.existsByOrderIdAndEventType(order.getId(), OrderOutboxEvent.ORDER_PAID)) {
+            return;
+        }
+        outboxRepository.save(OrderOutboxEvent.builder()
+                .orderId(order.getId())
+                .paymentId(payment != null ? payment.getId() : null)
+                .eventType(OrderOutboxEvent.ORDER_PAID)
+                .build());
+        eventPublisher.publishEvent(new OrderPaidEvent(order.getId()));
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPaid(OrderPaidEvent event) {
+        wakeRequested.set(true);
+        dispatch();
+    }
+
+    /**
+     * Drain due outbox rows until a batch comes back short. Only one drain runs per node at a time; a wake-up that
+     * arrives meanwhile makes the running drain go round once more.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Long> claimed;
+            do {
+                wakeRequested.set(false);
+                claimed = claimBatch();
+                if (!claimed.isEmpty()) {
+                    CompletableFuture.allOf(claimed.stream()
+                            .map(id -> CompletableFuture.runAsync(() -> process(id), fulfillmentExecutor))
+                            .toArray(CompletableFuture[]::new)).join();
+                }
+            } while (claimed.size() == batchSize || wakeRequested.get());
+        } catch (Exception e) {
+            log.error("Order outbox dispatch failed: {}", e.getMessage(), e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private List<Long> claimBatch() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> due = outboxRepository.lockDueIds(batchSize);
+            if (!due.isEmpty()) {
+                outboxRepository.lease(due, leaseSeconds);
+            }
+            return due;
+        });
+        return ids != null ? ids : List.of();
+    }
+
+    private void process(Long id) {
+        OrderOutboxEvent event = outboxRepository.findById(id).orElse(null);
+        if (event == null || event.getStatus() != OutboxStatus.PENDING) {
+            return;
+        }
+        Set<FulfillmentStep> completed = event.completed();
+        FulfillmentStep current = null;
+        try {
+            for (FulfillmentStep step : FulfillmentStep.values()) {
+                if (completed.contains(step)) {
+                    continue;
+                }
+                current = step;
+                transactionTemplate.executeWithoutResult(status -> {
+                    run(step, event);
+                    outboxRepository.markStepCompleted(id, step.name());
+                });
+            }
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markDone(id));
+            meterRegistry.counter("order.fulfillment", "outcome", "done").increment();
+        } catch (Exception e) {
+            fail(event, current, e);
+        }
+    }
+
+    private void run(FulfillmentStep step, OrderOutboxEvent event) {
+        Order order = orderRepository.findByIdWithItems(event.getOrderId())
+                .orElseThrow(() -> new IllegalStateException("Order " + event.getOrderId() + " no longer exists"));
+        switch (step) {
+            case ENROLLMENT -> enrollmentService.createEnrollmentsAfterPayment(order);
+            case EARNINGS -> instructorWalletService.processOrderEarnings(order);
+            case INVOICE -> {
+                if (event.getPaymentId() != null) {
+                    paymentRepository.findById(event.getPaymentId())
+                            .ifPresent(payment -> invoiceService.generateAndSendInvoice(order, payment));
+                }
+            }
+            case NOTIFICATION -> notificationService.sendNotification(
+                    order.getUser().getId(),
+                    "Thanh toán thành công",
+                    "Đơn hàng #" + order.getId() + " đã được thanh toán thành công. Cảm ơn bạn đã sử dụng dịch vụ của chúng tôi!");
+        }
+    }
+
+    private void fail(OrderOutboxEvent event, FulfillmentStep step, Exception e) {
+        // attempts already counts this run: it is incremented when the row is leased
+        boolean dead = event.getAttempts() >= maxAttempts;
+        long backoff = retryBaseSeconds << Math.min(Math.max(event.getAttempts() - 1, 0), 10);
+        String error = step + ": " + e;
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        String message = error;
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markFailed(event.getId(),
+                (dead ? OutboxStatus.DEAD : OutboxStatus.PENDING).name(),
+                OffsetDateTime.now().plus(Duration.ofSeconds(backoff)), message));
+        meterRegistry.counter("order.fulfillment", "outcome", dead ? "dead" : "retry").increment();
+        if (dead) {
+            log.error("Fulfillment of order {} dead-lettered at step {}: {}", event.getOrderId(), step, e.getMessage(), e);
+        } else {
+            log.warn("Fulfillment of order {} failed at step {}, retrying in {}s: {}",
+                    event.getOrderId(), step, backoff, e.getMessage());
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.english.api.order.repository.InstructorVoucherUsageRepository;
 import com.english.api.order.repository.OrderRepository;
 import com.english.api.order.service.InstructorVoucherService;
 import com.english.api.order.service.OrderService;
+import com.english.api.order.service.VoucherReservationService;
 import com.english.api.user.model.User;
 import com.english.api.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -63,6 +64,7 @@ public class OrderServiceImpl implements OrderService {
     private final InstructorVoucherService voucherService;
     private final InstructorVoucherRepository voucherRepository;
     private final InstructorVoucherUsageRepository voucherUsageRepository;
+    private final VoucherReservationService voucherReservationService;
 
     // Valid status transitions mapping
     private static final Set<OrderStatus> PENDING_TRANSITIONS = Set.of(OrderStatus.PAID, OrderStatus.CANCELLED,
@@ -164,6 +166,9 @@ public class OrderServiceImpl implements OrderService {
             savedOrder.setStatus(OrderStatus.PAID);
             savedOrder.setPaidAt(OffsetDateTime.now());
             savedOrder = orderRepository.save(savedOrder);
+            if (!voucherReservationService.confirm(savedOrder)) {
+                throw new ResourceInvalidException("Voucher đã hết lượt sử dụng");
+            }
 
             // Create enrollments directly for free courses
             enrollmentService.createEnrollmentsAfterPayment(savedOrder);
@@ -198,6 +203,11 @@ public class OrderServiceImpl implements OrderService {
         if (newStatus == OrderStatus.PAID && order.getPaidAt() == null) {
             order.setPaidAt(OffsetDateTime.now());
         }
+        if (newStatus == OrderStatus.PAID && currentStatus != OrderStatus.PAID) {
+            voucherReservationService.confirm(order);
+        } else if (currentStatus == OrderStatus.PENDING && newStatus != OrderStatus.PENDING) {
+            voucherReservationService.release(order);
+        }
         // Set cancel reason and timestamp if transitioning to CANCELLED
         if (newStatus == OrderStatus.CANCELLED) {
             order.setCancelReason(cancelReason);
@@ -304,6 +314,7 @@ public class OrderServiceImpl implements OrderService {
         order.setCancelReason(cancelReason);
         order.setCancelAt(OffsetDateTime.now());
         Order savedOrder = orderRepository.save(order);
+        voucherReservationService.release(savedOrder);
         notificationService.sendNotification(
             currentUserId,
             "Đã hủy đơn hàng",
@@ -407,7 +418,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Records voucher usage and updates voucher used count
+     * Records voucher usage and reserves one use of the voucher for the order
      */
     private void recordVoucherUsage(InstructorVoucher voucher, Order order, User user, 
                                     VoucherApplyResponse voucherResult) {
@@ -424,10 +435,9 @@ public class OrderServiceImpl implements OrderService {
             voucherUsageRepository.save(usage);
         }
 
-        // Update voucher used count
-        voucher.setUsedCount(voucher.getUsedCount() + 1);
-        voucherRepository.save(voucher);
-        
+        // Hold one use of the voucher until the order is paid or abandoned
+        voucherReservationService.reserve(voucher, user.getId(), order.getId());
+
         log.info("Recorded voucher usage for voucher {} on order {}", voucher.getCode(), order.getId());
     }
 }
\ No newline at end of file
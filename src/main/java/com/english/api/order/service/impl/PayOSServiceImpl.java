@@ -2,7 +2,6 @@ package com.english.api.order.service.impl;
 
 import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
-import com.english.api.enrollment.service.EnrollmentService;
 import com.english.api.order.model.Order;
 import com.english.api.order.model.OrderItem;
 import com.english.api.order.model.Payment;
@@ -11,8 +10,9 @@ import com.english.api.order.model.enums.PaymentProvider;
 import com.english.api.order.model.enums.PaymentStatus;
 import com.english.api.order.repository.OrderRepository;
 import com.english.api.order.repository.PaymentRepository;
+import com.english.api.order.service.OrderFulfillmentService;
 import com.english.api.order.service.PayOSPaymentService;
-import com.english.api.order.service.InvoiceService;
+import com.english.api.order.service.VoucherReservationService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +28,7 @@ import vn.payos.model.webhooks.Webhook;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -39,9 +40,8 @@ public class PayOSServiceImpl implements PayOSPaymentService {
     private final PaymentRepository paymentRepository;
     private final ObjectMapper objectMapper;
     private final PayOS payOS;
-    private final InvoiceService invoiceService;
-    private final EnrollmentService enrollmentService;
-    private final com.english.api.user.service.InstructorWalletService instructorWalletService;
+    private final VoucherReservationService voucherReservationService;
+    private final OrderFulfillmentService orderFulfillmentService;
 
     @Value("${payos.success-url}")
     private String defaultSuccessUrl;
@@ -87,6 +87,12 @@ public class PayOSServiceImpl implements PayOSPaymentService {
             }
         }
 
+        // A voucher order must be paid while its hold is live, so the link expires with it
+        Optional<OffsetDateTime> deadline = voucherReservationService.checkoutDeadline(order);
+        if (deadline.isPresent() && deadline.get().isBefore(OffsetDateTime.now())) {
+            throw new ResourceInvalidException("Checkout window for this order has expired");
+        }
+
         String successUrl = String.format("%s?orderId=%s", defaultSuccessUrl, order.getId());
         String cancelUrl = String.format("%s?orderId=%s", defaultCancelUrl, order.getId());
         
@@ -106,6 +112,7 @@ public class PayOSServiceImpl implements PayOSPaymentService {
                     .items(items)
                     .cancelUrl(cancelUrl)
                     .returnUrl(successUrl)
+                    .expiredAt(deadline.map(OffsetDateTime::toEpochSecond).orElse(null))
                     .build();
             
             log.debug("PaymentRequest built - OrderCode: {}, Amount: {}", request.getOrderCode(), request.getAmount());
@@ -157,10 +164,8 @@ public class PayOSServiceImpl implements PayOSPaymentService {
                         order.setStatus(OrderStatus.PAID);
                         order.setPaidAt(OffsetDateTime.now(ZoneOffset.UTC));
                         orderRepository.save(order);
-                        
-                        instructorWalletService.processOrderEarnings(order);
-                        enrollmentService.createEnrollmentsAfterPayment(order);
-                        invoiceService.generateAndSendInvoiceAsync(order, payment);
+                        voucherReservationService.confirm(order);
+                        orderFulfillmentService.enqueuePaidOrder(order, payment);
                     }
                 }
             } else {
@@ -175,6 +180,7 @@ public class PayOSServiceImpl implements PayOSPaymentService {
                         order.setStatus(OrderStatus.CANCELLED);
                         order.setCancelReason("Thanh toán bị hủy");
                         orderRepository.save(order);
+                        voucherReservationService.release(order);
                     }
                 }
             }
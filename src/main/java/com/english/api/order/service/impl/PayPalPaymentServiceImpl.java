@@ -2,7 +2,6 @@ package com.english.api.order.service.impl;
 
 import com.english.api.common.exception.ResourceInvalidException;
 import com.english.api.common.exception.ResourceNotFoundException;
-import com.english.api.enrollment.service.EnrollmentService;
 import com.english.api.order.config.PayPalProperties;
 import com.english.api.order.dto.request.PayPalCheckoutRequest;
 import com.english.api.order.dto.request.PayPalWebhookRequest;
@@ -17,12 +16,11 @@ import com.english.api.order.model.enums.PaymentStatus;
 import com.english.api.order.repository.OrderRepository;
 import com.english.api.order.repository.PaymentRepository;
 import com.english.api.order.service.ExchangeRateService;
-import com.english.api.order.service.InvoiceService;
+import com.english.api.order.service.OrderFulfillmentService;
 import com.english.api.order.service.PayPalPaymentService;
+import com.english.api.order.service.VoucherReservationService;
 import com.english.api.order.service.paypal.PayPalClient;
-import com.english.api.user.service.InstructorWalletService;
 import com.english.api.user.service.WithdrawalService;
-import com.english.api.notification.service.NotificationService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -48,12 +46,10 @@ public class PayPalPaymentServiceImpl implements PayPalPaymentService {
     private final ObjectMapper objectMapper;
     private final PayPalClient payPalClient;
     private final PayPalProperties payPalProperties;
-    private final InvoiceService invoiceService;
-    private final EnrollmentService enrollmentService;
+    private final VoucherReservationService voucherReservationService;
     private final ExchangeRateService exchangeRateService;
-    private final InstructorWalletService instructorWalletService;
     private final WithdrawalService withdrawalService;
-    private final NotificationService notificationService;
+    private final OrderFulfillmentService orderFulfillmentService;
 
     @Override
     @Transactional
@@ -64,6 +60,7 @@ public class PayPalPaymentServiceImpl implements PayPalPaymentService {
         if (order.getStatus() != OrderStatus.PENDING) {
             throw new ResourceInvalidException("Order must be in PENDING status to create checkout order");
         }
+        ensureWithinCheckoutDeadline(order);
 
         paymentRepository.findTopByOrderIdAndProviderOrderByCreatedAtDesc(order.getId(), PaymentProvider.PAYPAL)
                 .ifPresent(payment -> {
@@ -117,6 +114,9 @@ public class PayPalPaymentServiceImpl implements PayPalPaymentService {
     public void captureOrder(String paypalOrderId) {
         Payment payment = paymentRepository.findByProviderAndProviderTxnWithOrderDetails(PaymentProvider.PAYPAL, paypalOrderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found for PayPal order: " + paypalOrderId));
+        if (payment.getOrder().getStatus() == OrderStatus.PENDING) {
+            ensureWithinCheckoutDeadline(payment.getOrder());
+        }
 
         JsonNode response = payPalClient.captureOrder(paypalOrderId);
         String status = response.path("status").asText("");
@@ -224,22 +224,23 @@ public class PayPalPaymentServiceImpl implements PayPalPaymentService {
             order.setStatus(OrderStatus.PAID);
             order.setPaidAt(OffsetDateTime.now(ZoneOffset.UTC));
             orderRepository.save(order);
-            
-            // Credit instructors for their course sales
-            instructorWalletService.processOrderEarnings(order);
-            
-            enrollmentService.createEnrollmentsAfterPayment(order);
-            invoiceService.generateAndSendInvoiceAsync(order, payment);
-            
-            // Notify user about successful payment
-            notificationService.sendNotification(
-                order.getUser().getId(),
-                "Thanh toán thành công",
-                "Đơn hàng #" + order.getId() + " đã được thanh toán thành công. Cảm ơn bạn đã sử dụng dịch vụ của chúng tôi!"
-            );
+            voucherReservationService.confirm(order);
+            orderFulfillmentService.enqueuePaidOrder(order, payment);
         }
     }
 
+    /**
+     * A PayPal order cannot be given an expiry, so a voucher order is neither started nor captured once its hold
+     * has expired.
+     */
+    private void ensureWithinCheckoutDeadline(Order order) {
+        voucherReservationService.checkoutDeadline(order).ifPresent(deadline -> {
+            if (deadline.isBefore(OffsetDateTime.now(ZoneOffset.UTC))) {
+                throw new ResourceInvalidException("Checkout window for this order has expired");
+            }
+        });
+    }
+
     private ObjectNode buildOrderPayload(Order order, CurrencyType paymentCurrency, BigDecimal paymentAmount, String customerEmail) {
         ObjectNode root = objectMapper.createObjectNode();
         root.put("intent", "CAPTURE");
@@ -0,0 +1,291 @@
+package com.english.api.order.service.impl;
+
+import com.english.api.common.exception.ResourceInvalidException;
+import com.english.api.common.exception.ServiceBusyException;
+import com.english.api.order.event.VoucherHoldSettledEvent;
+import com.english.api.order.event.VoucherReservedEvent;
+import com.english.api.order.model.InstructorVoucher;
+import com.english.api.order.model.Order;
+import com.english.api.order.repository.InstructorVoucherRepository;
+import com.english.api.order.repository.InstructorVoucherUsageRepository;
+import com.english.api.order.service.VoucherReservationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Voucher usage limits are enforced in Redis by one Lua script per operation, so concurrent checkouts never
+ * wait on the voucher row and can never admit more orders than the limits allow.
+ * <p>
+ * Per voucher, {@code voucher:{id}:used} counts paid uses and {@code voucher:{id}:holds} holds the orders still
+ * awaiting payment, scored by the expiry of their hold; the same pair exists per user. An order is admitted
+ * while {@code used + live holds} is under the limit. Every script first raises the counters to the paid uses
+ * read from the database, which stays the record of paid uses, so a counter that expired or missed an update
+ * never lets more orders in than the database has room for. A payment whose hold has already expired is only
+ * counted if the limits still allow it, and {@code used_count} is only incremented while under the limit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoucherReservationServiceImpl implements VoucherReservationService {
+
+    private static final String KEY_PREFIX = "voucher:";
+
+    private static final long ADMITTED = 1;
+    private static final long VOUCHER_EXHAUSTED = 0;
+
+    // Leaves the providers' webhooks time to arrive before the hold of the order expires
+    private static final Duration CHECKOUT_MARGIN = Duration.ofMinutes(2);
+
+    // Raises a counter to the database value; it is never lowered, as Redis may count uses not yet committed
+    private static final String SEED_FUNCTION = """
+            local function seed(key, value, ttl)
+                local current = redis.call('GET', key)
+                if not current or tonumber(current) < tonumber(value) then
+                    redis.call('SET', key, value, 'PX', ttl)
+                end
+            end
+            """;
+
+    // KEYS: used, holds, user used, user holds
+    // ARGV: orderId, now, hold expiry, usage limit, per-user limit, seed used, seed user used, counter ttl (ms)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(SEED_FUNCTION + """
+            seed(KEYS[1], ARGV[6], ARGV[8])
+            seed(KEYS[3], ARGV[7], ARGV[8])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', ARGV[2])
+            if redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+                return 1
+            end
+            local limit = tonumber(ARGV[4])
+            if limit >= 0 and tonumber(redis.call('GET', KEYS[1])) + redis.call('ZCARD', KEYS[2]) >= limit then
+                return 0
+            end
+            local perUser = tonumber(ARGV[5])
+            if perUser >= 0 and tonumber(redis.call('GET', KEYS[3])) + redis.call('ZCARD', KEYS[4]) >= perUser then
+                return -1
+            end
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('ZADD', KEYS[4], ARGV[3], ARGV[1])
+            redis.call('PEXPIRE', KEYS[4], ARGV[8])
+            return 1
+            """, Long.class);
+
+    // KEYS: used, holds, user used, user holds
+    // ARGV: orderId, now, usage limit, per-user limit, seed used, seed user used, counter ttl (ms)
+    // A live hold is turned into a use; without one the limits are checked again as for a new reservation
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(SEED_FUNCTION + """
+            seed(KEYS[1], ARGV[5], ARGV[7])
+            seed(KEYS[3], ARGV[6], ARGV[7])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', ARGV[2])
+            if redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                redis.call('ZREM', KEYS[4], ARGV[1])
+            else
+                local limit = tonumber(ARGV[3])
+                if limit >= 0 and tonumber(redis.call('GET', KEYS[1])) + redis.call('ZCARD', KEYS[2]) >= limit then
+                    return 0
+                end
+                local perUser = tonumber(ARGV[4])
+                if perUser >= 0 and tonumber(redis.call('GET', KEYS[3])) + redis.call('ZCARD', KEYS[4]) >= perUser then
+                    return -1
+                end
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('INCR', KEYS[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: used, holds, user used, user holds
+    private static final RedisScript<Long> UNCONFIRM_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[1]) or '0') > 0 then
+                redis.call('DECR', KEYS[1])
+            end
+            if tonumber(redis.call('GET', KEYS[3]) or '0') > 0 then
+                redis.call('DECR', KEYS[3])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[4], ARGV[1])
+            return redis.call('ZREM', KEYS[2], ARGV[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final InstructorVoucherRepository voucherRepository;
+    private final InstructorVoucherUsageRepository voucherUsageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.voucher.hold-ttl-minutes:30}")
+    private long holdTtlMinutes;
+
+    @Value("${app.voucher.counter-ttl-hours:24}")
+    private long counterTtlHours;
+
+    @Override
+    public void reserve(InstructorVoucher voucher, UUID userId, UUID orderId) {
+        long now = System.currentTimeMillis();
+        int used = voucherRepository.findUsedCountById(voucher.getId());
+        int userUsed = voucherUsageRepository.countPaidOrdersByVoucherIdAndUserId(voucher.getId(), userId);
+        Long result;
+        try {
+            result = redisTemplate.execute(RESERVE_SCRIPT, keys(voucher.getId(), userId),
+                    orderId.toString(),
+                    String.valueOf(now),
+                    String.valueOf(now + Duration.ofMinutes(holdTtlMinutes).toMillis()),
+                    limitArg(voucher.getUsageLimit()),
+                    limitArg(voucher.getUsagePerUser()),
+                    String.valueOf(used),
+                    String.valueOf(userUsed),
+                    String.valueOf(Duration.ofHours(counterTtlHours).toMillis()));
+        } catch (Exception e) {
+            log.error("Voucher reservation failed for {}: {}", voucher.getCode(), e.getMessage());
+            throw new ServiceBusyException("Không thể áp dụng voucher lúc này, vui lòng thử lại.");
+        }
+
+        if (result == null || result == VOUCHER_EXHAUSTED) {
+            throw new ResourceInvalidException("Voucher đã hết lượt sử dụng");
+        }
+        if (result != ADMITTED) {
+            throw new ResourceInvalidException("Bạn đã sử dụng hết số lần cho phép với voucher này");
+        }
+        eventPublisher.publishEvent(new VoucherReservedEvent(voucher.getId(), userId, orderId));
+    }
+
+    @Override
+    public boolean confirm(Order order) {
+        if (order.getVoucherCode() == null) {
+            return true;
+        }
+        InstructorVoucher voucher = voucherRepository.findByCode(order.getVoucherCode()).orElse(null);
+        if (voucher == null) {
+            return true;
+        }
+        UUID userId = order.getUser().getId();
+        Long result = confirmHold(voucher, userId, order.getId());
+        if (result != null && result != ADMITTED) {
+            return overLimit(voucher, order);
+        }
+        // Redis admitted the use (or was unavailable); the row still refuses to go past the limit
+        if (voucherRepository.incrementUsedCount(voucher.getId()) == 0) {
+            return overLimit(voucher, order);
+        }
+        return true;
+    }
+
+    @Override
+    public void release(Order order) {
+        if (order.getVoucherCode() == null) {
+            return;
+        }
+        voucherRepository.findIdByCode(order.getVoucherCode()).ifPresent(voucherId ->
+                eventPublisher.publishEvent(new VoucherHoldSettledEvent(voucherId, order.getUser().getId(),
+                        order.getId(), false)));
+    }
+
+    @Override
+    public Optional<OffsetDateTime> checkoutDeadline(Order order) {
+        if (order.getVoucherCode() == null) {
+            return Optional.empty();
+        }
+        // The hold is taken after the order is created, so it outlives this deadline
+        return Optional.of(order.getCreatedAt().plusMinutes(holdTtlMinutes).minus(CHECKOUT_MARGIN));
+    }
+
+    /**
+     * Runs the confirm script inside the caller's transaction; returns {@code null} when Redis is unavailable.
+     */
+    private Long confirmHold(InstructorVoucher voucher, UUID userId, UUID orderId) {
+        int used = voucherRepository.findUsedCountById(voucher.getId());
+        int userUsed = voucherUsageRepository.countOtherPaidOrdersByVoucherIdAndUserId(voucher.getId(), userId, orderId);
+        Long result;
+        try {
+            result = redisTemplate.execute(CONFIRM_SCRIPT, keys(voucher.getId(), userId),
+                    orderId.toString(),
+                    String.valueOf(System.currentTimeMillis()),
+                    limitArg(voucher.getUsageLimit()),
+                    limitArg(voucher.getUsagePerUser()),
+                    String.valueOf(used),
+                    String.valueOf(userUsed),
+                    String.valueOf(Duration.ofHours(counterTtlHours).toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to confirm voucher hold of order {}, relying on the database: {}", orderId, e.getMessage());
+            return null;
+        }
+        if (result != null && result == ADMITTED) {
+            // Counted in Redis before the order is committed; taken back if the transaction rolls back
+            eventPublisher.publishEvent(new VoucherHoldSettledEvent(voucher.getId(), userId, orderId, true));
+        }
+        return result;
+    }
+
+    private boolean overLimit(InstructorVoucher voucher, Order order) {
+        log.error("Order {} was paid after voucher {} reached its usage limit", order.getId(), voucher.getCode());
+        meterRegistry.counter("voucher.confirm.over_limit").increment();
+        return false;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHoldReleased(VoucherHoldSettledEvent event) {
+        if (event.redeemed()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys(event.voucherId(), event.userId()), event.orderId().toString());
+        } catch (Exception e) {
+            // An unreleased hold still counts against the limit until it expires
+            log.warn("Failed to release voucher hold of order {}: {}", event.orderId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onConfirmRolledBack(VoucherHoldSettledEvent event) {
+        if (!event.redeemed()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNCONFIRM_SCRIPT, keys(event.voucherId(), event.userId()));
+        } catch (Exception e) {
+            // The counters stay one use too high until they expire, which only ever refuses orders
+            log.warn("Failed to take back voucher use of rolled back order {}: {}", event.orderId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onReservationRolledBack(VoucherReservedEvent event) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys(event.voucherId(), event.userId()), event.orderId().toString());
+        } catch (Exception e) {
+            log.warn("Failed to drop voucher hold of rolled back order {}: {}", event.orderId(), e.getMessage());
+        }
+    }
+
+    private static String limitArg(Integer limit) {
+        return String.valueOf(limit != null ? limit : -1);
+    }
+
+    /**
+     * All keys of one voucher share a hash tag so the scripts also run on a Redis cluster.
+     */
+    private static List<String> keys(UUID voucherId, UUID userId) {
+        String base = KEY_PREFIX + "{" + voucherId + "}:";
+        return List.of(base + "used", base + "holds", base + "used:" + userId, base + "holds:" + userId);
+    }
+}
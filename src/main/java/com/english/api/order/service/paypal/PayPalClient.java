@@ -3,53 +3,102 @@ package com.english.api.order.service.paypal;
 import com.english.api.order.config.PayPalProperties;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.net.http.HttpClient;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PayPal REST client sharing one pooled {@link HttpClient} for every call.
+ * <p>
+ * The OAuth token is cached until shortly before it expires. Once inside the refresh window a single caller
+ * renews it while the others keep using the current token; only an expired token makes callers wait,
+ * and then for the same refresh. A 401 drops the cached token and the call is retried once with a new one.
+ * <p>
+ * Connection failures, 429 and 5xx responses are retried with exponential backoff and jitter. POSTs carry a
+ * {@code PayPal-Request-Id} that stays the same across retries, so PayPal never applies one twice.
+ * Latency is recorded per endpoint template as {@code paypal.client.requests}.
+ * Point {@code paypal.base-url} at a local stub server to run against a stand-in.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PayPalClient {
 
+    private static final String TOKEN_ENDPOINT = "/v1/oauth2/token";
+    private static final String REQUEST_ID_HEADER = "PayPal-Request-Id";
+
     private final PayPalProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken cachedToken;
+    private RestClient restClient;
+
+    @PostConstruct
+    public void init() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        restClient = RestClient.builder()
+                .baseUrl(properties.getBaseUrl())
+                .requestFactory(requestFactory)
+                .build();
+    }
 
     public JsonNode createOrder(ObjectNode payload) {
-        return executeWithBearer(token -> restClient().post()
-                .uri("/v2/checkout/orders")
-                .contentType(MediaType.APPLICATION_JSON)
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .body(payload)
-                .retrieve()
-                .body(JsonNode.class));
+        return post("/v2/checkout/orders", payload);
     }
 
     public JsonNode captureOrder(String paypalOrderId) {
-        return executeWithBearer(token -> restClient().post()
+        String requestId = UUID.randomUUID().toString();
+        return execute("POST /v2/checkout/orders/{orderId}/capture", token -> restClient.post()
                 .uri("/v2/checkout/orders/{orderId}/capture", paypalOrderId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(HttpHeaders.AUTHORIZATION, token)
+                .header(REQUEST_ID_HEADER, requestId)
                 .retrieve()
                 .body(JsonNode.class));
     }
 
     public JsonNode post(String uri, ObjectNode payload) {
-        return executeWithBearer(token -> restClient().post()
+        String requestId = UUID.randomUUID().toString();
+        return execute("POST " + uri, token -> restClient.post()
                 .uri(uri)
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(HttpHeaders.AUTHORIZATION, token)
+                .header(REQUEST_ID_HEADER, requestId)
                 .body(payload)
                 .retrieve()
                 .body(JsonNode.class));
     }
 
-    public JsonNode get(String uri) {
-        return executeWithBearer(token -> restClient().get()
-                .uri(uri)
+    /**
+     * GET a templated URI, e.g. {@code get("/v1/payments/payouts/{batchId}", batchId)}.
+     */
+    public JsonNode get(String uriTemplate, Object... uriVariables) {
+        return execute("GET " + uriTemplate, token -> restClient.get()
+                .uri(uriTemplate, uriVariables)
                 .header(HttpHeaders.AUTHORIZATION, token)
                 .retrieve()
                 .body(JsonNode.class));
@@ -59,21 +108,113 @@ public class PayPalClient {
         return accessToken();
     }
 
-    private <T> T executeWithBearer(RestCall<T> call) {
-        String token = "Bearer " + accessToken();
+    private <T> T execute(String endpoint, RestCall<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            return call.apply(token);
+            T result = executeWithRetry(call);
+            outcome = "success";
+            return result;
         } catch (RestClientResponseException ex) {
+            outcome = String.valueOf(ex.getStatusCode().value());
             throw new RuntimeException("PayPal API call failed: " + ex.getResponseBodyAsString(), ex);
+        } finally {
+            sample.stop(meterRegistry.timer("paypal.client.requests", "endpoint", endpoint, "outcome", outcome));
+        }
+    }
+
+    private <T> T executeWithRetry(RestCall<T> call) {
+        boolean tokenRenewed = false;
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                return call.apply("Bearer " + accessToken());
+            } catch (RestClientResponseException ex) {
+                if (ex.getStatusCode().value() == HttpStatus.UNAUTHORIZED.value() && !tokenRenewed) {
+                    // Token revoked or expired early, fetch a new one and try again right away
+                    cachedToken = null;
+                    tokenRenewed = true;
+                    attempt--;
+                    continue;
+                }
+                if (!isRetryable(ex) || attempt > properties.getMaxRetries()) {
+                    throw ex;
+                }
+                log.warn("PayPal call failed with {}, retrying (attempt {})", ex.getStatusCode(), attempt);
+            } catch (ResourceAccessException ex) {
+                if (attempt > properties.getMaxRetries()) {
+                    throw ex;
+                }
+                log.warn("PayPal call failed: {}, retrying (attempt {})", ex.getMessage(), attempt);
+            }
+            backoff(attempt);
+        }
+    }
+
+    private boolean isRetryable(RestClientResponseException ex) {
+        int status = ex.getStatusCode().value();
+        return status == HttpStatus.TOO_MANY_REQUESTS.value() || status >= 500;
+    }
+
+    private void backoff(int attempt) {
+        long baseMs = properties.getRetryBackoff().toMillis() << (attempt - 1);
+        long delayMs = baseMs / 2 + ThreadLocalRandom.current().nextLong(baseMs / 2 + 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying PayPal call", e);
         }
     }
 
     private String accessToken() {
+        CachedToken token = cachedToken;
+        Instant now = Instant.now();
+        if (token != null && now.isBefore(token.refreshAt())) {
+            return token.value();
+        }
+        if (token != null && now.isBefore(token.expiresAt())) {
+            // Still valid: refresh if nobody else is, otherwise keep using it
+            if (refreshLock.tryLock()) {
+                try {
+                    return refreshIfStale(token);
+                } catch (RuntimeException e) {
+                    log.warn("Proactive PayPal token refresh failed, using current token: {}", e.getMessage());
+                    return token.value();
+                } finally {
+                    refreshLock.unlock();
+                }
+            }
+            return token.value();
+        }
+        refreshLock.lock();
+        try {
+            return refreshIfStale(token);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Caller holds refreshLock; skips the request if another caller already replaced the token
+    private String refreshIfStale(CachedToken seen) {
+        CachedToken current = cachedToken;
+        if (current != null && current != seen && Instant.now().isBefore(current.refreshAt())) {
+            return current.value();
+        }
+        CachedToken fresh = requestToken();
+        cachedToken = fresh;
+        return fresh.value();
+    }
+
+    private CachedToken requestToken() {
         MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
         form.add("grant_type", "client_credentials");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            PayPalAccessTokenResponse response = restClient().post()
-                    .uri("/v1/oauth2/token")
+            PayPalAccessTokenResponse response = restClient.post()
+                    .uri(TOKEN_ENDPOINT)
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .headers(headers -> headers.setBasicAuth(properties.getClientId(), properties.getClientSecret()))
                     .body(form)
@@ -82,16 +223,20 @@ public class PayPalClient {
             if (response == null || response.accessToken() == null) {
                 throw new RuntimeException("Failed to retrieve PayPal access token");
             }
-            return response.accessToken();
+            outcome = "success";
+            Instant now = Instant.now();
+            Instant expiresAt = now.plusSeconds(response.expiresIn());
+            Instant refreshAt = expiresAt.minus(properties.getTokenRefreshSkew());
+            return new CachedToken(response.accessToken(), refreshAt.isAfter(now) ? refreshAt : now, expiresAt);
         } catch (RestClientResponseException ex) {
+            outcome = String.valueOf(ex.getStatusCode().value());
             throw new RuntimeException("PayPal token request failed: " + ex.getResponseBodyAsString(), ex);
+        } finally {
+            sample.stop(meterRegistry.timer("paypal.client.requests", "endpoint", "POST " + TOKEN_ENDPOINT, "outcome", outcome));
         }
     }
 
-    private RestClient restClient() {
-        return RestClient.builder()
-                .baseUrl(properties.getBaseUrl())
-                .build();
+    private record CachedToken(String value, Instant refreshAt, Instant expiresAt) {
     }
 
     @FunctionalInterface
@@ -81,14 +81,14 @@ public class PayPalPayoutService {
      * Check the status of a payout batch
      */
     public JsonNode getPayoutBatchStatus(String batchId) {
-        return payPalClient.get("/v1/payments/payouts/" + batchId);
+        return payPalClient.get("/v1/payments/payouts/{batchId}", batchId);
     }
     
     /**
      * Check the status of a specific payout item
      */
     public JsonNode getPayoutItemStatus(String payoutItemId) {
-        return payPalClient.get("/v1/payments/payouts-item/" + payoutItemId);
+        return payPalClient.get("/v1/payments/payouts-item/{payoutItemId}", payoutItemId);
     }
     
     public record PayoutResult(
@@ -0,0 +1,24 @@
+package com.english.api.quiz.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable answer key of a quiz at a given version ({@code Quiz.updatedAt}).
+ * Maps every question of the quiz to its option ids and the subset of correct ones.
+ */
+public record QuizAnswerKey(UUID quizId, Instant version, Map<UUID, QuestionKey> questions) {
+
+    public record QuestionKey(Set<UUID> optionIds, Set<UUID> correctOptionIds) {
+    }
+
+    public boolean containsQuestion(UUID questionId) {
+        return questions.containsKey(questionId);
+    }
+
+    public QuestionKey question(UUID questionId) {
+        return questions.get(questionId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.english.api.quiz.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * One (question, option) row of a quiz answer key. Option fields are null for questions without options.
+ */
+public interface AnswerKeyProjection {
+    UUID getQuestionId();
+    UUID getOptionId();
+    Boolean getCorrect();
+}
@@ -1,13 +1,16 @@
 package com.english.api.quiz.repository;
 
+import com.english.api.quiz.dto.projection.AnswerKeyProjection;
 import com.english.api.quiz.model.Question;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -22,4 +25,12 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
 
     @Query("SELECT MAX(q.orderIndex) FROM Question q WHERE q.quiz.id = :quizId")
     Integer findMaxOrderIndexByQuizId(UUID quizId);
+
+    @Query("""
+            SELECT q.id AS questionId, o.id AS optionId, o.correct AS correct
+            FROM Question q
+            LEFT JOIN q.options o
+            WHERE q.quiz.id = :quizId
+            """)
+    List<AnswerKeyProjection> findAnswerKeyByQuizId(@Param("quizId") UUID quizId);
 }
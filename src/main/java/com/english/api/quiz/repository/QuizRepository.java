@@ -7,10 +7,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +22,13 @@ public interface QuizRepository extends JpaRepository<Quiz, UUID>, JpaSpecificat
     boolean existsByTitleIgnoreCaseAndQuizSection_Id(String title, UUID sectionId);
     boolean existsByQuizType_Id(UUID quizTypeId);
 
+    /**
+     * Bump the quiz version when its questions or options change, so cached answer keys are superseded
+     */
+    @Modifying
+    @Query("UPDATE Quiz qz SET qz.updatedAt = :now WHERE qz.id = :id")
+    int touchUpdatedAt(@Param("id") UUID id, @Param("now") Instant now);
+
     @Query("""
             select distinct qz from Quiz qz
             left join fetch qz.quizType
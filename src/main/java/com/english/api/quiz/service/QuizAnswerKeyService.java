@@ -0,0 +1,11 @@
+package com.english.api.quiz.service;
+
+import com.english.api.quiz.dto.QuizAnswerKey;
+import com.english.api.quiz.model.Quiz;
+
+public interface QuizAnswerKeyService {
+    /**
+     * Answer key for the quiz at its current version, served from memory when already loaded.
+     */
+    QuizAnswerKey getAnswerKey(Quiz quiz);
+}
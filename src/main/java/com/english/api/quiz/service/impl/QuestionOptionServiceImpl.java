@@ -8,11 +8,13 @@ import com.english.api.quiz.model.Question;
 import com.english.api.quiz.model.QuestionOption;
 import com.english.api.quiz.repository.QuestionOptionRepository;
 import com.english.api.quiz.repository.QuestionRepository;
+import com.english.api.quiz.repository.QuizRepository;
 import com.english.api.quiz.service.QuestionOptionService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
@@ -21,6 +23,7 @@ public class QuestionOptionServiceImpl implements QuestionOptionService {
 
     private final QuestionRepository questionRepository;
     private final QuestionOptionRepository optionRepository;
+    private final QuizRepository quizRepository;
 
     @Transactional
     public QuestionOptionResponse create(UUID questionId, QuestionOptionCreateRequest request) {
@@ -33,6 +36,7 @@ public class QuestionOptionServiceImpl implements QuestionOptionService {
                 .orderIndex(request.orderIndex() == null ? 0 : request.orderIndex())
                 .build();
         option = optionRepository.save(option);
+        quizRepository.touchUpdatedAt(question.getQuiz().getId(), Instant.now());
         return toResponse(option);
     }
 
@@ -44,6 +48,7 @@ public class QuestionOptionServiceImpl implements QuestionOptionService {
         if (request.correct() != null) option.setCorrect(request.correct());
         if (request.orderIndex() != null) option.setOrderIndex(request.orderIndex());
         option = optionRepository.save(option);
+        quizRepository.touchUpdatedAt(option.getQuestion().getQuiz().getId(), Instant.now());
         return toResponse(option);
     }
 
@@ -51,7 +56,9 @@ public class QuestionOptionServiceImpl implements QuestionOptionService {
     public void delete(UUID id) {
         QuestionOption option = optionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("QuestionOption not found"));
+        UUID quizId = option.getQuestion().getQuiz().getId();
         optionRepository.delete(option);
+        quizRepository.touchUpdatedAt(quizId, Instant.now());
     }
 
     @Transactional(readOnly = true)
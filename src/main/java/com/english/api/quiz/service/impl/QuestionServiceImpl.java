@@ -26,6 +26,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -71,6 +72,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         question = questionRepository.save(question);
+        quizRepository.touchUpdatedAt(quiz.getId(), Instant.now());
         return toResponse(question);
     }
 
@@ -78,6 +80,7 @@ public class QuestionServiceImpl implements QuestionService {
     public QuestionResponse update(UUID id, QuestionUpdateRequest request) {
         Question question = questionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Question not found"));
+        UUID previousQuizId = question.getQuiz().getId();
 
         if (request.quizId() != null) {
             Quiz quiz = quizRepository.findById(request.quizId())
@@ -115,6 +118,11 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         question = questionRepository.save(question);
+        Instant now = Instant.now();
+        quizRepository.touchUpdatedAt(previousQuizId, now);
+        if (!previousQuizId.equals(question.getQuiz().getId())) {
+            quizRepository.touchUpdatedAt(question.getQuiz().getId(), now);
+        }
         return toResponse(question);
     }
 
@@ -122,7 +130,9 @@ public class QuestionServiceImpl implements QuestionService {
     public void delete(UUID id) {
         Question question = questionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Question not found"));
+        UUID quizId = question.getQuiz().getId();
         questionRepository.delete(question);
+        quizRepository.touchUpdatedAt(quizId, Instant.now());
     }
 
     @Transactional(readOnly = true)
@@ -258,6 +268,7 @@ public class QuestionServiceImpl implements QuestionService {
                 }
             }
         }
+        quizRepository.touchUpdatedAt(quizId, Instant.now());
     }
 
     // Hàm hỗ trợ parse CSV xử lý dấu phẩy trong ngoặc kép
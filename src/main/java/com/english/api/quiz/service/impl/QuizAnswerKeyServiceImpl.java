@@ -0,0 +1,79 @@
+package com.english.api.quiz.service.impl;
+
+import com.english.api.quiz.dto.QuizAnswerKey;
+import com.english.api.quiz.dto.projection.AnswerKeyProjection;
+import com.english.api.quiz.model.Quiz;
+import com.english.api.quiz.repository.QuestionRepository;
+import com.english.api.quiz.service.QuizAnswerKeyService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Answer keys are cached in-process per (quiz id, quiz version). Question and option writes bump
+ * {@code Quiz.updatedAt}, so a changed quiz is simply looked up under a new key on every node and
+ * the stale entry ages out. Concurrent submissions for the same quiz share a single load.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizAnswerKeyServiceImpl implements QuizAnswerKeyService {
+
+    private final QuestionRepository questionRepository;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<VersionedQuiz, QuizAnswerKey> answerKeys;
+
+    @PostConstruct
+    public void init() {
+        answerKeys = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, answerKeys, "quiz.answer_keys");
+    }
+
+    @Override
+    public QuizAnswerKey getAnswerKey(Quiz quiz) {
+        VersionedQuiz key = new VersionedQuiz(quiz.getId(), quiz.getUpdatedAt());
+        return answerKeys.get(key, k -> load(k.quizId(), k.version()));
+    }
+
+    private QuizAnswerKey load(UUID quizId, Instant version) {
+        List<AnswerKeyProjection> rows = questionRepository.findAnswerKeyByQuizId(quizId);
+
+        Map<UUID, Set<UUID>> options = new HashMap<>();
+        Map<UUID, Set<UUID>> correct = new HashMap<>();
+        for (AnswerKeyProjection row : rows) {
+            Set<UUID> questionOptions = options.computeIfAbsent(row.getQuestionId(), id -> new HashSet<>());
+            Set<UUID> questionCorrect = correct.computeIfAbsent(row.getQuestionId(), id -> new HashSet<>());
+            if (row.getOptionId() != null) {
+                questionOptions.add(row.getOptionId());
+                if (Boolean.TRUE.equals(row.getCorrect())) {
+                    questionCorrect.add(row.getOptionId());
+                }
+            }
+        }
+
+        Map<UUID, QuizAnswerKey.QuestionKey> questions = new HashMap<>(options.size());
+        options.forEach((questionId, optionIds) -> questions.put(questionId,
+                new QuizAnswerKey.QuestionKey(Set.copyOf(optionIds), Set.copyOf(correct.get(questionId)))));
+        return new QuizAnswerKey(quizId, version, Map.copyOf(questions));
+    }
+
+    private record VersionedQuiz(UUID quizId, Instant version) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.english.api.user.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Display name and avatar of a user, without loading the entity and its roles.
+ */
+public interface UserSummaryProjection {
+    UUID getId();
+    String getFullName();
+    String getAvatarUrl();
+}
@@ -0,0 +1,11 @@
+package com.english.api.user.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Live wallet balances of one instructor: the rolled-up snapshot plus the ledger entries not rolled up yet.
+ */
+public interface WalletTotalsProjection {
+    BigDecimal getAvailable();
+    BigDecimal getPending();
+}
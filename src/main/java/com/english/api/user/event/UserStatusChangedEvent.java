@@ -0,0 +1,6 @@
+package com.english.api.user.event;
+
+import java.util.UUID;
+
+public record UserStatusChangedEvent(UUID userId, boolean active) {
+}
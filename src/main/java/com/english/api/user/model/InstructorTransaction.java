@@ -40,8 +40,16 @@ public class InstructorTransaction {
     @Column(name = "amount_cents", nullable = false, precision = 19, scale = 2)
     private java.math.BigDecimal amountCents; // Positive for credit, negative for debit
     
+    @Column(name = "pending_delta_cents", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private java.math.BigDecimal pendingDeltaCents = java.math.BigDecimal.ZERO; // Movement of the pending balance
+    
     @Column(name = "balance_after_cents", nullable = false, precision = 19, scale = 2)
-    private java.math.BigDecimal balanceAfterCents;
+    private java.math.BigDecimal balanceAfterCents; // Estimated when written, exact once rolled up
+    
+    @Column(name = "rolled_up", nullable = false)
+    @Builder.Default
+    private boolean rolledUp = false; // Already folded into InstructorBalance
     
     @Column(name = "currency", length = 10, nullable = false)
     private String currency; // VND for sales, USD for withdrawals
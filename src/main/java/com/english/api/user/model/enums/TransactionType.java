@@ -6,5 +6,6 @@ public enum TransactionType {
     WITHDRAWAL,        // Withdrawal request deduction
     WITHDRAWAL_REFUND, // Refund of rejected withdrawal
     ADJUSTMENT,        // Manual admin adjustment
-    PLATFORM_FEE       // Platform fee deduction
+    PLATFORM_FEE,      // Platform fee deduction
+    WITHDRAWAL_COMPLETED // Paid out withdrawal leaving the pending balance
 }
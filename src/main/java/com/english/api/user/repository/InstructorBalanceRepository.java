@@ -1,7 +1,12 @@
 package com.english.api.user.repository;
 
 import com.english.api.user.model.InstructorBalance;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +15,16 @@ import java.util.UUID;
 @Repository
 public interface InstructorBalanceRepository extends JpaRepository<InstructorBalance, UUID> {
     Optional<InstructorBalance> findByUserId(UUID userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM InstructorBalance b WHERE b.user.id = :userId")
+    Optional<InstructorBalance> findByUserIdForUpdate(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO instructor_balances (id, user_id, available_balance_cents, pending_balance_cents, updated_at)
+            VALUES (:id, :userId, 0, 0, NOW())
+            ON CONFLICT (user_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId);
 }
@@ -1,14 +1,48 @@
 package com.english.api.user.repository;
 
+import com.english.api.user.dto.projection.WalletTotalsProjection;
 import com.english.api.user.model.InstructorTransaction;
+import com.english.api.user.model.enums.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface InstructorTransactionRepository extends JpaRepository<InstructorTransaction, UUID> {
     Page<InstructorTransaction> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    Page<InstructorTransaction> findByUserIdAndTypeNotOrderByCreatedAtDesc(UUID userId, TransactionType type, Pageable pageable);
+
+    boolean existsByTypeAndReferenceId(TransactionType type, UUID referenceId);
+
+    /**
+     * Snapshot plus unrolled entries, read in one statement so a concurrent roll-up is seen entirely or not at all.
+     */
+    @Query(value = """
+            SELECT COALESCE((SELECT b.available_balance_cents FROM instructor_balances b WHERE b.user_id = :userId), 0)
+                       + COALESCE(SUM(t.amount_cents), 0) AS available,
+                   COALESCE((SELECT b.pending_balance_cents FROM instructor_balances b WHERE b.user_id = :userId), 0)
+                       + COALESCE(SUM(t.pending_delta_cents), 0) AS pending
+            FROM instructor_transactions t
+            WHERE t.user_id = :userId AND t.rolled_up = FALSE
+            """, nativeQuery = true)
+    WalletTotalsProjection sumWallet(@Param("userId") UUID userId);
+
+    /**
+     * Entries awaiting roll-up, grouped by instructor in write order. Rows another roll-up holds are skipped.
+     */
+    @Query(value = """
+            SELECT * FROM instructor_transactions
+            WHERE rolled_up = FALSE
+            ORDER BY user_id, created_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<InstructorTransaction> lockUnrolled(@Param("limit") int limit);
 }
@@ -1,5 +1,6 @@
 package com.english.api.user.repository;
 
+import com.english.api.user.dto.projection.UserSummaryProjection;
 import com.english.api.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,6 +60,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.id IN :ids")
     List<User> findByIdIn(@Param("ids") List<UUID> ids);
 
+    @Query("SELECT u.id AS id, u.fullName AS fullName, u.avatarUrl AS avatarUrl FROM User u WHERE u.id IN :ids")
+    List<UserSummaryProjection> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.provider = :provider AND u.providerUid = :providerUid")
     Optional<User> findByProviderAndProviderUidWithRoles(@Param("provider") String provider, @Param("providerUid") String providerUid);
 
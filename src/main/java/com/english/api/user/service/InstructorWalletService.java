@@ -39,5 +39,10 @@ public interface InstructorWalletService {
     /**
      * Complete withdrawal - remove from pending balance
      */
-    void completeWithdrawal(UUID userId, BigDecimal amountCents);
+    void completeWithdrawal(UUID userId, BigDecimal amountCents, UUID referenceId, String currency);
+    
+    /**
+     * Fold ledger entries into the balance snapshots
+     */
+    void rollUpBalances();
 }
@@ -7,6 +7,7 @@ import com.english.api.course.model.Course;
 import com.english.api.course.repository.CourseRepository;
 import com.english.api.order.model.Order;
 import com.english.api.order.model.OrderItem;
+import com.english.api.user.dto.projection.WalletTotalsProjection;
 import com.english.api.user.dto.response.InstructorBalanceResponse;
 import com.english.api.user.dto.response.InstructorTransactionResponse;
 import com.english.api.user.model.InstructorBalance;
@@ -15,19 +16,35 @@ import com.english.api.user.model.User;
 import com.english.api.user.model.enums.TransactionType;
 import com.english.api.user.repository.InstructorBalanceRepository;
 import com.english.api.user.repository.InstructorTransactionRepository;
+import com.english.api.user.repository.UserRepository;
 import com.english.api.user.service.InstructorWalletService;
+import com.github.f4b6a3.uuid.UuidCreator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+/**
+ * Instructor wallets are an append-only ledger in {@code instructor_transactions}.
+ * <p>
+ * Every movement is a new entry carrying its available and pending deltas; {@link InstructorBalance} is only a
+ * snapshot that {@link #rollUpBalances()} periodically folds entries into, and the live balance is that snapshot
+ * plus the entries not rolled up yet. Sales therefore insert without touching any shared row, while withdrawals
+ * still lock the snapshot row so that their balance checks are serialized.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -36,29 +53,32 @@ public class InstructorWalletServiceImpl implements InstructorWalletService {
     private final InstructorBalanceRepository balanceRepository;
     private final InstructorTransactionRepository transactionRepository;
     private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
     
     @Value("${app.platform-fee-percentage:30}")
     private int platformFeePercentage;
     
+    @Value("${app.wallet.rollup-batch-size:1000}")
+    private int rollupBatchSize;
+    
     @Override
     public InstructorBalanceResponse getBalance() {
         UUID userId = SecurityUtil.getCurrentUserId();
-        InstructorBalance balance = balanceRepository.findByUserId(userId)
-                .orElse(InstructorBalance.builder()
-                        .availableBalanceCents(BigDecimal.ZERO)
-                        .pendingBalanceCents(BigDecimal.ZERO)
-                        .build());
+        WalletTotalsProjection totals = transactionRepository.sumWallet(userId);
         
         return InstructorBalanceResponse.from(
-                balance.getAvailableBalanceCents(),
-                balance.getPendingBalanceCents()
+                totals.getAvailable(),
+                totals.getPending()
         );
     }
     
     @Override
     public PaginationResponse getTransactions(Pageable pageable) {
         UUID userId = SecurityUtil.getCurrentUserId();
-        Page<InstructorTransactionResponse> page = transactionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+        // Completions only move the pending balance and have no amount to show
+        Page<InstructorTransactionResponse> page = transactionRepository
+                .findByUserIdAndTypeNotOrderByCreatedAtDesc(userId, TransactionType.WITHDRAWAL_COMPLETED, pageable)
                 .map(tx -> new InstructorTransactionResponse(
                         tx.getId(),
                         tx.getType(),
@@ -94,6 +114,11 @@ public class InstructorWalletServiceImpl implements InstructorWalletService {
             return;
         }
         
+        // Already credited by an earlier attempt at fulfilling this order
+        if (transactionRepository.existsByTypeAndReferenceId(TransactionType.SALE, item.getId())) {
+            return;
+        }
+        
         User instructor = course.getCreatedBy();
         
         // Calculate final price after discount (instructor bears the discount cost)
@@ -109,33 +134,11 @@ public class InstructorWalletServiceImpl implements InstructorWalletService {
                 .multiply(BigDecimal.valueOf(100 - platformFeePercentage))
                 .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
         
-        // Get or create instructor balance
-        InstructorBalance balance = balanceRepository.findByUserId(instructor.getId())
-                .orElseGet(() -> {
-                    InstructorBalance newBalance = InstructorBalance.builder()
-                            .user(instructor)
-                            .availableBalanceCents(BigDecimal.ZERO)
-                            .pendingBalanceCents(BigDecimal.ZERO)
-                            .build();
-                    return balanceRepository.save(newBalance);
-                });
-        
-        // Update balance
-        balance.setAvailableBalanceCents(balance.getAvailableBalanceCents().add(instructorShareCents));
-        balanceRepository.save(balance);
-        
-        // Create transaction record
-        InstructorTransaction transaction = InstructorTransaction.builder()
-                .user(instructor)
-                .type(TransactionType.SALE)
-                .amountCents(instructorShareCents)
-                .currency("VND")
-                .balanceAfterCents(balance.getAvailableBalanceCents())
-                .referenceId(item.getId())
-                .description(String.format("Nhận từ khóa học: %s (Order: %s)", 
-                        course.getTitle(), order.getId()))
-                .build();
-        transactionRepository.save(transaction);
+        // Sales only append: no balance row is read or locked, so concurrent sales never contend
+        WalletTotalsProjection totals = transactionRepository.sumWallet(instructor.getId());
+        append(instructor, TransactionType.SALE, instructorShareCents, BigDecimal.ZERO,
+                totals.getAvailable().add(instructorShareCents), "VND", item.getId(),
+                String.format("Nhận từ khóa học: %s (Order: %s)", course.getTitle(), order.getId()));
         
         log.info("Credited instructor {} with {} for course sale", 
                 instructor.getId(), instructorShareCents);
@@ -144,78 +147,120 @@ public class InstructorWalletServiceImpl implements InstructorWalletService {
     @Override
     @Transactional
     public void deductBalance(UUID userId, BigDecimal amountCents, UUID referenceId, String description, String currency) {
-        InstructorBalance balance = balanceRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceInvalidException("Instructor balance not found"));
+        WalletTotalsProjection totals = lockWallet(userId);
         
-        if (balance.getAvailableBalanceCents().compareTo(amountCents) < 0) {
+        if (totals.getAvailable().compareTo(amountCents) < 0) {
             throw new ResourceInvalidException("Insufficient balance");
         }
         
         // Move from available to pending
-        balance.setAvailableBalanceCents(balance.getAvailableBalanceCents().subtract(amountCents));
-        balance.setPendingBalanceCents(balance.getPendingBalanceCents().add(amountCents));
-        balanceRepository.save(balance);
-        
-        // Create transaction record
-        InstructorTransaction transaction = InstructorTransaction.builder()
-                .user(balance.getUser())
-                .type(TransactionType.WITHDRAWAL)
-                .amountCents(amountCents.negate())
-                .currency(currency)
-                .balanceAfterCents(balance.getAvailableBalanceCents())
-                .referenceId(referenceId)
-                .description(description)
-                .build();
-        transactionRepository.save(transaction);
+        append(userRepository.getReferenceById(userId), TransactionType.WITHDRAWAL, amountCents.negate(), amountCents,
+                totals.getAvailable().subtract(amountCents), currency, referenceId, description);
     }
     
     @Override
     @Transactional
     public void refundBalance(UUID userId, BigDecimal amountCents, UUID referenceId, String description, String currency) {
-        InstructorBalance balance = balanceRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceInvalidException("Instructor balance not found"));
+        WalletTotalsProjection totals = lockWallet(userId);
         
         // Validate pending balance is sufficient to prevent negative balance
-        if (balance.getPendingBalanceCents().compareTo(amountCents) < 0) {
+        if (totals.getPending().compareTo(amountCents) < 0) {
             log.warn("Pending balance insufficient for refund: userId={}, pending={}, requested={}. Possible duplicate refund.",
-                    userId, balance.getPendingBalanceCents(), amountCents);
+                    userId, totals.getPending(), amountCents);
             throw new ResourceInvalidException("Cannot refund: insufficient pending balance. This withdrawal may have already been processed.");
         }
         
         // Move from pending back to available
-        balance.setPendingBalanceCents(balance.getPendingBalanceCents().subtract(amountCents));
-        balance.setAvailableBalanceCents(balance.getAvailableBalanceCents().add(amountCents));
-        balanceRepository.save(balance);
-        
-        // Create transaction record
-        InstructorTransaction transaction = InstructorTransaction.builder()
-                .user(balance.getUser())
-                .type(TransactionType.WITHDRAWAL_REFUND)
-                .amountCents(amountCents)
-                .currency(currency)
-                .balanceAfterCents(balance.getAvailableBalanceCents())
-                .referenceId(referenceId)
-                .description(description)
-                .build();
-        transactionRepository.save(transaction);
+        append(userRepository.getReferenceById(userId), TransactionType.WITHDRAWAL_REFUND, amountCents, amountCents.negate(),
+                totals.getAvailable().add(amountCents), currency, referenceId, description);
     }
     
     @Override
     @Transactional
-    public void completeWithdrawal(UUID userId, BigDecimal amountCents) {
-        InstructorBalance balance = balanceRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceInvalidException("Instructor balance not found"));
+    public void completeWithdrawal(UUID userId, BigDecimal amountCents, UUID referenceId, String currency) {
+        WalletTotalsProjection totals = lockWallet(userId);
+        
+        if (transactionRepository.existsByTypeAndReferenceId(TransactionType.WITHDRAWAL_COMPLETED, referenceId)) {
+            log.warn("Withdrawal {} already completed for user {}", referenceId, userId);
+            return;
+        }
         
         // Validate pending balance is sufficient to prevent negative balance
-        if (balance.getPendingBalanceCents().compareTo(amountCents) < 0) {
+        if (totals.getPending().compareTo(amountCents) < 0) {
             log.warn("Pending balance insufficient for user {}: pending={}, requested={}. Possible duplicate completion.",
-                    userId, balance.getPendingBalanceCents(), amountCents);
+                    userId, totals.getPending(), amountCents);
             return;
         }
         
         // Remove from pending balance (already removed from available when request was created)
-        balance.setPendingBalanceCents(balance.getPendingBalanceCents().subtract(amountCents));
-        balanceRepository.save(balance);
+        append(userRepository.getReferenceById(userId), TransactionType.WITHDRAWAL_COMPLETED, BigDecimal.ZERO,
+                amountCents.negate(), totals.getAvailable(), currency, referenceId,
+                "Hoàn tất rút tiền #" + referenceId);
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${app.wallet.rollup-interval-ms:30000}")
+    public void rollUpBalances() {
+        try {
+            Integer rolled;
+            do {
+                rolled = transactionTemplate.execute(status -> rollUpBatch());
+            } while (rolled != null && rolled == rollupBatchSize);
+        } catch (Exception e) {
+            // Entries stay unrolled and are picked up by the next run
+            log.warn("Instructor balance roll-up failed: {}", e.getMessage());
+        }
+    }
+    
+    private int rollUpBatch() {
+        List<InstructorTransaction> entries = transactionRepository.lockUnrolled(rollupBatchSize);
+        Map<UUID, List<InstructorTransaction>> byInstructor = entries.stream()
+                .collect(Collectors.groupingBy(tx -> tx.getUser().getId(), LinkedHashMap::new, Collectors.toList()));
+        
+        // Balance rows are locked in the same order by every roll-up, so concurrent runs cannot deadlock
+        byInstructor.forEach((userId, userEntries) -> {
+            InstructorBalance balance = lockBalance(userId);
+            BigDecimal available = balance.getAvailableBalanceCents();
+            BigDecimal pending = balance.getPendingBalanceCents();
+            for (InstructorTransaction tx : userEntries) {
+                available = available.add(tx.getAmountCents());
+                pending = pending.add(tx.getPendingDeltaCents());
+                tx.setBalanceAfterCents(available);
+                tx.setRolledUp(true);
+            }
+            balance.setAvailableBalanceCents(available);
+            balance.setPendingBalanceCents(pending);
+        });
+        return entries.size();
+    }
+    
+    /**
+     * Serializes balance checks of one instructor (withdrawals and their refunds) against each other and the
+     * roll-up, then reads the live totals. Sales do not take this lock and can only raise the available balance.
+     */
+    private WalletTotalsProjection lockWallet(UUID userId) {
+        lockBalance(userId);
+        return transactionRepository.sumWallet(userId);
+    }
+    
+    private InstructorBalance lockBalance(UUID userId) {
+        balanceRepository.insertIfAbsent(UuidCreator.getTimeOrderedEpoch(), userId);
+        return balanceRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new ResourceInvalidException("Instructor balance not found"));
+    }
+    
+    private void append(User user, TransactionType type, BigDecimal amountCents, BigDecimal pendingDeltaCents,
+                        BigDecimal balanceAfterCents, String currency, UUID referenceId, String description) {
+        transactionRepository.save(InstructorTransaction.builder()
+                .user(user)
+                .type(type)
+                .amountCents(amountCents)
+                .pendingDeltaCents(pendingDeltaCents)
+                .currency(currency)
+                .balanceAfterCents(balanceAfterCents)
+                .referenceId(referenceId)
+                .description(description)
+                .build());
     }
     
     private String formatCents(BigDecimal cents, String currency) {
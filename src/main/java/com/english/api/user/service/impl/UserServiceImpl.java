@@ -6,6 +6,7 @@ import com.english.api.common.dto.PaginationResponse;
 import com.english.api.common.exception.*;
 import com.english.api.common.service.MediaService;
 import com.english.api.mail.service.MailService;
+import com.english.api.user.event.UserStatusChangedEvent;
 import com.english.api.user.dto.request.UpdatePasswordRequest;
 import com.english.api.user.dto.request.UpdateUserRequest;
 import com.english.api.user.dto.response.UserResponse;
@@ -17,6 +18,7 @@ import com.english.api.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -44,6 +46,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final MediaService mediaService;
     private final MailService mailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public boolean existsByEmail(String email) {
@@ -169,6 +172,7 @@ public class UserServiceImpl implements UserService {
         boolean wasActive = user.isActive();
         user.setActive(!wasActive);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId, !wasActive));
         
         // Send email notification
         String userName = user.getFullName() != null ? user.getFullName() : user.getEmail();
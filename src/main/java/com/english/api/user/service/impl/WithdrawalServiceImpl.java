@@ -267,7 +267,9 @@ public class WithdrawalServiceImpl implements WithdrawalService {
         // Remove from pending balance (after status update to ensure idempotency)
         walletService.completeWithdrawal(
                 withdrawal.getUser().getId(),
-                withdrawal.getOriginalAmountCents()
+                withdrawal.getOriginalAmountCents(),
+                withdrawal.getId(),
+                withdrawal.getOriginalCurrency() != null ? withdrawal.getOriginalCurrency() : "USD"
         );
         
         log.info("Withdrawal marked as completed: requestId={}", withdrawal.getId());
@@ -444,7 +446,9 @@ public class WithdrawalServiceImpl implements WithdrawalService {
                 // Remove from pending balance (after status update to ensure idempotency)
                 walletService.completeWithdrawal(
                         withdrawal.getUser().getId(),
-                        withdrawal.getOriginalAmountCents()
+                        withdrawal.getOriginalAmountCents(),
+                        withdrawal.getId(),
+                        withdrawal.getOriginalCurrency() != null ? withdrawal.getOriginalCurrency() : "USD"
                 );
                 
                 // Notify user about successful payout
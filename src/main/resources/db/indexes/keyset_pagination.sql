@@ -0,0 +1,11 @@
+-- Indexes backing the cursor (keyset) list endpoints
+-- Each index matches the ORDER BY of the seek query, including the id tie-breaker
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_user_created
+    ON notification (user_id, created_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_attempts_user_submitted
+    ON quiz_attempts (user_id, submitted_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_forum_posts_thread_created_id
+    ON forum_posts (thread_id, created_at, id);
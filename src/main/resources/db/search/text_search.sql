@@ -0,0 +1,42 @@
+-- Full-text and trigram search for courses, forum threads and blog posts
+-- Keyword normalization must stay in sync with com.english.api.common.search.SearchKeyword
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() is only STABLE (it depends on the dictionary search path); pinning the dictionary
+-- makes it safe to use in generated columns and index expressions
+CREATE OR REPLACE FUNCTION f_unaccent(text)
+RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Courses: title (A), description (B)
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(title, '')))), 'A') ||
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(description, '')))), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_courses_search_vector ON courses USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_courses_title_trgm ON courses USING GIN (f_unaccent(lower(title)) gin_trgm_ops);
+
+-- Forum threads: title (A), markdown body (C)
+ALTER TABLE forum_threads ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(title, '')))), 'A') ||
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(body_md, '')))), 'C') ||
+    setweight(to_tsvector('english', coalesce(body_md, '')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_forum_threads_search_vector ON forum_threads USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_forum_threads_title_trgm ON forum_threads USING GIN (f_unaccent(lower(title)) gin_trgm_ops);
+
+-- Blog posts: title (A), markdown body (C)
+ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(title, '')))), 'A') ||
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', f_unaccent(lower(coalesce(body_md, '')))), 'C') ||
+    setweight(to_tsvector('english', coalesce(body_md, '')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_blog_posts_search_vector ON blog_posts USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_blog_posts_title_trgm ON blog_posts USING GIN (f_unaccent(lower(title)) gin_trgm_ops);
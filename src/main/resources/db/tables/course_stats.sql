@@ -0,0 +1,32 @@
+-- Precomputed per-course statistics used by the course catalog search
+-- Maintained by CourseStatsService (incremental refresh of dirty courses + periodic reconcile)
+-- Every course has a row: CourseStatsService.initialize creates it with the course, the backfill below covers
+-- existing ones. The catalog inner-joins this table and sorts on its raw columns so the indexes below apply.
+
+CREATE TABLE IF NOT EXISTS course_stats (
+    course_id      UUID PRIMARY KEY REFERENCES courses(id) ON DELETE CASCADE,
+    module_count   BIGINT           NOT NULL DEFAULT 0,
+    lesson_count   BIGINT           NOT NULL DEFAULT 0,
+    review_count   BIGINT           NOT NULL DEFAULT 0,
+    average_rating DOUBLE PRECISION NOT NULL DEFAULT 0,
+    student_count  BIGINT           NOT NULL DEFAULT 0,
+    updated_at     TIMESTAMPTZ      NOT NULL DEFAULT NOW()
+);
+
+-- Sorting by rating / students walks these indexes instead of aggregating every course
+CREATE INDEX IF NOT EXISTS idx_course_stats_average_rating ON course_stats (average_rating DESC, course_id);
+CREATE INDEX IF NOT EXISTS idx_course_stats_student_count ON course_stats (student_count DESC, course_id);
+
+-- Backfill existing courses (safe to re-run, existing rows are kept)
+INSERT INTO course_stats (course_id, module_count, lesson_count, review_count, average_rating, student_count, updated_at)
+SELECT c.id,
+    (SELECT COUNT(*) FROM course_modules m WHERE m.course_id = c.id),
+    (SELECT COUNT(*) FROM course_modules m
+     INNER JOIN lessons l ON l.module_id = m.id
+     WHERE m.course_id = c.id),
+    (SELECT COUNT(*) FROM course_reviews r WHERE r.course_id = c.id AND r.is_published = true),
+    COALESCE((SELECT AVG(r.rating) FROM course_reviews r WHERE r.course_id = c.id AND r.is_published = true), 0),
+    (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id AND e.status = 'ACTIVE'),
+    NOW()
+FROM courses c
+ON CONFLICT (course_id) DO NOTHING;
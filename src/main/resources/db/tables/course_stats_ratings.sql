@@ -0,0 +1,36 @@
+-- Rating aggregates on course_stats: sum of published ratings and a 1-5 star histogram
+-- Maintained transactionally by review writes (CourseStatsService.applyReviewChange), rebuilt by the reconcile job
+
+ALTER TABLE course_stats
+    ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_1   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_2   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_3   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_4   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_5   BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill from published reviews
+UPDATE course_stats st SET
+    review_count = rv.review_count,
+    rating_sum = rv.rating_sum,
+    average_rating = rv.rating_sum::double precision / rv.review_count,
+    rating_1 = rv.rating_1,
+    rating_2 = rv.rating_2,
+    rating_3 = rv.rating_3,
+    rating_4 = rv.rating_4,
+    rating_5 = rv.rating_5,
+    updated_at = NOW()
+FROM (
+    SELECT r.course_id,
+        COUNT(*) AS review_count,
+        SUM(r.rating) AS rating_sum,
+        COUNT(*) FILTER (WHERE r.rating = 1) AS rating_1,
+        COUNT(*) FILTER (WHERE r.rating = 2) AS rating_2,
+        COUNT(*) FILTER (WHERE r.rating = 3) AS rating_3,
+        COUNT(*) FILTER (WHERE r.rating = 4) AS rating_4,
+        COUNT(*) FILTER (WHERE r.rating = 5) AS rating_5
+    FROM course_reviews r
+    WHERE r.is_published = true
+    GROUP BY r.course_id
+) rv
+WHERE st.course_id = rv.course_id;
@@ -0,0 +1,22 @@
+-- Counters behind enrollments.progress_percent, maintained by LessonProgressService:
+-- lesson toggles move enrollments.completed_lessons by one and publishing moves course_stats.published_lesson_count
+-- by one, so progress is recomputed from the counters instead of recounting lessons on every click.
+
+ALTER TABLE course_stats ADD COLUMN IF NOT EXISTS published_lesson_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS completed_lessons INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill existing rows
+UPDATE course_stats s
+SET published_lesson_count = (
+    SELECT COUNT(*) FROM course_modules m
+    INNER JOIN lessons l ON l.module_id = m.id
+    WHERE m.course_id = s.course_id AND l.published = true
+);
+
+UPDATE enrollments e
+SET completed_lessons = (
+    SELECT COUNT(*) FROM lesson_progress lp
+    INNER JOIN lessons l ON l.id = lp.lesson_id
+    INNER JOIN course_modules m ON m.id = l.module_id
+    WHERE lp.user_id = e.user_id AND m.course_id = e.course_id AND lp.completed = true
+);
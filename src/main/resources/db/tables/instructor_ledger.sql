@@ -0,0 +1,15 @@
+-- instructor_transactions is the ledger of every wallet movement and the source of truth for balances.
+-- instructor_balances is a snapshot: InstructorWalletService periodically folds entries that are not
+-- rolled up yet into it, and the live balance is the snapshot plus those entries.
+
+ALTER TYPE transaction_type ADD VALUE IF NOT EXISTS 'WITHDRAWAL_COMPLETED';
+
+-- Movement of the pending (withdrawal in flight) balance; amount_cents stays the available movement
+ALTER TABLE instructor_transactions ADD COLUMN IF NOT EXISTS pending_delta_cents NUMERIC(19, 2) NOT NULL DEFAULT 0;
+
+-- Existing entries are already reflected in instructor_balances
+ALTER TABLE instructor_transactions ADD COLUMN IF NOT EXISTS rolled_up BOOLEAN NOT NULL DEFAULT TRUE;
+ALTER TABLE instructor_transactions ALTER COLUMN rolled_up SET DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_instructor_tx_unrolled ON instructor_transactions (user_id, created_at)
+    WHERE rolled_up = FALSE;
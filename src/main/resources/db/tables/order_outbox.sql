@@ -0,0 +1,24 @@
+-- Fulfillment work for paid orders, written in the same transaction as the order status change
+-- Drained by OrderFulfillmentService: due rows are claimed with FOR UPDATE SKIP LOCKED and a lease,
+-- each step is recorded in completed_steps once done, failures are retried with backoff and end up DEAD
+
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id              BIGSERIAL    PRIMARY KEY,
+    order_id        UUID         NOT NULL REFERENCES orders(id) ON DELETE CASCADE,
+    payment_id      UUID         REFERENCES payments(id) ON DELETE SET NULL,
+    event_type      VARCHAR(40)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    completed_steps VARCHAR(200) NOT NULL DEFAULT '',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    locked_until    TIMESTAMPTZ,
+    last_error      TEXT,
+    created_at      TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    processed_at    TIMESTAMPTZ
+);
+
+-- A redelivered webhook cannot enqueue the same order twice
+CREATE UNIQUE INDEX IF NOT EXISTS uq_order_outbox_order_event ON order_outbox (order_id, event_type);
+
+-- The dispatcher only scans work that is still pending
+CREATE INDEX IF NOT EXISTS idx_order_outbox_due ON order_outbox (next_attempt_at, id) WHERE status = 'PENDING';
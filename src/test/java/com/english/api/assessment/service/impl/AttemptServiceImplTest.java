@@ -0,0 +1,113 @@
+package com.english.api.assessment.service.impl;
+
+import com.english.api.assessment.dto.response.AttemptResponse;
+import com.english.api.assessment.mapper.AttemptMapperImpl;
+import com.english.api.quiz.model.Quiz;
+import com.english.api.quiz.repository.QuizRepository;
+import com.english.api.quiz.repository.QuizSectionRepository;
+import com.english.api.quiz.repository.QuizTypeRepository;
+import com.english.api.quiz.service.impl.QuizAnswerKeyServiceImpl;
+import com.english.api.support.EmbeddedPostgresConfig;
+import com.english.api.user.model.User;
+import com.english.api.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Grading a one-shot submission costs the same number of statements whatever the number of answers.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmbeddedPostgresConfig.class, AttemptServiceImpl.class, QuizAnswerKeyServiceImpl.class,
+        AttemptMapperImpl.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttemptServiceImplTest {
+
+    @Autowired
+    private AttemptServiceImpl attemptService;
+
+    @Autowired
+    private QuizAnswerKeyServiceImpl answerKeyService;
+
+    @Autowired
+    private QuizTypeRepository quizTypeRepository;
+
+    @Autowired
+    private QuizSectionRepository quizSectionRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        User student = userRepository.save(User.builder().provider("local").fullName("Student").build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(student.getId().toString(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void gradingRunsAFixedNumberOfStatements() {
+        long ten = countStatements(10);
+        long forty = countStatements(40);
+        long hundred = countStatements(100);
+
+        // quiz, section, answer key, attempt insert, answer insert, quiz type
+        assertThat(hundred).isEqualTo(forty).isEqualTo(ten).isEqualTo(6);
+    }
+
+    @Test
+    void gradesEveryAnswerAgainstTheKey() {
+        Quiz quiz = OneShotQuizFixture.createQuiz(quizTypeRepository, quizSectionRepository, quizRepository, 40);
+
+        AttemptResponse response = attemptService.submitOneShot(OneShotQuizFixture.submission(quiz));
+
+        assertThat(response.totalQuestions()).isEqualTo(40);
+        assertThat(response.totalCorrect()).isEqualTo(20);
+        assertThat(response.answers()).hasSize(40);
+    }
+
+    // Submits every question of a fresh quiz with a cold answer key cache
+    private long countStatements(int answers) {
+        Quiz quiz = OneShotQuizFixture.createQuiz(quizTypeRepository, quizSectionRepository, quizRepository, answers);
+        ((Cache<?, ?>) ReflectionTestUtils.getField(answerKeyService, "answerKeys")).invalidateAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        attemptService.submitOneShot(OneShotQuizFixture.submission(quiz));
+        return statistics.getPrepareStatementCount();
+    }
+}
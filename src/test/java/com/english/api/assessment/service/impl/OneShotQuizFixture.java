@@ -0,0 +1,70 @@
+package com.english.api.assessment.service.impl;
+
+import com.english.api.assessment.dto.request.SubmitAnswerDto;
+import com.english.api.assessment.dto.request.SubmitAttemptRequest;
+import com.english.api.quiz.model.Question;
+import com.english.api.quiz.model.QuestionOption;
+import com.english.api.quiz.model.Quiz;
+import com.english.api.quiz.model.QuizSection;
+import com.english.api.quiz.model.QuizType;
+import com.english.api.quiz.model.enums.QuizSkill;
+import com.english.api.quiz.repository.QuizRepository;
+import com.english.api.quiz.repository.QuizSectionRepository;
+import com.english.api.quiz.repository.QuizTypeRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reading quizzes with four options per question, and one-shot submissions answering every question of them.
+ */
+final class OneShotQuizFixture {
+
+    static final int OPTIONS = 4;
+
+    private OneShotQuizFixture() {
+    }
+
+    static Quiz createQuiz(QuizTypeRepository quizTypeRepository, QuizSectionRepository quizSectionRepository,
+                           QuizRepository quizRepository, int questionCount) {
+        QuizType type = quizTypeRepository.save(QuizType.builder().name("IELTS " + UUID.randomUUID()).build());
+        QuizSection section = quizSectionRepository.save(QuizSection.builder()
+                .name("Reading")
+                .skill(QuizSkill.READING)
+                .quizType(type)
+                .build());
+        Quiz quiz = Quiz.builder()
+                .title("Reading " + questionCount)
+                .quizType(type)
+                .quizSection(section)
+                .build();
+        for (int q = 0; q < questionCount; q++) {
+            Question question = Question.builder().quiz(quiz).content("Question " + q).orderIndex(q).build();
+            for (int o = 1; o <= OPTIONS; o++) {
+                question.getOptions().add(QuestionOption.builder()
+                        .question(question)
+                        .content("Option " + o)
+                        .correct(o == 1)
+                        .orderIndex(o)
+                        .build());
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quizRepository.save(quiz);
+    }
+
+    // Questions with an even order index are answered correctly, the others wrongly
+    static SubmitAttemptRequest submission(Quiz quiz) {
+        List<SubmitAnswerDto> answers = quiz.getQuestions().stream()
+                .map(question -> {
+                    boolean answerCorrectly = question.getOrderIndex() % 2 == 0;
+                    QuestionOption picked = question.getOptions().stream()
+                            .filter(option -> option.isCorrect() == answerCorrectly)
+                            .findFirst()
+                            .orElseThrow();
+                    return new SubmitAnswerDto(question.getId(), picked.getId(), null);
+                })
+                .toList();
+        return new SubmitAttemptRequest(quiz.getId(), answers, 600, null);
+    }
+}
@@ -0,0 +1,111 @@
+package com.english.api.assessment.service.impl;
+
+import com.english.api.assessment.dto.request.SubmitAttemptRequest;
+import com.english.api.assessment.dto.response.AttemptResponse;
+import com.english.api.assessment.mapper.AttemptMapperImpl;
+import com.english.api.quiz.model.Quiz;
+import com.english.api.quiz.repository.QuizRepository;
+import com.english.api.quiz.repository.QuizSectionRepository;
+import com.english.api.quiz.repository.QuizTypeRepository;
+import com.english.api.quiz.service.impl.QuizAnswerKeyServiceImpl;
+import com.english.api.support.EmbeddedPostgresConfig;
+import com.english.api.user.model.User;
+import com.english.api.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one {@link AttemptServiceImpl#submitOneShot} by answer count, on an embedded PostgreSQL: the attempt
+ * is graded against the cached answer key and written with its answers in one transaction, as a student's
+ * submission of a reading quiz is in steady state.
+ * <p>
+ * Postgres refuses to run as root.
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="SubmitOneShotBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 5)
+public class SubmitOneShotBenchmark {
+
+    @Param({"10", "40", "100"})
+    public int answers;
+
+    private ConfigurableApplicationContext context;
+    private AttemptServiceImpl attemptService;
+    private SubmitAttemptRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Context.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.hibernate.ddl-auto=create-drop", "--spring.main.banner-mode=off");
+        attemptService = context.getBean(AttemptServiceImpl.class);
+        Quiz quiz = OneShotQuizFixture.createQuiz(context.getBean(QuizTypeRepository.class),
+                context.getBean(QuizSectionRepository.class), context.getBean(QuizRepository.class), answers);
+        request = OneShotQuizFixture.submission(quiz);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Student {
+
+        @Setup
+        public void setUp(SubmitOneShotBenchmark benchmark) {
+            User student = benchmark.context.getBean(UserRepository.class)
+                    .save(User.builder().provider("local").fullName("Student").build());
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(student.getId().toString(), null, List.of()));
+        }
+
+        @TearDown
+        public void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public AttemptResponse submitOneShot(Student student) {
+        return attemptService.submitOneShot(request);
+    }
+
+    /**
+     * The JPA slice of {@code @DataJpaTest} with the grading services, outside of a test runner.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @AutoConfigurationPackage(basePackages = "com.english.api")
+    @AutoConfigureDataJpa
+    @Import({EmbeddedPostgresConfig.class, AttemptServiceImpl.class, QuizAnswerKeyServiceImpl.class,
+            AttemptMapperImpl.class, SimpleMeterRegistry.class})
+    static class Context {
+    }
+}
@@ -0,0 +1,118 @@
+package com.english.api.auth.service.impl;
+
+import com.english.api.support.EmbeddedRedis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logout-all latency against a Redis holding {@code storedTokens} refresh tokens of other users:
+ * {@code revokeAll} walks only the user's session index, {@code keysScan} is the old {@code KEYS rt_user:<id>:*} wipe.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="RefreshTokenRevokeAllBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RefreshTokenRevokeAllBenchmark {
+
+    private static final int SESSIONS_PER_FILLER_USER = 5;
+    private static final int FILL_BATCH = 10_000;
+
+    @Param({"10000", "1000000", "3000000"})
+    public int storedTokens;
+
+    @Param({"5"})
+    public int userSessions;
+
+    private EmbeddedRedis redis;
+    private RefreshTokenServiceImpl service;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        redis = EmbeddedRedis.start();
+        service = new RefreshTokenServiceImpl(redis.template());
+        userId = UUID.randomUUID();
+
+        long expiresAtMs = System.currentTimeMillis() + Duration.ofDays(7).toMillis();
+        for (int start = 0; start < storedTokens; start += FILL_BATCH) {
+            int end = Math.min(storedTokens, start + FILL_BATCH);
+            int from = start;
+            redis.template().executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection strings = (StringRedisConnection) connection;
+                UUID fillerUser = null;
+                for (int i = from; i < end; i++) {
+                    if (fillerUser == null || i % SESSIONS_PER_FILLER_USER == 0) {
+                        fillerUser = UUID.randomUUID();
+                    }
+                    String jti = UUID.randomUUID().toString();
+                    strings.set("rt_user:{" + fillerUser + "}:" + jti, "0");
+                    strings.zAdd("rt_sessions:{" + fillerUser + "}", expiresAtMs, jti);
+                }
+                return null;
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        redis.close();
+    }
+
+    @Benchmark
+    public long revokeAll(IndexedLogin login) {
+        return service.revokeAll(userId);
+    }
+
+    @Benchmark
+    public long keysScan(UnindexedLogin login) {
+        Set<String> keys = redis.template().keys("rt_user:" + userId + ":*");
+        for (String key : keys) {
+            redis.template().delete(key);
+        }
+        return keys.size();
+    }
+
+    @State(Scope.Thread)
+    public static class IndexedLogin {
+        @Setup(Level.Invocation)
+        public void login(RefreshTokenRevokeAllBenchmark state) {
+            Instant now = Instant.now();
+            for (int i = 0; i < state.userSessions; i++) {
+                state.service.store(state.userId, UUID.randomUUID().toString(), now, now.plus(Duration.ofDays(7)));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UnindexedLogin {
+        @Setup(Level.Invocation)
+        public void login(RefreshTokenRevokeAllBenchmark state) {
+            for (int i = 0; i < state.userSessions; i++) {
+                state.redis.template().opsForValue().set("rt_user:" + state.userId + ":" + UUID.randomUUID(), "1");
+            }
+        }
+    }
+}
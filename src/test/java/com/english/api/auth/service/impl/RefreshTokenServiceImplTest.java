@@ -0,0 +1,90 @@
+package com.english.api.auth.service.impl;
+
+import com.english.api.auth.dto.response.SessionResponse;
+import com.english.api.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenServiceImplTest {
+
+    private static EmbeddedRedis redis;
+
+    private RefreshTokenServiceImpl service;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        service = new RefreshTokenServiceImpl(redis.template());
+    }
+
+    @Test
+    void revokeAllRemovesOnlyThatUsersSessions() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        for (int i = 0; i < 1200; i++) {
+            store(userId, "jti-" + i);
+        }
+        store(otherUserId, "other");
+
+        assertThat(service.revokeAll(userId)).isEqualTo(1200);
+
+        assertThat(service.consume(userId, "jti-0")).isFalse();
+        assertThat(service.findActiveSessions(userId, null)).isEmpty();
+        assertThat(redis.template().keys("*{" + userId + "}*")).isEmpty();
+        assertThat(service.consume(otherUserId, "other")).isTrue();
+    }
+
+    @Test
+    void consumeSucceedsOnlyOnce() {
+        UUID userId = UUID.randomUUID();
+        store(userId, "jti");
+
+        assertThat(service.consume(userId, "jti")).isTrue();
+        assertThat(service.consume(userId, "jti")).isFalse();
+    }
+
+    @Test
+    void legacyTokensAreAcceptedAndMovedIntoTheIndex() {
+        UUID userId = UUID.randomUUID();
+        redis.template().opsForValue().set("rt_user:" + userId + ":old-1", "1", Duration.ofHours(1));
+        redis.template().opsForValue().set("rt_user:" + userId + ":old-2", "1", Duration.ofHours(1));
+
+        assertThat(service.consume(userId, "old-1")).isTrue();
+
+        ReflectionTestUtils.setField(service, "legacyBackfill", true);
+        service.backfillLegacyTokens();
+
+        List<SessionResponse> sessions = service.findActiveSessions(userId, "old-2");
+        assertThat(sessions).singleElement().satisfies(session -> {
+            assertThat(session.sessionId()).isEqualTo("old-2");
+            assertThat(session.current()).isTrue();
+        });
+        assertThat(redis.template().hasKey("rt_user:" + userId + ":old-2")).isFalse();
+        assertThat(service.revokeAll(userId)).isEqualTo(1);
+    }
+
+    private void store(UUID userId, String jti) {
+        Instant now = Instant.now();
+        service.store(userId, jti, now, now.plus(Duration.ofDays(7)));
+    }
+}
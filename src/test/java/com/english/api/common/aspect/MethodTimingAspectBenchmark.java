@@ -0,0 +1,182 @@
+package com.english.api.common.aspect;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.english.api.common.service.EchoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the service advice: {@code methodTimingAspect} is the current {@link MethodTimingAspect},
+ * {@code loggingAspect} the {@code LoggingAspect} it replaced (three INFO lines per call, written synchronously
+ * to a log file as the file appender did then), {@code noAdvice} the same proxy without any aspect.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="MethodTimingAspectBenchmark -t 4"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class MethodTimingAspectBenchmark {
+
+    private Path logFile;
+    private EchoService noAdvice;
+    private EchoService loggingAspect;
+    private EchoService methodTimingAspect;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("aspect-benchmark", ".log");
+        logToFile(logFile);
+
+        MethodTimingAspect timing = new MethodTimingAspect(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(timing, "controllerSlowMs", 1000L);
+        ReflectionTestUtils.setField(timing, "serviceSlowMs", 500L);
+
+        noAdvice = proxy(null);
+        loggingAspect = proxy(new LoggingAspect());
+        methodTimingAspect = proxy(timing);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public String noAdvice() {
+        return noAdvice.echo("lesson");
+    }
+
+    @Benchmark
+    public String loggingAspect() {
+        return loggingAspect.echo("lesson");
+    }
+
+    @Benchmark
+    public String methodTimingAspect() {
+        return methodTimingAspect.echo("lesson");
+    }
+
+    private static EchoService proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new EchoService());
+        factory.setProxyTargetClass(true);
+        if (aspect != null) {
+            factory.addAspect(aspect);
+        }
+        return factory.getProxy();
+    }
+
+    // Root logger at INFO into a plain file appender, with the pattern of logback.xml
+    private static void logToFile(Path file) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+    }
+
+    /**
+     * The aspect as it was before {@link MethodTimingAspect} replaced it.
+     */
+    @Aspect
+    public static class LoggingAspect {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(LoggingAspect.class);
+
+        @Before("execution(* com.english.api.*.service..*(..))")
+        public void logBeforeService(JoinPoint joinPoint) {
+            logBefore(joinPoint, "Service");
+        }
+
+        @AfterReturning("execution(* com.english.api.*.service..*(..))")
+        public void logAfterReturningService(JoinPoint joinPoint) {
+            logAfterReturning(joinPoint, "Service");
+        }
+
+        @Around("execution(* com.english.api.*.service..*(..))")
+        public Object logExecutionTimeService(ProceedingJoinPoint joinPoint) throws Throwable {
+            return logExecutionTime(joinPoint, "Service");
+        }
+
+        @AfterThrowing(value = "execution(* com.english.api.*..*(..))", throwing = "ex")
+        public void logAfterThrowing(JoinPoint joinPoint, Exception ex) {
+            log.error(String.format("[ERROR] Method: %s | IP: %s | Exception: %s",
+                    joinPoint.getSignature().toShortString(), getClientIp(), ex.getMessage()));
+        }
+
+        private void logBefore(JoinPoint joinPoint, String layer) {
+            log.info("[{}] BEFORE: {} | IP: {}", layer, joinPoint.getSignature().toShortString(), getClientIp());
+        }
+
+        private void logAfterReturning(JoinPoint joinPoint, String layer) {
+            log.info("[{}] AFTER RETURNING: {}", layer, joinPoint.getSignature().toShortString());
+        }
+
+        private Object logExecutionTime(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+            Instant start = Instant.now();
+            Object result = joinPoint.proceed();
+            Duration duration = Duration.between(start, Instant.now());
+            log.info("[{}] EXECUTED: {} | Time: {} ms",
+                    layer, joinPoint.getSignature().toShortString(), duration.toMillis());
+            return result;
+        }
+
+        private String getClientIp() {
+            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            if (attributes != null) {
+                HttpServletRequest request = attributes.getRequest();
+                return request.getRemoteAddr();
+            }
+            return "UNKNOWN";
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.english.api.common.pdf;
+
+import com.english.api.order.model.OrderItem;
+import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invoice rendering throughput: {@code renderer} goes through {@link PdfRenderer} (fonts parsed once per render
+ * slot), {@code freshBuilder} is the previous per-invoice pipeline that re-read and re-parsed the fonts.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="PdfRendererBenchmark -t 4"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PdfRendererBenchmark {
+
+    private SpringTemplateEngine templateEngine;
+    private PdfRenderer renderer;
+    private Context context;
+
+    @Setup
+    public void setUp() {
+        templateEngine = templateEngine();
+        renderer = renderer(templateEngine, 0);
+        renderer.warmUp();
+        context = invoiceContext();
+    }
+
+    @Benchmark
+    public int renderer() {
+        return renderer.render("invoice", context).size();
+    }
+
+    @Benchmark
+    public int freshBuilder() throws IOException {
+        String html = templateEngine.process("invoice", context);
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.useFastMode();
+            builder.useFont(() -> getClass().getResourceAsStream("/fonts/DejaVuSans.ttf"),
+                    "DejaVu Sans", 400, BaseRendererBuilder.FontStyle.NORMAL, true);
+            builder.useFont(() -> getClass().getResourceAsStream("/fonts/DejaVuSans-Bold.ttf"),
+                    "DejaVu Sans", 700, BaseRendererBuilder.FontStyle.NORMAL, true);
+            builder.withHtmlContent(html, null);
+            builder.toStream(os);
+            builder.run();
+            return os.size();
+        }
+    }
+
+    static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    static PdfRenderer renderer(SpringTemplateEngine templateEngine, int maxConcurrent) {
+        PdfRenderer renderer = new PdfRenderer(templateEngine, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(renderer, "maxConcurrent", maxConcurrent);
+        ReflectionTestUtils.setField(renderer, "acquireTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(renderer, "initialBufferKb", 64);
+        ReflectionTestUtils.setField(renderer, "templates", List.of("invoice"));
+        renderer.init();
+        return renderer;
+    }
+
+    static Context invoiceContext() {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            items.add(OrderItem.builder()
+                    .title("Khóa học tiếng Anh giao tiếp " + i)
+                    .unitPriceCents(499_000L)
+                    .totalPriceCents(499_000L)
+                    .build());
+        }
+        Context context = new Context();
+        context.setVariable("invoiceNumber", "INV-20261018-000123");
+        context.setVariable("createdDate", "18/10/2026");
+        context.setVariable("paidDate", "18/10/2026");
+        context.setVariable("customerName", "Nguyễn Văn An");
+        context.setVariable("customerEmail", "an.nguyen@example.com");
+        context.setVariable("customerId", "0192a3b4-c5d6-7e8f-9a0b-1c2d3e4f5a6b");
+        context.setVariable("orderId", "0192a3b4-c5d6-7e8f-9a0b-1c2d3e4f5a6c");
+        context.setVariable("orderItems", items);
+        context.setVariable("paymentMethod", "PAYOS");
+        context.setVariable("paymentTxn", "1234567890");
+        context.setVariable("paymentTime", "18/10/2026 10:15:00");
+        context.setVariable("currency", "VND");
+        context.setVariable("subtotalAmount", "1.497.000");
+        context.setVariable("discountAmount", "100.000");
+        context.setVariable("voucherCode", "WELCOME10");
+        context.setVariable("totalAmount", "1.397.000");
+        context.setVariable("totalAmountCents", 1_397_000L);
+        return context;
+    }
+}
@@ -0,0 +1,39 @@
+package com.english.api.common.pdf;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PdfRendererTest {
+
+    private final PdfRenderer renderer = PdfRendererBenchmark.renderer(PdfRendererBenchmark.templateEngine(), 4);
+
+    @Test
+    void concurrentRendersEachEmbedTheirOwnFontSubset() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> renders = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                renders.add(executor.submit(() ->
+                        renderer.render("invoice", PdfRendererBenchmark.invoiceContext()).toByteArray()));
+            }
+            for (Future<byte[]> render : renders) {
+                try (PDDocument document = Loader.loadPDF(render.get())) {
+                    String text = new PDFTextStripper().getText(document);
+                    assertThat(text).contains("Nguyễn Văn An", "Khóa học tiếng Anh giao tiếp 3", "WELCOME10");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.english.api.common.service;
+
+/**
+ * Does no work; lives in a service package so the service pointcuts of the aspects match it in benchmarks.
+ */
+public class EchoService {
+
+    public String echo(String value) {
+        return value;
+    }
+}
@@ -0,0 +1,106 @@
+package com.english.api.common.service.impl;
+
+import com.english.api.common.dto.CursorRequest;
+import com.english.api.common.dto.PaginationResponse;
+import com.english.api.common.storage.S3Inventory;
+import com.english.api.support.MinioS3;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Listing a folder of 100k objects through {@link MediaServiceImpl}: {@code fullListing} is the unpaged
+ * {@code /media/list} walking every continuation token, {@code cursorPage} one page of 100 fetched with a cursor
+ * halfway through the folder, which should cost the same as the first page.
+ * <p>
+ * Needs a MinIO endpoint, see {@link MinioS3}; the folder is seeded with empty objects on the first run and kept.
+ * {@code MINIO_ENDPOINT=http://localhost:9000 ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="MediaListingBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class MediaListingBenchmark {
+
+    private static final String FOLDER = "benchmark/listing";
+    private static final int OBJECTS = 100_000;
+    private static final int PAGE_SIZE = 100;
+
+    private MinioS3 minio;
+    private MediaServiceImpl mediaService;
+    private CursorRequest middle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        minio = MinioS3.fromEnvironment()
+                .orElseThrow(() -> new IllegalStateException("Set MINIO_ENDPOINT to run this benchmark"));
+        S3Inventory inventory = new S3Inventory(minio.client(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(inventory, "deleteParallelism", 4);
+        mediaService = new MediaServiceImpl(minio.client(), null, inventory, null, null);
+        ReflectionTestUtils.setField(mediaService, "bucket", minio.bucket());
+        ReflectionTestUtils.setField(mediaService, "publicUrl", "https://cdn.example.com");
+
+        AtomicInteger existing = new AtomicInteger();
+        inventory.forEachObject(minio.bucket(), FOLDER + "/", object -> existing.incrementAndGet());
+        if (existing.get() < OBJECTS) {
+            seed();
+        }
+        middle = CursorRequest.of(CursorRequest.encode(key(OBJECTS / 2), ""), PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        minio.close();
+    }
+
+    @Benchmark
+    public int fullListing() {
+        List<String> urls = mediaService.listFilesInFolder(FOLDER);
+        if (urls.size() != OBJECTS) {
+            throw new IllegalStateException("Listed " + urls.size() + " of " + OBJECTS + " objects");
+        }
+        return urls.size();
+    }
+
+    @Benchmark
+    public PaginationResponse cursorPage() {
+        return mediaService.listFilesInFolder(FOLDER, middle);
+    }
+
+    private void seed() {
+        Semaphore inFlight = new Semaphore(64);
+        List<CompletableFuture<?>> puts = new ArrayList<>(OBJECTS);
+        for (int i = 0; i < OBJECTS; i++) {
+            String key = key(i);
+            inFlight.acquireUninterruptibly();
+            puts.add(minio.client().putObject(r -> r.bucket(minio.bucket()).key(key), AsyncRequestBody.empty())
+                    .whenComplete((response, error) -> inFlight.release()));
+        }
+        CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).join();
+    }
+
+    private static String key(int i) {
+        return String.format("%s/object-%06d.txt", FOLDER, i);
+    }
+}
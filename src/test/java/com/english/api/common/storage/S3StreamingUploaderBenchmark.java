@@ -0,0 +1,117 @@
+package com.english.api.common.storage;
+
+import com.english.api.support.DiscardingS3AsyncClient;
+import com.english.api.support.MinioS3;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link S3StreamingUploader#upload} by object size: 10 MB goes in a single PUT, 100 MB and 1 GB as
+ * 8 MB parts. Runs against {@link MinioS3} when {@code MINIO_ENDPOINT} is set, otherwise against a client that
+ * reads and discards the body.
+ * <p>
+ * The fork's heap is capped at 32 MB, so a 100 MB or 1 GB upload only completes if the live set stays a few chunks
+ * whatever the size. With {@code -prof gc}, {@code gc.alloc.rate.norm} gives the bytes allocated per upload: about
+ * 1.01 bytes per byte uploaded, since the SDK body hands each chunk over in a fresh buffer. That churn is
+ * short-lived garbage; it grows with the size, the retained heap does not.
+ * <p>
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="S3StreamingUploaderBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx32m")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class S3StreamingUploaderBenchmark {
+
+    static final long MB = 1024 * 1024;
+
+    @Param({"10", "100", "1024"})
+    public long sizeMb;
+
+    private MinioS3 minio;
+    private S3StreamingUploader uploader;
+    private String bucket;
+
+    @Setup
+    public void setUp() {
+        minio = MinioS3.fromEnvironment().orElse(null);
+        S3AsyncClient client = minio != null ? minio.client() : new DiscardingS3AsyncClient();
+        bucket = minio != null ? minio.bucket() : "benchmark";
+        uploader = uploader(client);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (minio != null) {
+            minio.client().deleteObject(r -> r.bucket(bucket).key(key())).join();
+            minio.close();
+        }
+    }
+
+    @Benchmark
+    public void upload() {
+        uploader.upload(bucket, key(), "video/mp4", new ZeroInputStream(sizeMb * MB), sizeMb * MB);
+    }
+
+    private String key() {
+        return "benchmark/upload-" + sizeMb + "mb";
+    }
+
+    static S3StreamingUploader uploader(S3AsyncClient client) {
+        S3StreamingUploader uploader = new S3StreamingUploader(client, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(uploader, "maxConcurrent", 4);
+        ReflectionTestUtils.setField(uploader, "acquireTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(uploader, "multipartThresholdMb", 16L);
+        ReflectionTestUtils.setField(uploader, "partSizeMb", 8L);
+        uploader.init();
+        return uploader;
+    }
+
+    /**
+     * {@code length} bytes of whatever the caller's buffer holds, so the source allocates nothing itself.
+     */
+    static final class ZeroInputStream extends InputStream {
+        private long remaining;
+
+        ZeroInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            remaining -= n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.english.api.course.repository.custom;
+
+import com.english.api.course.dto.projection.CourseWithStatsProjection;
+import com.english.api.course.repository.CourseRepository;
+import com.english.api.support.EmbeddedPostgresConfig;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Catalog sorts on {@code course_stats} columns read the stats indexes in order instead of sorting every course.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmbeddedPostgresConfig.class)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.english.api.course.repository.custom.CourseRepositoryCustomImplTest$RecordingInspector"
+})
+@Sql("classpath:db/search/text_search.sql")
+class CourseRepositoryCustomImplTest {
+
+    private static final int COURSES = 5000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("""
+                INSERT INTO courses (id, title, slug, status, created_at, updated_at, is_deleted)
+                SELECT gen_random_uuid(), 'Course ' || i, 'course-' || i,
+                    CASE WHEN i % 10 = 0 THEN 'DRAFT' ELSE 'PUBLISHED' END, NOW(), NOW(), i % 50 = 0
+                FROM generate_series(1, ?) i
+                """, COURSES);
+        jdbc.update("""
+                INSERT INTO course_stats (course_id, module_count, lesson_count, review_count, average_rating,
+                    student_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5,
+                    published_lesson_count, updated_at)
+                SELECT id, 0, 0, 0, round(CAST(random() * 5 AS numeric), 2), floor(random() * 1000),
+                    0, 0, 0, 0, 0, 0, 0, NOW()
+                FROM courses
+                """);
+        jdbc.execute("ANALYZE courses");
+        jdbc.execute("ANALYZE course_stats");
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void sortingByRatingWalksTheRatingIndex() {
+        String plan = explainPage(Sort.by(Sort.Direction.DESC, "rating"));
+
+        assertThat(plan).contains("idx_course_stats_average_rating").doesNotContain("Sort Key: st.");
+    }
+
+    @Test
+    void sortingByStudentsWalksTheStudentIndex() {
+        String plan = explainPage(Sort.by(Sort.Direction.DESC, "students"));
+
+        assertThat(plan).contains("idx_course_stats_student_count").doesNotContain("Sort Key: st.");
+    }
+
+    @Test
+    void pageAndCountCoverTheSameCourses() {
+        Page<CourseWithStatsProjection> page = courseRepository.searchWithStats(null, null, null,
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "rating")));
+
+        Long listed = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM courses WHERE is_deleted = false AND status != 'DRAFT'", Long.class);
+        assertThat(page.getTotalElements()).isEqualTo(listed);
+        assertThat(page.getContent()).hasSize(PAGE_SIZE)
+                .isSortedAccordingTo(Comparator.comparing(CourseWithStatsProjection::getAverageRating).reversed());
+    }
+
+    // Plan of the page query as Hibernate sent it, with the bind parameters of an unfiltered listing inlined
+    private String explainPage(Sort sort) {
+        courseRepository.searchWithStats(null, null, null, PageRequest.of(0, PAGE_SIZE, sort));
+        String pageSql = RecordingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains("ORDER BY"))
+                .findFirst()
+                .orElseThrow();
+        return jdbc.queryForList("EXPLAIN " + inlineParameters(pageSql), String.class).stream()
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String inlineParameters(String sql) {
+        StringBuilder inlined = new StringBuilder();
+        for (int i = 0; i < sql.length(); i++) {
+            char ch = sql.charAt(i);
+            if (ch != '?') {
+                inlined.append(ch);
+                continue;
+            }
+            String rest = sql.substring(i + 1);
+            if (rest.startsWith(" AS text[])")) {
+                inlined.append("'{}'");
+            } else if (rest.startsWith(" AS text)")) {
+                inlined.append("NULL");
+            } else if (rest.startsWith(" = 0")) {
+                inlined.append('0');
+            } else if (rest.startsWith(" rows fetch")) {
+                inlined.append('0');
+            } else {
+                inlined.append(PAGE_SIZE);
+            }
+        }
+        return inlined.toString();
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.english.api.enrollment.service.impl;
+
+import com.english.api.enrollment.repository.EnrollmentRepository;
+import com.english.api.enrollment.repository.LessonProgressRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cost of one lesson toggle while many learners of one course click through lessons concurrently, on an embedded
+ * PostgreSQL: {@code counters} runs the statements of {@link LessonProgressServiceImpl#markCompleted} (the native
+ * ones are read from the repositories), {@code recount} the previous flow that looked up the course, checked the
+ * enrollment and then recounted published and completed lessons. The recount used to run on the async pool
+ * after the toggle; here it runs in line, so both report the database work of one click.
+ * <p>
+ * Postgres refuses to run as root.
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="LessonProgressBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LessonProgressBenchmark {
+
+    private static final int MODULES = 10;
+    private static final int LESSONS_PER_MODULE = 20;
+    private static final int LEARNERS = 500;
+
+    private static final String FIND_ENROLLMENT = """
+            SELECT e.id FROM enrollments e, lessons l, course_modules m
+            WHERE l.id = :lessonId AND m.id = l.module_id AND e.course_id = m.course_id AND e.user_id = :userId
+            """;
+
+    private static final String FIND_COURSE = """
+            SELECT m.course_id FROM lessons l JOIN course_modules m ON m.id = l.module_id WHERE l.id = :lessonId
+            """;
+
+    private static final String ENROLLMENT_EXISTS = """
+            SELECT e.id FROM enrollments e WHERE e.user_id = :userId AND e.course_id = :courseId LIMIT 1
+            """;
+
+    private static final String TOGGLE = """
+            UPDATE lesson_progress SET completed = NOT completed, last_seen_at = NOW()
+            WHERE user_id = :userId AND lesson_id = :lessonId
+            """;
+
+    private static final String COUNT_PUBLISHED = """
+            SELECT COUNT(l.id) FROM lessons l JOIN course_modules m ON m.id = l.module_id
+            WHERE m.course_id = :courseId AND l.published = true
+            """;
+
+    private static final String COUNT_COMPLETED = """
+            SELECT COUNT(lp.id) FROM lesson_progress lp
+            JOIN lessons l ON l.id = lp.lesson_id JOIN course_modules m ON m.id = l.module_id
+            WHERE lp.user_id = :userId AND m.course_id = :courseId AND lp.completed = true
+            """;
+
+    private static final String UPDATE_PERCENT = """
+            UPDATE enrollments SET progress_percent = :percent WHERE user_id = :userId AND course_id = :courseId
+            """;
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        EmbeddedPostgres postgres;
+        HikariDataSource dataSource;
+        NamedParameterJdbcTemplate jdbc;
+        TransactionTemplate transactions;
+        UUID courseId = UUID.randomUUID();
+        List<UUID> lessonIds = new ArrayList<>();
+        List<UUID> learnerIds = new ArrayList<>();
+        String toggleReturning;
+        String applyDelta;
+        final AtomicInteger nextLearner = new AtomicInteger();
+
+        @Setup
+        public void setUp() throws Exception {
+            postgres = EmbeddedPostgres.start();
+            dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+            dataSource.setMaximumPoolSize(16);
+            jdbc = new NamedParameterJdbcTemplate(dataSource);
+            transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            toggleReturning = LessonProgressRepository.class
+                    .getMethod("toggleCompleted", UUID.class, UUID.class).getAnnotation(Query.class).value();
+            applyDelta = EnrollmentRepository.class
+                    .getMethod("applyCompletedLessonDelta", UUID.class, int.class).getAnnotation(Query.class).value();
+            createSchema();
+            seed();
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            dataSource.close();
+            postgres.close();
+        }
+
+        private void createSchema() {
+            jdbc.getJdbcTemplate().execute("""
+                    CREATE TABLE course_modules (id uuid PRIMARY KEY, course_id uuid NOT NULL);
+                    CREATE INDEX ON course_modules (course_id);
+                    CREATE TABLE lessons (id uuid PRIMARY KEY, module_id uuid NOT NULL, published boolean NOT NULL);
+                    CREATE INDEX ON lessons (module_id);
+                    CREATE TABLE course_stats (course_id uuid PRIMARY KEY, published_lesson_count bigint NOT NULL);
+                    CREATE TABLE enrollments (
+                        id uuid PRIMARY KEY, user_id uuid NOT NULL, course_id uuid NOT NULL,
+                        progress_percent numeric(5, 2) NOT NULL DEFAULT 0,
+                        completed_lessons integer NOT NULL DEFAULT 0,
+                        UNIQUE (user_id, course_id));
+                    CREATE TABLE lesson_progress (
+                        id uuid PRIMARY KEY DEFAULT gen_random_uuid(), user_id uuid NOT NULL, lesson_id uuid NOT NULL,
+                        completed boolean NOT NULL, last_seen_at timestamptz NOT NULL,
+                        UNIQUE (user_id, lesson_id));
+                    """);
+        }
+
+        // Every learner has a progress row for every lesson, half of them completed
+        private void seed() {
+            for (int m = 0; m < MODULES; m++) {
+                UUID moduleId = UUID.randomUUID();
+                jdbc.update("INSERT INTO course_modules VALUES (:id, :courseId)",
+                        new MapSqlParameterSource("id", moduleId).addValue("courseId", courseId));
+                for (int l = 0; l < LESSONS_PER_MODULE; l++) {
+                    UUID lessonId = UUID.randomUUID();
+                    jdbc.update("INSERT INTO lessons VALUES (:id, :moduleId, true)",
+                            new MapSqlParameterSource("id", lessonId).addValue("moduleId", moduleId));
+                    lessonIds.add(lessonId);
+                }
+            }
+            jdbc.update("INSERT INTO course_stats VALUES (:courseId, :count)",
+                    new MapSqlParameterSource("courseId", courseId).addValue("count", lessonIds.size()));
+            for (int i = 0; i < LEARNERS; i++) {
+                UUID userId = UUID.randomUUID();
+                learnerIds.add(userId);
+                jdbc.update("""
+                        INSERT INTO enrollments (id, user_id, course_id, progress_percent, completed_lessons)
+                        VALUES (gen_random_uuid(), :userId, :courseId, 50, :completed)
+                        """, new MapSqlParameterSource("userId", userId).addValue("courseId", courseId)
+                        .addValue("completed", lessonIds.size() / 2));
+                jdbc.update("""
+                        INSERT INTO lesson_progress (user_id, lesson_id, completed, last_seen_at)
+                        SELECT :userId, l.id, random() < 0.5, NOW() FROM lessons l
+                        """, new MapSqlParameterSource("userId", userId));
+            }
+            jdbc.getJdbcTemplate().execute("ANALYZE");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Learner {
+
+        UUID userId;
+        List<UUID> lessonIds;
+        int next;
+
+        @Setup
+        public void setUp(Database db) {
+            userId = db.learnerIds.get(db.nextLearner.getAndIncrement() % db.learnerIds.size());
+            lessonIds = db.lessonIds;
+        }
+
+        UUID nextLesson() {
+            next = (next + 1) % lessonIds.size();
+            return lessonIds.get(next);
+        }
+    }
+
+    @Benchmark
+    public Integer counters(Database db, Learner learner) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", learner.userId)
+                .addValue("lessonId", learner.nextLesson());
+        return db.transactions.execute(status -> {
+            UUID enrollmentId = db.jdbc.queryForObject(FIND_ENROLLMENT, params, UUID.class);
+            Boolean completed = db.jdbc.queryForObject(db.toggleReturning, params, Boolean.class);
+            return db.jdbc.update(db.applyDelta, new MapSqlParameterSource("enrollmentId", enrollmentId)
+                    .addValue("delta", Boolean.TRUE.equals(completed) ? 1 : -1));
+        });
+    }
+
+    @Benchmark
+    public Integer recount(Database db, Learner learner) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", learner.userId)
+                .addValue("lessonId", learner.nextLesson());
+        return db.transactions.execute(status -> {
+            UUID courseId = db.jdbc.queryForObject(FIND_COURSE, params, UUID.class);
+            params.addValue("courseId", courseId);
+            db.jdbc.queryForObject(ENROLLMENT_EXISTS, params, UUID.class);
+            db.jdbc.update(TOGGLE, params);
+            long published = db.jdbc.queryForObject(COUNT_PUBLISHED, params, Long.class);
+            long completed = db.jdbc.queryForObject(COUNT_COMPLETED, params, Long.class);
+            BigDecimal percent = BigDecimal.valueOf(completed)
+                    .divide(BigDecimal.valueOf(published), 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(100))
+                    .setScale(2, RoundingMode.HALF_UP);
+            return db.jdbc.update(UPDATE_PERCENT, params.addValue("percent", percent));
+        });
+    }
+}
@@ -0,0 +1,187 @@
+package com.english.api.forum.service.impl;
+
+import com.english.api.forum.mapper.ForumResponseAssembler;
+import com.english.api.forum.model.ForumCategory;
+import com.english.api.forum.model.ForumPost;
+import com.english.api.forum.model.ForumThread;
+import com.english.api.forum.model.ForumThreadCategory;
+import com.english.api.forum.model.ForumThreadSave;
+import com.english.api.forum.repository.ForumCategoryRepository;
+import com.english.api.forum.repository.ForumPostRepository;
+import com.english.api.forum.repository.ForumThreadCategoryRepository;
+import com.english.api.forum.repository.ForumThreadRepository;
+import com.english.api.forum.repository.ForumThreadSaveRepository;
+import com.english.api.notification.service.NotificationService;
+import com.english.api.support.EmbeddedPostgresConfig;
+import com.english.api.user.model.User;
+import com.english.api.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listing a page costs the same number of statements whatever its size: nothing is fetched per row.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmbeddedPostgresConfig.class, ForumThreadServiceImpl.class, ForumPostServiceImpl.class,
+        ForumResponseAssembler.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ForumListQueryCountTest {
+
+    private static final int ROWS = 40;
+
+    @Autowired
+    private ForumThreadServiceImpl threadService;
+
+    @Autowired
+    private ForumPostServiceImpl postService;
+
+    @Autowired
+    private ForumResponseAssembler responseAssembler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ForumThreadRepository threadRepository;
+
+    @Autowired
+    private ForumPostRepository postRepository;
+
+    @Autowired
+    private ForumCategoryRepository categoryRepository;
+
+    @Autowired
+    private ForumThreadCategoryRepository threadCategoryRepository;
+
+    @Autowired
+    private ForumThreadSaveRepository saveRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    private List<User> authors;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        authors = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            authors.add(userRepository.save(User.builder().provider("local").fullName("Author " + i).build()));
+        }
+        viewer = userRepository.save(User.builder().provider("local").fullName("Viewer").build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(viewer.getId().toString(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void listPublicRunsAFixedNumberOfStatements() {
+        String suffix = UUID.randomUUID().toString();
+        List<ForumCategory> categories = List.of(category("grammar-" + suffix), category("speaking-" + suffix));
+        for (int i = 0; i < ROWS; i++) {
+            ForumThread thread = threadRepository.save(ForumThread.builder()
+                    .authorId(authors.get(i).getId())
+                    .title("Thread " + i)
+                    .slug("thread-" + i + "-" + suffix)
+                    .bodyMd("body")
+                    .build());
+            for (ForumCategory category : categories) {
+                threadCategoryRepository.save(ForumThreadCategory.builder().thread(thread).category(category).build());
+            }
+            if (i % 2 == 0) {
+                saveRepository.save(ForumThreadSave.builder().user(viewer).thread(thread).build());
+            }
+        }
+        UUID categoryId = categories.get(0).getId();
+
+        long small = countStatements(() -> threadService.listPublic(null, categoryId, null, PageRequest.of(0, 5)));
+        long full = countStatements(() -> threadService.listPublic(null, categoryId, null, PageRequest.of(0, 20)));
+
+        // ids, count, threads, category links, authors, saved flags
+        assertThat(full).isEqualTo(small).isEqualTo(6);
+    }
+
+    @Test
+    void listByThreadRunsAFixedNumberOfStatements() {
+        ForumThread thread = threadRepository.save(ForumThread.builder()
+                .authorId(authors.get(0).getId())
+                .title("Replies")
+                .slug("replies-" + UUID.randomUUID())
+                .bodyMd("body")
+                .build());
+        List<ForumPost> posts = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            // Replies of the second half answer posts of the first half, so they have parents outside their page
+            ForumPost parent = i >= ROWS / 2 ? posts.get(i - ROWS / 2) : null;
+            posts.add(postRepository.save(ForumPost.builder()
+                    .thread(thread)
+                    .parent(parent)
+                    .authorId(authors.get(i).getId())
+                    .bodyMd("post " + i)
+                    .build()));
+        }
+
+        long small = countStatements(() -> postService.listByThread(thread.getId(), PageRequest.of(4, 5), true));
+        long full = countStatements(() -> postService.listByThread(thread.getId(), PageRequest.of(1, 20), true));
+
+        // thread, page, count, out-of-page parents, authors
+        assertThat(full).isEqualTo(small).isEqualTo(5);
+    }
+
+    private ForumCategory category(String slug) {
+        return categoryRepository.save(ForumCategory.builder().name(slug).slug(slug).build());
+    }
+
+    // Runs in its own read-only transaction, as a request does with open-in-view, with a cold author cache
+    private long countStatements(Supplier<?> listing) {
+        ((Cache<?, ?>) ReflectionTestUtils.getField(responseAssembler, "authors")).invalidateAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.execute(status -> listing.get());
+        return statistics.getPrepareStatementCount();
+    }
+}
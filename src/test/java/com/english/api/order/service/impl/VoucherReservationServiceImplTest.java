@@ -0,0 +1,188 @@
+package com.english.api.order.service.impl;
+
+import com.english.api.common.exception.ResourceInvalidException;
+import com.english.api.order.model.InstructorVoucher;
+import com.english.api.order.model.Order;
+import com.english.api.order.repository.InstructorVoucherRepository;
+import com.english.api.order.repository.InstructorVoucherUsageRepository;
+import com.english.api.support.EmbeddedRedis;
+import com.english.api.user.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VoucherReservationServiceImplTest {
+
+    private static final int LIMIT = 50;
+    private static final int CHECKOUTS = 300;
+
+    private static EmbeddedRedis redis;
+
+    private final InstructorVoucher voucher = InstructorVoucher.builder()
+            .id(UUID.randomUUID())
+            .code("SALE50")
+            .usageLimit(LIMIT)
+            .usagePerUser(1)
+            .usedCount(0)
+            .build();
+
+    // used_count of the voucher row; incrementUsedCount behaves like the conditional UPDATE
+    private final AtomicInteger dbUsedCount = new AtomicInteger();
+
+    private VoucherReservationServiceImpl service;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        dbUsedCount.set(0);
+
+        InstructorVoucherRepository voucherRepository = mock(InstructorVoucherRepository.class);
+        when(voucherRepository.findByCode(voucher.getCode())).thenReturn(Optional.of(voucher));
+        when(voucherRepository.findUsedCountById(voucher.getId())).thenAnswer(invocation -> dbUsedCount.get());
+        when(voucherRepository.incrementUsedCount(voucher.getId())).thenAnswer(invocation -> {
+            int current;
+            do {
+                current = dbUsedCount.get();
+                if (current >= LIMIT) {
+                    return 0;
+                }
+            } while (!dbUsedCount.compareAndSet(current, current + 1));
+            return 1;
+        });
+        InstructorVoucherUsageRepository usageRepository = mock(InstructorVoucherUsageRepository.class);
+        when(usageRepository.countPaidOrdersByVoucherIdAndUserId(any(), any())).thenReturn(0);
+        when(usageRepository.countOtherPaidOrdersByVoucherIdAndUserId(any(), any(), any())).thenReturn(0);
+
+        service = new VoucherReservationServiceImpl(redis.template(), voucherRepository, usageRepository,
+                event -> { }, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "holdTtlMinutes", 30L);
+        ReflectionTestUtils.setField(service, "counterTtlHours", 24L);
+    }
+
+    @Test
+    void parallelCheckoutsNeverPassTheUsageLimit() throws Exception {
+        int paid = countTrue(checkouts(CHECKOUTS), order -> reserveQuietly(order) && service.confirm(order));
+
+        assertThat(paid).isEqualTo(LIMIT);
+        assertThat(dbUsedCount.get()).isEqualTo(LIMIT);
+        assertThat(redisUsedCount()).isEqualTo(LIMIT);
+    }
+
+    @Test
+    void paymentsAfterTheHoldExpiredAreOnlyCountedUnderTheLimit() throws Exception {
+        ReflectionTestUtils.setField(service, "holdTtlMinutes", 0L);
+        List<Order> orders = checkouts(CHECKOUTS);
+        orders.forEach(this::reserveQuietly);
+
+        int paid = countTrue(orders, service::confirm);
+
+        assertThat(paid).isEqualTo(LIMIT);
+        assertThat(dbUsedCount.get()).isEqualTo(LIMIT);
+        assertThat(redisUsedCount()).isEqualTo(LIMIT);
+    }
+
+    @Test
+    void staleCountersAreRaisedToTheDatabaseOnConfirm() throws Exception {
+        ReflectionTestUtils.setField(service, "holdTtlMinutes", 0L);
+        List<Order> orders = checkouts(CHECKOUTS);
+        orders.forEach(this::reserveQuietly);
+        // Uses paid elsewhere while the Redis counter was lost and re-seeded low
+        dbUsedCount.set(LIMIT - 10);
+        redis.template().opsForValue().set(usedKey(), "3");
+
+        int paid = countTrue(orders, service::confirm);
+
+        assertThat(paid).isEqualTo(10);
+        assertThat(dbUsedCount.get()).isEqualTo(LIMIT);
+        assertThat(redisUsedCount()).isEqualTo(LIMIT);
+    }
+
+    private boolean reserveQuietly(Order order) {
+        try {
+            service.reserve(voucher, order.getUser().getId(), order.getId());
+            return true;
+        } catch (ResourceInvalidException e) {
+            return false;
+        }
+    }
+
+    private int countTrue(List<Order> orders, Checkout checkout) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Order order : orders) {
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    return checkout.run(order);
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+            int count = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Order> checkouts(int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.builder()
+                    .id(UUID.randomUUID())
+                    .user(User.builder().id(UUID.randomUUID()).build())
+                    .voucherCode(voucher.getCode())
+                    .totalCents(100_000L)
+                    .build());
+        }
+        return orders;
+    }
+
+    private String usedKey() {
+        return "voucher:{" + voucher.getId() + "}:used";
+    }
+
+    private int redisUsedCount() {
+        return Integer.parseInt(redis.template().opsForValue().get(usedKey()));
+    }
+
+    @FunctionalInterface
+    private interface Checkout {
+        boolean run(Order order);
+    }
+}
@@ -0,0 +1,100 @@
+package com.english.api.support;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An S3 client that accepts object and part uploads, reads their bodies to the end and keeps nothing but the byte
+ * count, so what an upload costs in heap is the caller's and the SDK body's alone.
+ */
+public final class DiscardingS3AsyncClient implements S3AsyncClient {
+
+    private final AtomicLong received = new AtomicLong();
+
+    public long received() {
+        return received.get();
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+        return drain(body).thenApply(length -> PutObjectResponse.builder().eTag("\"etag\"").build());
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(
+            CreateMultipartUploadRequest request) {
+        return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+        return drain(body).thenApply(length ->
+                UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build());
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+            CompleteMultipartUploadRequest request) {
+        return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Chunks arrive on the thread writing the body, as they would be handed to the HTTP client
+    private CompletableFuture<Long> drain(AsyncRequestBody body) {
+        CompletableFuture<Long> done = new CompletableFuture<>();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            private long length;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer chunk) {
+                length += chunk.remaining();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                received.addAndGet(length);
+                done.complete(length);
+            }
+        });
+        return done;
+    }
+}
@@ -0,0 +1,46 @@
+package com.english.api.support;
+
+import com.english.api.order.model.enums.CurrencyType;
+import com.english.api.order.model.enums.OrderStatus;
+import com.english.api.user.model.enums.TransactionType;
+import com.english.api.user.model.enums.WithdrawalStatus;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A throwaway PostgreSQL for repository slices ({@code @AutoConfigureTestDatabase(replace = NONE)}); Hibernate
+ * creates the tables, the enum types they reference are created here first. Postgres refuses to run as root.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedPostgresConfig {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.start();
+    }
+
+    @Bean
+    public DataSource dataSource(EmbeddedPostgres postgres) {
+        DataSource dataSource = postgres.getPostgresDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        createEnumType(jdbc, "order_status", OrderStatus.values());
+        createEnumType(jdbc, "currency_type", CurrencyType.values());
+        createEnumType(jdbc, "transaction_type", TransactionType.values());
+        createEnumType(jdbc, "withdrawal_status", WithdrawalStatus.values());
+        return dataSource;
+    }
+
+    private static void createEnumType(JdbcTemplate jdbc, String name, Enum<?>[] values) {
+        String labels = Arrays.stream(values)
+                .map(value -> "'" + value.name() + "'")
+                .collect(Collectors.joining(", "));
+        jdbc.execute("CREATE TYPE " + name + " AS ENUM (" + labels + ")");
+    }
+}
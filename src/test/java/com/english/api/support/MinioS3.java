@@ -0,0 +1,69 @@
+package com.english.api.support;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A client for the S3-compatible endpoint (typically MinIO) named by {@code MINIO_ENDPOINT}, authenticated with
+ * {@code MINIO_ACCESS_KEY} and {@code MINIO_SECRET_KEY}; {@code MINIO_BUCKET} (default {@code benchmark}) is
+ * created if missing. Benchmarks that need real S3 behaviour run only when the endpoint is set.
+ */
+public final class MinioS3 implements AutoCloseable {
+
+    private final S3AsyncClient client;
+    private final String bucket;
+
+    private MinioS3(S3AsyncClient client, String bucket) {
+        this.client = client;
+        this.bucket = bucket;
+    }
+
+    public static Optional<MinioS3> fromEnvironment() {
+        String endpoint = System.getenv("MINIO_ENDPOINT");
+        if (endpoint == null || endpoint.isBlank()) {
+            return Optional.empty();
+        }
+        S3AsyncClient client = S3AsyncClient.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create(endpoint))
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                        env("MINIO_ACCESS_KEY", "minioadmin"), env("MINIO_SECRET_KEY", "minioadmin"))))
+                .build();
+        String bucket = env("MINIO_BUCKET", "benchmark");
+        try {
+            client.createBucket(r -> r.bucket(bucket)).join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof BucketAlreadyOwnedByYouException)) {
+                client.close();
+                throw e;
+            }
+        }
+        return Optional.of(new MinioS3(client, bucket));
+    }
+
+    public S3AsyncClient client() {
+        return client;
+    }
+
+    public String bucket() {
+        return bucket;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
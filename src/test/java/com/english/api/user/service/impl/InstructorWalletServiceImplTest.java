@@ -0,0 +1,132 @@
+package com.english.api.user.service.impl;
+
+import com.english.api.course.model.Course;
+import com.english.api.order.model.Order;
+import com.english.api.order.model.OrderItem;
+import com.english.api.support.EmbeddedPostgresConfig;
+import com.english.api.user.dto.projection.WalletTotalsProjection;
+import com.english.api.user.model.InstructorBalance;
+import com.english.api.user.model.User;
+import com.english.api.user.repository.InstructorBalanceRepository;
+import com.english.api.user.repository.InstructorTransactionRepository;
+import com.english.api.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmbeddedPostgresConfig.class, InstructorWalletServiceImpl.class})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.platform-fee-percentage=30",
+        "app.wallet.rollup-batch-size=7"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InstructorWalletServiceImplTest {
+
+    private static final int SALES = 200;
+    private static final long PRICE_CENTS = 100_000;
+
+    @Autowired
+    private InstructorWalletServiceImpl walletService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InstructorTransactionRepository transactionRepository;
+
+    @Autowired
+    private InstructorBalanceRepository balanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void concurrentSalesAndRollUpsKeepTheBalanceEqualToTheLedger() throws Exception {
+        User instructor = userRepository.save(User.builder().provider("local").fullName("Instructor").build());
+        Course course = Course.builder().id(UUID.randomUUID()).title("Course").createdBy(instructor).build();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean selling = new AtomicBoolean(true);
+        try {
+            Future<?> rollUps = pool.submit(() -> {
+                start.await();
+                while (selling.get()) {
+                    walletService.rollUpBalances();
+                }
+                return null;
+            });
+            List<Future<?>> sales = new ArrayList<>();
+            for (int i = 0; i < SALES; i++) {
+                Order order = paidOrder(course);
+                sales.add(pool.submit(() -> {
+                    start.await();
+                    walletService.processOrderEarnings(order);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> sale : sales) {
+                sale.get();
+            }
+            selling.set(false);
+            rollUps.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        BigDecimal ledger = jdbc.queryForObject(
+                "SELECT SUM(amount_cents) FROM instructor_transactions WHERE user_id = ?", BigDecimal.class,
+                instructor.getId());
+        BigDecimal expected = BigDecimal.valueOf(PRICE_CENTS * SALES * 70 / 100);
+        assertThat(ledger).isEqualByComparingTo(expected);
+        assertThat(transactionRepository.sumWallet(instructor.getId()).getAvailable()).isEqualByComparingTo(ledger);
+
+        walletService.rollUpBalances();
+
+        InstructorBalance snapshot = balanceRepository.findByUserId(instructor.getId()).orElseThrow();
+        assertThat(snapshot.getAvailableBalanceCents()).isEqualByComparingTo(ledger);
+        assertThat(snapshot.getPendingBalanceCents()).isEqualByComparingTo(BigDecimal.ZERO);
+        WalletTotalsProjection totals = transactionRepository.sumWallet(instructor.getId());
+        assertThat(totals.getAvailable()).isEqualByComparingTo(ledger);
+        assertThat(totals.getPending()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM instructor_transactions WHERE user_id = ? AND rolled_up = FALSE", Integer.class,
+                instructor.getId())).isZero();
+    }
+
+    private static Order paidOrder(Course course) {
+        Order order = Order.builder().id(UUID.randomUUID()).totalCents(PRICE_CENTS).build();
+        order.setItems(List.of(OrderItem.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .course(course)
+                .title(course.getTitle())
+                .quantity(1)
+                .unitPriceCents(PRICE_CENTS)
+                .discountCents(0L)
+                .build()));
+        return order;
+    }
+}